@@ -1,14 +1,19 @@
 package inf112.skeleton.app;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import inf112.skeleton.app.scene.MenuScene;
+import inf112.skeleton.app.scene.LoadingScene;
 import inf112.skeleton.app.util.GameAssets;
+import inf112.skeleton.app.util.GdxSoundPlayer;
+import inf112.skeleton.app.util.MusicManager;
+import inf112.skeleton.app.util.SoundEventQueue;
 
 public class TDGame extends Game {
     private SpriteBatch batch;
     private ShapeRenderer renderer;
+    private SoundEventQueue soundQueue;
 
     @Override
     public void create() {
@@ -16,23 +21,29 @@ public class TDGame extends Game {
         batch = new SpriteBatch();
         renderer = new ShapeRenderer();
 
-        // Load assets
-        GameAssets.instance.init();
+        // Queue assets, they are loaded by the loading screen
+        GameAssets.instance.queueAll();
+        soundQueue = new SoundEventQueue(new GdxSoundPlayer());
+        MusicManager.setSoundPlayer(soundQueue);
 
-        // Start at menu screen, where the user can trigger game start
-        setScreen(new MenuScene(this));
+        // Start at the loading screen, which moves on to the menu when everything is loaded
+        setScreen(new LoadingScene(this));
     }
 
     @Override
     public void render() {
         super.render(); // Let the current screen handle rendering
+        soundQueue.drain(Gdx.graphics.getDeltaTime()); // Play the sounds triggered this frame
+        MusicManager.update(Gdx.graphics.getDeltaTime()); // Move music crossfades forward
     }
 
     @Override
     public void dispose() {
         if (batch != null) batch.dispose();
         if (renderer != null) renderer.dispose();
+        MusicManager.clearMusic();
         GameAssets.instance.dispose();
+        MusicManager.setSoundPlayer(null);
     }
 
 }
@@ -0,0 +1,84 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+
+import java.util.Arrays;
+
+/**
+ * Collects the hits on enemies during a tick, so they can be applied together in one pass at the end of the tick.
+ * Hits are applied in the order they were made, so the result is the same every time.
+ * Enemies are kept by their handles, and a hit on an enemy that is dead or removed by the time
+ * the hits are applied does nothing, so an enemy can only be killed once.
+ */
+public class DamageBuffer {
+
+    private final EnemyHandles enemyHandles;
+    private long[] handles = new long[64];
+    private float[] amounts = new float[64];
+    private int size;
+    private int killed;
+
+    /**
+     * Creates an empty damage buffer.
+     * @param enemyHandles the handle table the hit enemies are looked up in when the hits are applied
+     */
+    public DamageBuffer(EnemyHandles enemyHandles) {
+        this.enemyHandles = enemyHandles;
+    }
+
+    /**
+     * Adds a hit on an enemy.
+     * @param enemy the enemy that was hit
+     * @param damage the amount of health to remove from the enemy
+     */
+    public void add(Enemy enemy, float damage) {
+        if (enemy == null) {
+            return;
+        }
+        if (size == handles.length) {
+            handles = Arrays.copyOf(handles, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+        }
+        handles[size] = enemy.getHandle();
+        amounts[size] = damage;
+        size++;
+    }
+
+    /**
+     * Applies all collected hits and empties the buffer.
+     * @return the number of enemies killed by the hits
+     */
+    public int resolve() {
+        killed = 0;
+        for (int i = 0; i < size; i++) {
+            Enemy enemy = enemyHandles.get(handles[i]);
+            if (enemy != null && enemy.applyDamage(amounts[i])) {
+                killed++;
+            }
+        }
+        size = 0;
+        return killed;
+    }
+
+    /**
+     * Throws away the collected hits without applying them.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the number of hits waiting to be applied
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of enemies killed by the last {@link #resolve}
+     */
+    public int getLastKilled() {
+        return killed;
+    }
+}
@@ -1,8 +1,15 @@
 package inf112.skeleton.app.controller;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.entity.HealthBarRenderer;
+import inf112.skeleton.app.enums.GameEventType;
+import inf112.skeleton.app.enums.RenderLayer;
 import inf112.skeleton.app.level.Level;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.scene.RenderQueue;
+import inf112.skeleton.app.util.EntityPools;
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 
 import java.util.ArrayList;
@@ -11,6 +18,18 @@ import java.util.List;
 public class EnemyController {
 
     private final List<Enemy> enemyList;
+    private final EnemySpatialIndex spatialIndex;
+    private final EnemyPathIndex pathIndex;
+    private final EnemyHealthIndex healthIndex;
+    private final EnemyHandles handles;
+    private final DamageBuffer damage;
+    private final EnemyListStorage listStorage;
+    private PackedEnemyStorage packedEnemies;
+    private final HealthBarRenderer healthBars;
+    private final SpawnScheduler spawns;
+    private final List<WaveStream> waves;
+    private double time;
+    private GameEvents events;
 
     private static EnemyController instance;
 
@@ -20,58 +39,249 @@ public class EnemyController {
     /**
      * Creates a new EnemyController.
      * Used to: add and remove(kill) enemies.
-     * @param level used to check whether zombies has completed the path, and award player for kill
+     * @param level used to create zombies and to check if double speed is active
      */
     public EnemyController(Level level){
         this.level = level;
         this.enemyList = new ArrayList<>();
+        this.spatialIndex = new EnemySpatialIndex();
+        this.pathIndex = new EnemyPathIndex();
+        this.healthIndex = new EnemyHealthIndex();
+        this.handles = new EnemyHandles();
+        this.damage = new DamageBuffer(handles);
+        this.listStorage = new EnemyListStorage(enemyList);
+        this.healthBars = new HealthBarRenderer();
+        this.spawns = new SpawnScheduler(64);
+        this.waves = new ArrayList<>();
     }
 
+    /**
+     * A wave whose zombies are moved to the spawn scheduler as their time comes.
+     */
+    private static class WaveStream {
+        final WaveDecoder decoder;
+        final double start;
+        final float speedMultiplier;
+        final float healthMultiplier;
+
+        WaveStream(WaveDecoder decoder, double start, float speedMultiplier, float healthMultiplier) {
+            this.decoder = decoder;
+            this.start = start;
+            this.speedMultiplier = speedMultiplier;
+            this.healthMultiplier = healthMultiplier;
+        }
+    }
+
+
+    /**
+     * Turns the packed enemy storage on or off.
+     * With packed storage the enemies are kept in primitive arrays instead of the enemy list,
+     * which lets large waves be simulated without creating garbage every tick.
+     * @param packed true to keep the enemies in packed arrays
+     * @throws IllegalStateException if there are enemies on the map
+     */
+    public void setPackedStorage(boolean packed) {
+        if (getEnemyCount() > 0) {
+            throw new IllegalStateException("Enemy storage can only be changed when there are no enemies");
+        }
+        if (packed && packedEnemies == null) {
+            packedEnemies = new PackedEnemyStorage(64, handles);
+            packedEnemies.setPath(level.getMap().getPath());
+        } else if (!packed) {
+            packedEnemies = null;
+        }
+    }
+
+    /**
+     * @return true if the enemies are kept in packed arrays
+     */
+    public boolean isPackedStorage() {
+        return packedEnemies != null;
+    }
 
     /**
-     * Adds a new zombie to the list of zombies that's controlled on the map
+     * Returns the packed storage of the enemies.
+     * @return the packed storage, or null if the enemies are kept in the enemy list
+     */
+    public PackedEnemyStorage getPackedStorage() {
+        return packedEnemies;
+    }
+
+    /**
+     * Adds a new zombie to the list of zombies that's controlled on the map.
+     * With packed storage the values of the zombie are copied, and the object is given back to the enemy pool.
+     * Otherwise the zombie is put in the handle table, and given back to the pool when it is removed.
      * @param zombie the enemy to add
      */
     public void newZombie(Enemy zombie) {
-        enemyList.add(zombie);
+        post(GameEventType.ENEMY_SPAWNED, zombie.getType(), zombie.center.x, zombie.center.y);
+        if (packedEnemies != null) {
+            packedEnemies.add(zombie);
+            EntityPools.ENEMIES.free(zombie);
+        } else {
+            handles.acquire(zombie);
+            enemyList.add(zombie);
+        }
     }
 
     /**
-     * Iterates over the enemies and removes the ones that are either outside the map or killed.
-     * Also rewards the player for the kill.
+     * Schedules the zombies of a wave, starting now. The zombies are read from the decoder as their time comes,
+     * so only the zombies due in the current tick are ever held by the scheduler.
+     * @param decoder gives the zombies of the wave in spawn order
+     * @param speedMultiplier speed multiplier of the zombies, without double speed
+     * @param healthMultiplier health multiplier of the zombies
+     */
+    public void scheduleWave(WaveDecoder decoder, float speedMultiplier, float healthMultiplier) {
+        if (decoder.hasNext()) {
+            waves.add(new WaveStream(decoder, time, speedMultiplier, healthMultiplier));
+        }
+    }
+
+    /**
+     * Moves the zombies of the streamed waves that are due to the spawn scheduler, and forgets finished waves.
+     */
+    private void scheduleDueWaveZombies() {
+        for (int i = waves.size() - 1; i >= 0; i--) {
+            WaveStream wave = waves.get(i);
+            WaveDecoder decoder = wave.decoder;
+            while (decoder.hasNext() && wave.start + decoder.getTime() <= time) {
+                spawns.schedule(wave.start + decoder.getTime(), decoder.getType(), wave.speedMultiplier, wave.healthMultiplier);
+                decoder.advance();
+            }
+            if (!decoder.hasNext()) {
+                waves.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Spawns the scheduled zombies whose time has come.
+     */
+    private void spawnDueZombies() {
+        while (spawns.hasDue(time)) {
+            boolean doubleSpeed = level.isDoubleSpeedActive();
+            float speedMultiplier = spawns.getFirstSpeedMultiplier() * (doubleSpeed ? 2 : 1);
+            newZombie(Enemy.newEnemy(spawns.getFirstType(), level, speedMultiplier, spawns.getFirstHealthMultiplier(), 0, doubleSpeed));
+            spawns.removeFirst();
+        }
+    }
+
+    /**
+     * @return the number of scheduled zombies that have not spawned yet, including the rest of streamed waves
+     */
+    public int getScheduledCount() {
+        long count = spawns.size();
+        for (int i = 0; i < waves.size(); i++) {
+            count += waves.get(i).decoder.getRemaining();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, count);
+    }
+
+    /**
+     * Iterates over the enemies and removes the ones that have completed the path or are killed.
+     * Every removed enemy is posted as a game event, taken out of the handle table and given back to the enemy pool.
      */
     private void removeEnemy() {
-        List<Enemy> shouldRemoved = new ArrayList<>();
-        for (Enemy enemy : enemyList) {
-            if (checkBoundsForEnemy(enemy) && enemy.hasEnteredMap) {
-                shouldRemoved.add(enemy);
-                level.enemyCompletedPath();
+        int kept = 0;
+        for (int i = 0; i < enemyList.size(); i++) {
+            Enemy enemy = enemyList.get(i);
+            boolean remove = false;
+            if (enemy.hasCompletedPath()) {
+                remove = true;
+                post(GameEventType.ENEMY_LEAKED, enemy.getReward(), enemy.center.x, enemy.center.y);
             }
             if (!enemy.isAlive()) {
-                shouldRemoved.add(enemy);
-                level.enemyKilled(enemy.getReward());
+                remove = true;
+                post(GameEventType.ENEMY_KILLED, enemy.getReward(), enemy.center.x, enemy.center.y);
+            }
+            if (remove) {
+                handles.release(enemy.getHandle());
+                EntityPools.ENEMIES.free(enemy);
+            } else {
+                enemyList.set(kept++, enemy);
+            }
+        }
+        while (enemyList.size() > kept) {
+            enemyList.remove(enemyList.size() - 1);
+        }
+    }
+
+    /**
+     * Removes the packed enemies that have completed the path or are killed, and posts every removed enemy as a game event.
+     */
+    private void removePackedEnemies() {
+        for (int slot = packedEnemies.size() - 1; slot >= 0; slot--) {
+            boolean remove = false;
+            if (packedEnemies.hasCompletedPath(slot)) {
+                remove = true;
+                post(GameEventType.ENEMY_LEAKED, packedEnemies.getReward(slot),
+                        packedEnemies.getCenterX(slot), packedEnemies.getCenterY(slot));
+            }
+            if (!packedEnemies.isAlive(slot)) {
+                remove = true;
+                post(GameEventType.ENEMY_KILLED, packedEnemies.getReward(slot),
+                        packedEnemies.getCenterX(slot), packedEnemies.getCenterY(slot));
+            }
+            if (remove) {
+                packedEnemies.remove(slot);
             }
         }
-        enemyList.removeAll(shouldRemoved);
+    }
+
+    private void post(GameEventType type, int value, float x, float y) {
+        if (events != null) {
+            events.post(type, value, x, y);
+        }
+    }
+
+    /**
+     * Sets where the enemy controller posts zombies spawning, dying and leaking.
+     * @param events the game events of the level, or null to post nothing
+     */
+    public void setEvents(GameEvents events) {
+        this.events = events;
     }
 
     /**
-     * Checks if the enemy is out of bounds.
-     * @param enemy we check bounds for.
-     * @return true if enemy is our of bounds.
+     * @return the game events the enemy controller posts to, or null if it posts nothing
      */
-    private boolean checkBoundsForEnemy(Enemy enemy) {
-            return (enemy.position.x + enemy.size.x > GameConstants.SCREEN_WIDTH ||
-                    enemy.position.x - enemy.size.x < 0 ||
-                    enemy.position.y + (enemy.size.y / 2) > GameConstants.SCREEN_HEIGHT - (GameConstants.UI_ROWS_TOP * GameConstants.TILE_HEIGHT) ||
-                    enemy.position.y + (enemy.size.y / 2) < GameConstants.UI_ROWS_BOTTOM * GameConstants.TILE_HEIGHT
-            );
+    public GameEvents getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the handle table of the enemies in the game. Towers and bullets keep handles to their targets
+     * and look them up here, which finds nothing once the enemy has been removed.
+     * @return the handle table of the enemies
+     */
+    public EnemyHandles getEnemyHandles() {
+        return handles;
+    }
+
+    /**
+     * Returns the hits towers made on enemies during the tick, applied by {@link #resolveDamage}.
+     * @return The damage buffer of the enemies.
+     */
+    public DamageBuffer getDamageBuffer() {
+        return damage;
+    }
+
+    /**
+     * Applies all hits made during the tick in one pass.
+     * The killed enemies are removed, and posted as game events, in the next update.
+     * @return the number of enemies killed by the hits
+     */
+    public int resolveDamage() {
+        return damage.resolve();
     }
 
     /**
      * Doubles the speed of all enemies.
      */
     public void doubleSpeedClicked() {
+        if (packedEnemies != null) {
+            packedEnemies.setDoubleSpeed(true);
+        }
         for (Enemy enemy : enemyList) {
             enemy.doubleSpeedClicked();
 
@@ -82,6 +292,9 @@ public class EnemyController {
      * Resets the speed of all enemies to their normal speed.
      */
     public void normalSpeedClicked() {
+        if (packedEnemies != null) {
+            packedEnemies.setDoubleSpeed(false);
+        }
         for (Enemy enemy : enemyList) {
             enemy.normalSpeedClicked();
 
@@ -91,52 +304,167 @@ public class EnemyController {
 
     /**
      * Returns the list of enemies.
+     * The list is empty when the enemies are kept in packed storage.
      * @return The list of enemies.
      */
     public List<Enemy> getEnemyList(){
         return enemyList;
     }
 
+    /**
+     * @return the number of enemies on the map, or waiting to enter it, including scheduled zombies
+     */
+    public int getEnemyCount() {
+        long count = (long) (packedEnemies != null ? packedEnemies.size() : enemyList.size()) + getScheduledCount();
+        return (int) Math.min(Integer.MAX_VALUE, count);
+    }
+
 
     /**
      * Clears the list of enemies.
      */
     public void clearEnemies() {
+        for (Enemy enemy : enemyList) {
+            handles.release(enemy.getHandle());
+            EntityPools.ENEMIES.free(enemy);
+        }
         enemyList.clear();
+        if (packedEnemies != null) {
+            packedEnemies.clear();
+        }
+        spatialIndex.clear();
+        pathIndex.clear();
+        healthIndex.clear();
+        damage.clear();
+        spawns.clear();
+        waves.clear();
+    }
+
+    /**
+     * Returns the spatial index of the enemies, used by towers to find enemies near them.
+     * The index is rebuilt at the end of every update.
+     * @return The spatial index of the enemies.
+     */
+    public EnemySpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * Returns the enemies bucketed by the part of the path they are on, used by towers
+     * to only look at the enemies on the parts of the path they cover.
+     * The index is rebuilt at the end of every update.
+     * @return The path index of the enemies.
+     */
+    public EnemyPathIndex getPathIndex() {
+        return pathIndex;
+    }
+
+    /**
+     * Returns the health bounds of the path index buckets, used by towers
+     * that shoot the strongest or weakest enemy in range.
+     * The index is rebuilt with the path index at the end of every update, and widened when enemies are hit.
+     * @return The health index of the enemies.
+     */
+    public EnemyHealthIndex getHealthIndex() {
+        return healthIndex;
+    }
+
+    /**
+     * Rebuilds the path index and the health index on top of it, if the level has a path.
+     */
+    private void rebuildPathIndex(EnemyStorage storage) {
+        MapPath path = level.getMap() == null ? null : level.getMap().getPath();
+        if (path != null) {
+            pathIndex.rebuild(storage, path);
+            healthIndex.rebuild(storage, pathIndex);
+        }
     }
 
     /**
-     * Updates the state of all enemies and removes any that are out of bounds or killed.
+     * Spawns the scheduled zombies that are due, then updates the state of all enemies
+     * and removes any that have completed the path or are killed.
+     * The spatial, path and health indexes are rebuilt afterwards, so towers updated in the same tick see the new positions.
      * @param elapsedTime The time elapsed since the last update.
      */
     public void update(float elapsedTime) {
-        for (Enemy enemy : enemyList) {
-            if (!checkBoundsForEnemy(enemy) && !enemy.hasEnteredMap) {
-                enemy.enemyEnteredMap();
-            }
-            enemy.update(elapsedTime);
-
+        time += elapsedTime;
+        scheduleDueWaveZombies();
+        spawnDueZombies();
+        if (packedEnemies != null) {
+            updatePacked(elapsedTime);
+            return;
+        }
+        for (int i = 0; i < enemyList.size(); i++) {
+            enemyList.get(i).update(elapsedTime);
         }
         removeEnemy();
+        spatialIndex.rebuild(listStorage);
+        rebuildPathIndex(listStorage);
+    }
+
+    private void updatePacked(float elapsedTime) {
+        packedEnemies.update(elapsedTime);
+        removePackedEnemies();
+        spatialIndex.rebuild(packedEnemies);
+        rebuildPathIndex(packedEnemies);
+    }
+
+    private boolean isPackedEnemyDrawn(int slot) {
+        return packedEnemies.isAlive(slot) && packedEnemies.isSpawned(slot);
+    }
+
+    private float packedX(int slot, float alpha) {
+        return packedEnemies.getPreviousX(slot) + (packedEnemies.getX(slot) - packedEnemies.getPreviousX(slot)) * alpha;
+    }
+
+    private float packedY(int slot, float alpha) {
+        return packedEnemies.getPreviousY(slot) + (packedEnemies.getY(slot) - packedEnemies.getPreviousY(slot)) * alpha;
     }
 
     /**
-     * Renders all enemies.
-     * @param batch The SpriteBatch used for rendering.
+     * Adds all enemies and their health bars to the render queue, between their previous and current position.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick
      */
-    public void render(SpriteBatch batch) {
-        for (Enemy enemy : enemyList) {
-            enemy.render(batch);
+    public void submit(RenderQueue queue, float alpha) {
+        healthBars.clearBarsDrawn();
+        if (packedEnemies != null) {
+            submitPacked(queue, alpha);
+            return;
         }
+        for (int i = 0; i < enemyList.size(); i++) {
+            Enemy enemy = enemyList.get(i);
+            enemy.submit(queue, alpha);
+            enemy.submitHealthBar(queue, healthBars, alpha);
+        }
+    }
+
+    private void submitPacked(RenderQueue queue, float alpha) {
+        for (int slot = 0; slot < packedEnemies.size(); slot++) {
+            if (!isPackedEnemyDrawn(slot)) {
+                continue;
+            }
+            float x = packedX(slot, alpha);
+            float y = packedY(slot, alpha);
+            queue.draw(RenderLayer.ENEMIES, GameAssets.getEnemySprite(packedEnemies.getType(slot)), x, y,
+                    GameConstants.ENEMY_WIDTH, GameConstants.ENEMY_HEIGHT);
+            healthBars.submit(queue, x + 5, y + GameConstants.ENEMY_HEIGHT,
+                    GameConstants.ENEMY_WIDTH - 10, GameConstants.ENEMY_HEIGHT / 10,
+                    packedEnemies.getHealth(slot) / packedEnemies.getStartHealth(slot));
+        }
+    }
+
+    /**
+     * @return number of health bars added to the render queue in the last submit
+     */
+    public int getHealthBarsDrawn() {
+        return healthBars.getBarsDrawn();
     }
 
     /**
-     * Checks if the enemy is out of bounds.
-     * This method is used for testing.
-     * @param enemy The enemy to check bounds for.
-     * @return true if the enemy is out of bounds.
+     * Frees the texture used for the health bars.
      */
-    public boolean boundsPublic(Enemy enemy) {
-        return checkBoundsForEnemy(enemy);
+    public void dispose() {
+        healthBars.dispose();
     }
 }
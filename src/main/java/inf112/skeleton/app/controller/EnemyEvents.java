@@ -1,6 +0,0 @@
-package inf112.skeleton.app.controller;
-
-public interface EnemyEvents {
-    void enemyCompletedPath();
-    void enemyKilled(int reward);
-}
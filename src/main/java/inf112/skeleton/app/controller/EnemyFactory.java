@@ -4,8 +4,15 @@ import inf112.skeleton.app.entity.Enemy;
 import inf112.skeleton.app.level.Level;
 
 public interface EnemyFactory {
+    /**
+     * @return the char of the next zombie type to be spawned.
+     */
+    char getNextType();
+
     /**
      * @return the next zombie type to be spawned.
      */
-    Enemy getNext(Level level, float speedMultiplier, float healthMultiplier, float delay, boolean doubleSpeed);
+    default Enemy getNext(Level level, float speedMultiplier, float healthMultiplier, float delay, boolean doubleSpeed) {
+        return Enemy.newEnemy(getNextType(), level, speedMultiplier, healthMultiplier, delay, doubleSpeed);
+    }
 }
@@ -0,0 +1,160 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.map.PathCoverage;
+
+import java.util.Arrays;
+
+/**
+ * Finds the strongest and weakest enemies in range of a tower, using the segment buckets of the {@link EnemyPathIndex}.
+ * A tower only looks at the buckets on the parts of the path it covers, never at enemies elsewhere on the map.
+ * For every bucket the index keeps the most and the least health of the living enemies in it,
+ * so a bucket that cannot hold a better enemy than the best one found so far is skipped.
+ * The bounds are worked out when the index is rebuilt, right after the path index, and every hit on an enemy
+ * widens the bounds of its bucket when needed, so they always hold.
+ */
+public class EnemyHealthIndex {
+
+    private float[] most = new float[16];
+    private float[] least = new float[16];
+    private EnemyStorage storage;
+    private EnemyPathIndex pathIndex;
+    private int size;
+    private int lastCandidates;
+
+    /**
+     * Works out the health bounds of every bucket, and lets the storage report hits on its enemies to the index.
+     * The path index must just have been rebuilt from the same storage,
+     * and slots in the storage must stay the same until the next rebuild.
+     * @param storage the enemies currently on the map
+     * @param pathIndex the enemies bucketed by the part of the path they are on
+     */
+    public void rebuild(EnemyStorage storage, EnemyPathIndex pathIndex) {
+        this.storage = storage;
+        this.pathIndex = pathIndex;
+        int segments = pathIndex.segmentCount();
+        if (most.length < segments) {
+            most = new float[segments];
+            least = new float[segments];
+        }
+        Arrays.fill(most, 0, segments, -Float.MAX_VALUE);
+        Arrays.fill(least, 0, segments, Float.MAX_VALUE);
+        size = storage.size();
+        for (int slot = 0; slot < size; slot++) {
+            if (storage.isAlive(slot)) {
+                widen(slot);
+            }
+        }
+        storage.setHealthIndex(this);
+    }
+
+    /**
+     * Removes all enemies from the index.
+     */
+    public void clear() {
+        if (storage != null) {
+            storage.setHealthIndex(null);
+        }
+        storage = null;
+        pathIndex = null;
+        size = 0;
+    }
+
+    /**
+     * Widens the health bounds of the bucket of an enemy after its health changed.
+     * @param slot slot of the enemy
+     */
+    public void healthChanged(int slot) {
+        if (slot < 0 || slot >= size) {
+            return;
+        }
+        widen(slot);
+    }
+
+    private void widen(int slot) {
+        float health = storage.getHealth(slot);
+        if (health <= 0) {
+            return;
+        }
+        int segment = pathIndex.segmentOf(slot);
+        most[segment] = Math.max(most[segment], health);
+        least[segment] = Math.min(least[segment], health);
+    }
+
+    /**
+     * Finds the living enemy with the most health within range of a point.
+     * @param point the point to search from, usually the center of a tower
+     * @param range the largest distance an enemy can be from the point
+     * @param coverage the parts of the path within range of the point
+     * @return the strongest enemy within range, or null if there is none
+     */
+    public Enemy findStrongest(Vector2 point, float range, PathCoverage coverage) {
+        return find(point, range, coverage, true);
+    }
+
+    /**
+     * Finds the living enemy with the least health within range of a point.
+     * @param point the point to search from, usually the center of a tower
+     * @param range the largest distance an enemy can be from the point
+     * @param coverage the parts of the path within range of the point
+     * @return the weakest enemy within range, or null if there is none
+     */
+    public Enemy findWeakest(Vector2 point, float range, PathCoverage coverage) {
+        return find(point, range, coverage, false);
+    }
+
+    /**
+     * Visits the enemies in the covered parts of every bucket whose bounds can still beat the best enemy found.
+     * Enemies with the same health are told apart by their slot, so the result does not depend on the order of the buckets.
+     */
+    private Enemy find(Vector2 point, float range, PathCoverage coverage, boolean strongest) {
+        lastCandidates = 0;
+        if (size == 0) {
+            return null;
+        }
+        float rangeSquared = range * range;
+        int bestSlot = -1;
+        float bestHealth = 0;
+        for (int interval = 0; interval < coverage.getIntervalCount(); interval++) {
+            float start = coverage.getStart(interval);
+            float end = coverage.getEnd(interval);
+            int last = pathIndex.lastSegment(end);
+            for (int segment = pathIndex.firstSegment(start); segment <= last; segment++) {
+                if (bestSlot >= 0 && (strongest ? most[segment] < bestHealth : least[segment] > bestHealth)) {
+                    continue;
+                }
+                int bucketEnd = pathIndex.bucketEnd(segment);
+                for (int i = pathIndex.firstAtOrBefore(segment, end); i < bucketEnd && pathIndex.distanceAt(i) >= start; i++) {
+                    lastCandidates++;
+                    if (!pathIndex.isTarget(i, point, rangeSquared)) {
+                        continue;
+                    }
+                    int slot = pathIndex.slotAt(i);
+                    float health = storage.getHealth(slot);
+                    if (bestSlot < 0 || (strongest ? health > bestHealth : health < bestHealth)
+                            || (health == bestHealth && slot < bestSlot)) {
+                        bestSlot = slot;
+                        bestHealth = health;
+                    }
+                }
+            }
+        }
+        return bestSlot < 0 ? null : storage.getEnemy(bestSlot);
+    }
+
+    /**
+     * Used to measure the index.
+     * @return how many enemies the last query had to look at
+     */
+    public int getLastCandidateCount() {
+        return lastCandidates;
+    }
+
+    /**
+     * @return the number of enemies in the index
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,87 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.entity.Enemy;
+
+import java.util.List;
+
+/**
+ * Storage backed by a list of enemy objects, where the slot is the index in the list.
+ */
+public class EnemyListStorage implements EnemyStorage {
+
+    private List<Enemy> enemies;
+
+    /**
+     * Creates a storage reading from the given list.
+     * @param enemies list of enemies
+     */
+    public EnemyListStorage(List<Enemy> enemies) {
+        this.enemies = enemies;
+    }
+
+    /**
+     * Sets the list the storage reads from.
+     * @param enemies list of enemies
+     */
+    public void setEnemies(List<Enemy> enemies) {
+        this.enemies = enemies;
+    }
+
+    @Override
+    public int size() {
+        return enemies.size();
+    }
+
+    @Override
+    public Enemy getEnemy(int slot) {
+        return enemies.get(slot);
+    }
+
+    @Override
+    public boolean isAlive(int slot) {
+        return enemies.get(slot).isAlive();
+    }
+
+    @Override
+    public float getX(int slot) {
+        return enemies.get(slot).position.x;
+    }
+
+    @Override
+    public float getY(int slot) {
+        return enemies.get(slot).position.y;
+    }
+
+    @Override
+    public float getCenterX(int slot) {
+        return enemies.get(slot).center.x;
+    }
+
+    @Override
+    public float getCenterY(int slot) {
+        return enemies.get(slot).center.y;
+    }
+
+    @Override
+    public float getHalfSize(int slot) {
+        Enemy enemy = enemies.get(slot);
+        return Math.max(enemy.size.x, enemy.size.y) / 2;
+    }
+
+    @Override
+    public float getDistance(int slot) {
+        return enemies.get(slot).getDistance();
+    }
+
+    @Override
+    public float getHealth(int slot) {
+        return enemies.get(slot).getEnemyHealth();
+    }
+
+    @Override
+    public void setHealthIndex(EnemyHealthIndex healthIndex) {
+        for (int slot = 0; slot < enemies.size(); slot++) {
+            enemies.get(slot).setHealthIndex(healthIndex, slot);
+        }
+    }
+}
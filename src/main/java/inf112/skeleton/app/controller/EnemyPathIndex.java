@@ -0,0 +1,323 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.map.PathCoverage;
+
+import java.util.Arrays;
+
+/**
+ * Buckets the enemies by the segment of the path they are on, ordered by distance along the path.
+ * Together with the {@link PathCoverage} of a tower, a query only looks at the enemies on the parts
+ * of the path within range of the tower, however large the range is and however many enemies there are.
+ * The index is rebuilt from the enemies once per tick and reuses its arrays between ticks.
+ */
+public class EnemyPathIndex {
+
+    private int[] segmentStart = new int[2];
+    private int[] segmentFill = new int[1];
+    private int[] enemySegment = new int[64];
+    private int[] slots = new int[64];
+    private float[] distance = new float[64];
+    private float[] positionX = new float[64];
+    private float[] positionY = new float[64];
+    private EnemyStorage storage;
+    private MapPath path;
+    private int size;
+    private int lastCandidates;
+
+    /**
+     * Rebuilds the index from the given storage.
+     * Runs in linear time when the enemies on each segment are close to the order they walk in,
+     * and does not allocate once the arrays have grown to fit the enemies and the path.
+     * Slots in the storage must stay the same until the next rebuild.
+     * @param storage the enemies currently on the map
+     * @param path the path the enemies walk along
+     */
+    public void rebuild(EnemyStorage storage, MapPath path) {
+        this.storage = storage;
+        this.path = path;
+        int count = storage.size();
+        int segments = Math.max(1, path.getSegmentCount());
+        if (segmentFill.length < segments) {
+            segmentFill = new int[segments];
+            segmentStart = new int[segments + 1];
+        }
+        if (slots.length < count) {
+            int capacity = Math.max(count, slots.length * 2);
+            enemySegment = new int[capacity];
+            slots = new int[capacity];
+            distance = new float[capacity];
+            positionX = new float[capacity];
+            positionY = new float[capacity];
+        }
+        Arrays.fill(segmentFill, 0, segments, 0);
+
+        for (int slot = 0; slot < count; slot++) {
+            int segment = Math.min(path.segmentAt(storage.getDistance(slot)), segments - 1);
+            enemySegment[slot] = segment;
+            segmentFill[segment]++;
+        }
+        segmentStart[0] = 0;
+        for (int segment = 0; segment < segments; segment++) {
+            segmentStart[segment + 1] = segmentStart[segment] + segmentFill[segment];
+            segmentFill[segment] = segmentStart[segment];
+        }
+        for (int slot = 0; slot < count; slot++) {
+            int i = segmentFill[enemySegment[slot]]++;
+            slots[i] = slot;
+            distance[i] = storage.getDistance(slot);
+            positionX[i] = storage.getX(slot);
+            positionY[i] = storage.getY(slot);
+        }
+        for (int segment = 0; segment < segments; segment++) {
+            sortByDistance(segmentStart[segment], segmentStart[segment + 1]);
+        }
+        size = count;
+    }
+
+    /**
+     * Insertion sort of one bucket, furthest along the path first and by slot when the distance is the same.
+     * Enemies are added in the order they spawn, so the buckets are almost sorted already.
+     */
+    private void sortByDistance(int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int slot = slots[i];
+            float d = distance[i];
+            float px = positionX[i];
+            float py = positionY[i];
+            int j = i - 1;
+            while (j >= from && (distance[j] < d || (distance[j] == d && slots[j] > slot))) {
+                slots[j + 1] = slots[j];
+                distance[j + 1] = distance[j];
+                positionX[j + 1] = positionX[j];
+                positionY[j + 1] = positionY[j];
+                j--;
+            }
+            slots[j + 1] = slot;
+            distance[j + 1] = d;
+            positionX[j + 1] = px;
+            positionY[j + 1] = py;
+        }
+    }
+
+    /**
+     * Removes all enemies from the index.
+     */
+    public void clear() {
+        storage = null;
+        size = 0;
+        Arrays.fill(segmentStart, 0);
+    }
+
+    /**
+     * Finds the living enemy closest to a point, measured to the enemy's position like towers always have.
+     * Only the enemies inside the coverage are looked at.
+     * @param point the point to search from, usually the center of a tower
+     * @param range the largest distance an enemy can be from the point
+     * @param coverage the parts of the path within range of the point
+     * @return the closest enemy within range, or null if there is none
+     */
+    public Enemy findClosest(Vector2 point, float range, PathCoverage coverage) {
+        lastCandidates = 0;
+        if (size == 0) {
+            return null;
+        }
+        float rangeSquared = range * range;
+        int closestSlot = -1;
+        float closestDistance = Float.MAX_VALUE;
+        for (int interval = 0; interval < coverage.getIntervalCount(); interval++) {
+            float start = coverage.getStart(interval);
+            float end = coverage.getEnd(interval);
+            int last = lastSegment(end);
+            for (int segment = firstSegment(start); segment <= last; segment++) {
+                for (int i = firstAtOrBefore(segment, end); i < segmentStart[segment + 1] && distance[i] >= start; i++) {
+                    lastCandidates++;
+                    float d = point.dst2(positionX[i], positionY[i]);
+                    if (d > rangeSquared || !storage.isAlive(slots[i])) {
+                        continue;
+                    }
+                    if (d < closestDistance || (d == closestDistance && slots[i] < closestSlot)) {
+                        closestSlot = slots[i];
+                        closestDistance = d;
+                    }
+                }
+            }
+        }
+        return closestSlot < 0 ? null : storage.getEnemy(closestSlot);
+    }
+
+    /**
+     * Finds the living enemy within range that has walked the furthest along the path.
+     * Only the enemies inside the coverage are looked at, starting from the end of the path,
+     * so the search stops at the first enemy that is alive and close enough.
+     * @param point the point to search from, usually the center of a tower
+     * @param range the largest distance an enemy can be from the point
+     * @param coverage the parts of the path within range of the point
+     * @return the first enemy within range, or null if there is none
+     */
+    public Enemy findFirst(Vector2 point, float range, PathCoverage coverage) {
+        lastCandidates = 0;
+        if (size == 0) {
+            return null;
+        }
+        float rangeSquared = range * range;
+        for (int interval = coverage.getIntervalCount() - 1; interval >= 0; interval--) {
+            float start = coverage.getStart(interval);
+            float end = coverage.getEnd(interval);
+            int first = firstSegment(start);
+            for (int segment = lastSegment(end); segment >= first; segment--) {
+                for (int i = firstAtOrBefore(segment, end); i < segmentStart[segment + 1] && distance[i] >= start; i++) {
+                    lastCandidates++;
+                    if (isTarget(i, point, rangeSquared)) {
+                        return storage.getEnemy(slots[i]);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the living enemy within range that has walked the shortest way along the path.
+     * Only the enemies inside the coverage are looked at, starting from the start of the path,
+     * so the search stops at the first enemy that is alive and close enough.
+     * @param point the point to search from, usually the center of a tower
+     * @param range the largest distance an enemy can be from the point
+     * @param coverage the parts of the path within range of the point
+     * @return the last enemy within range, or null if there is none
+     */
+    public Enemy findLast(Vector2 point, float range, PathCoverage coverage) {
+        lastCandidates = 0;
+        if (size == 0) {
+            return null;
+        }
+        float rangeSquared = range * range;
+        for (int interval = 0; interval < coverage.getIntervalCount(); interval++) {
+            float start = coverage.getStart(interval);
+            float end = coverage.getEnd(interval);
+            int last = lastSegment(end);
+            for (int segment = firstSegment(start); segment <= last; segment++) {
+                for (int i = firstBefore(segment, start) - 1; i >= segmentStart[segment] && distance[i] <= end; i--) {
+                    lastCandidates++;
+                    if (isTarget(i, point, rangeSquared)) {
+                        return storage.getEnemy(slots[i]);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the enemy at the given place in the buckets is alive and within range of the point
+     */
+    boolean isTarget(int i, Vector2 point, float rangeSquared) {
+        return point.dst2(positionX[i], positionY[i]) <= rangeSquared && storage.isAlive(slots[i]);
+    }
+
+    /**
+     * @return the first segment a coverage interval starting at the given distance reaches
+     */
+    int firstSegment(float distance) {
+        return Math.min(path.segmentAt(Math.max(0, distance)), segmentCount() - 1);
+    }
+
+    /**
+     * @return the last segment a coverage interval ending at the given distance reaches
+     */
+    int lastSegment(float distance) {
+        return Math.min(path.segmentAt(distance), segmentCount() - 1);
+    }
+
+    /**
+     * @return the number of buckets, one for every segment of the path
+     */
+    int segmentCount() {
+        return Math.max(1, path.getSegmentCount());
+    }
+
+    /**
+     * @param slot slot of an enemy in the storage
+     * @return the segment the enemy was on when the index was rebuilt
+     */
+    int segmentOf(int slot) {
+        return enemySegment[slot];
+    }
+
+    /**
+     * @param segment a segment of the path
+     * @return the place after the last enemy in the bucket of the segment
+     */
+    int bucketEnd(int segment) {
+        return segmentStart[segment + 1];
+    }
+
+    /**
+     * @param i place in the buckets
+     * @return slot of the enemy at the place
+     */
+    int slotAt(int i) {
+        return slots[i];
+    }
+
+    /**
+     * @param i place in the buckets
+     * @return distance along the path of the enemy at the place
+     */
+    float distanceAt(int i) {
+        return distance[i];
+    }
+
+    /**
+     * Binary search in the bucket of a segment, which is ordered furthest along first.
+     * @return the first index in the bucket with a distance no larger than the given distance
+     */
+    int firstAtOrBefore(int segment, float maxDistance) {
+        int low = segmentStart[segment];
+        int high = segmentStart[segment + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (distance[middle] > maxDistance) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary search in the bucket of a segment, which is ordered furthest along first.
+     * @return the first index in the bucket with a distance smaller than the given distance
+     */
+    private int firstBefore(int segment, float minDistance) {
+        int low = segmentStart[segment];
+        int high = segmentStart[segment + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (distance[middle] >= minDistance) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Used to measure the index.
+     * @return how many enemies the last query had to look at
+     */
+    public int getLastCandidateCount() {
+        return lastCandidates;
+    }
+
+    /**
+     * @return the number of enemies in the index
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,215 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.util.GameConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid over the screen that buckets enemies by the cell their center is in.
+ * The coordinates are copied into the index when it is built, so a query reads them from a few arrays.
+ * Range queries only look at the cells overlapping the query circle, so the cost of a query
+ * depends on how many enemies are close to it, not on how many enemies there are in total.
+ * The index is rebuilt from the enemies once per tick and reuses its arrays between ticks.
+ */
+public class EnemySpatialIndex {
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private int[] enemyCell = new int[64];
+    private int[] slots = new int[64];
+    private float[] positionX = new float[64];
+    private float[] positionY = new float[64];
+    private float[] centerX = new float[64];
+    private float[] centerY = new float[64];
+    private final EnemyListStorage listStorage = new EnemyListStorage(null);
+    private EnemyStorage storage;
+    private int size;
+    private float maxHalfExtent;
+    private int lastCandidates;
+
+    /**
+     * Creates an index covering the screen, with cells the size of the default tower range.
+     */
+    public EnemySpatialIndex() {
+        this(GameConstants.TOWER_RANGE, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+    }
+
+    /**
+     * Creates an index covering the area from (0, 0) to (width, height).
+     * Enemies outside the area are put in the closest edge cell, so they can still be found.
+     * @param cellSize width and height of one cell
+     * @param width width of the indexed area
+     * @param height height of the indexed area
+     */
+    public EnemySpatialIndex(float cellSize, float width, float height) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive, was: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellStart = new int[columns * rows + 1];
+        this.cellFill = new int[columns * rows];
+    }
+
+    /**
+     * Rebuilds the index from the given enemies.
+     * @param enemies the enemies currently on the map
+     */
+    public void rebuild(List<Enemy> enemies) {
+        listStorage.setEnemies(enemies);
+        rebuild(listStorage);
+    }
+
+    /**
+     * Rebuilds the index from the given storage.
+     * Runs in linear time and does not allocate once the arrays have grown to fit the enemies.
+     * Slots in the storage must stay the same until the next rebuild.
+     * @param storage the enemies currently on the map
+     */
+    public void rebuild(EnemyStorage storage) {
+        this.storage = storage;
+        int count = storage.size();
+        if (slots.length < count) {
+            int capacity = Math.max(count, slots.length * 2);
+            enemyCell = new int[capacity];
+            slots = new int[capacity];
+            positionX = new float[capacity];
+            positionY = new float[capacity];
+            centerX = new float[capacity];
+            centerY = new float[capacity];
+        }
+        Arrays.fill(cellFill, 0);
+        maxHalfExtent = 0;
+
+        for (int slot = 0; slot < count; slot++) {
+            int cell = cellIndex(column(storage.getCenterX(slot)), row(storage.getCenterY(slot)));
+            enemyCell[slot] = cell;
+            cellFill[cell]++;
+            maxHalfExtent = Math.max(maxHalfExtent, storage.getHalfSize(slot));
+        }
+
+        cellStart[0] = 0;
+        for (int cell = 0; cell < cellFill.length; cell++) {
+            cellStart[cell + 1] = cellStart[cell] + cellFill[cell];
+            cellFill[cell] = cellStart[cell];
+        }
+        for (int slot = 0; slot < count; slot++) {
+            int i = cellFill[enemyCell[slot]]++;
+            slots[i] = slot;
+            positionX[i] = storage.getX(slot);
+            positionY[i] = storage.getY(slot);
+            centerX[i] = storage.getCenterX(slot);
+            centerY[i] = storage.getCenterY(slot);
+        }
+        size = count;
+    }
+
+    /**
+     * Removes all enemies from the index.
+     */
+    public void clear() {
+        Arrays.fill(cellStart, 0);
+        storage = null;
+        size = 0;
+    }
+
+    /**
+     * Finds the living enemy closest to a point, measured to the enemy's position like towers always have.
+     * @param point the point to search from, usually the center of a tower
+     * @param range the largest distance an enemy can be from the point
+     * @return the closest enemy within range, or null if there is none
+     */
+    public Enemy findClosest(Vector2 point, float range) {
+        lastCandidates = 0;
+        float reach = range + 2 * maxHalfExtent;
+        int minColumn = column(point.x - reach);
+        int maxColumn = column(point.x + reach);
+        int minRow = row(point.y - reach);
+        int maxRow = row(point.y + reach);
+
+        int closestSlot = -1;
+        float rangeSquared = range * range;
+        float closestDistance = Float.MAX_VALUE;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    lastCandidates++;
+                    float distance = point.dst2(positionX[i], positionY[i]);
+                    if (distance <= rangeSquared && distance < closestDistance && storage.isAlive(slots[i])) {
+                        closestSlot = slots[i];
+                        closestDistance = distance;
+                    }
+                }
+            }
+        }
+        return closestSlot < 0 ? null : storage.getEnemy(closestSlot);
+    }
+
+    /**
+     * Collects the living enemies whose center is within a radius of a point.
+     * @param point center of the circle
+     * @param radius radius of the circle
+     * @param result list the enemies are added to, it is cleared first
+     * @return the number of enemies found
+     */
+    public int findInRadius(Vector2 point, float radius, List<Enemy> result) {
+        result.clear();
+        lastCandidates = 0;
+        int minColumn = column(point.x - radius);
+        int maxColumn = column(point.x + radius);
+        int minRow = row(point.y - radius);
+        int maxRow = row(point.y + radius);
+
+        float radiusSquared = radius * radius;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    lastCandidates++;
+                    if (point.dst2(centerX[i], centerY[i]) <= radiusSquared && storage.isAlive(slots[i])) {
+                        result.add(storage.getEnemy(slots[i]));
+                    }
+                }
+            }
+        }
+        return result.size();
+    }
+
+    /**
+     * Used to measure the index.
+     * @return how many enemies the last query had to look at
+     */
+    public int getLastCandidateCount() {
+        return lastCandidates;
+    }
+
+    /**
+     * @return the number of enemies in the index
+     */
+    public int size() {
+        return size;
+    }
+
+    private int column(float x) {
+        int column = (int) Math.floor(x / cellSize);
+        return Math.min(Math.max(column, 0), columns - 1);
+    }
+
+    private int row(float y) {
+        int row = (int) Math.floor(y / cellSize);
+        return Math.min(Math.max(row, 0), rows - 1);
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+}
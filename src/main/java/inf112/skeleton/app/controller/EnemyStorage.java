@@ -0,0 +1,76 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.entity.Enemy;
+
+/**
+ * Read access to the enemies on the map, by slot number from 0 to size() - 1.
+ * Lets the spatial index work the same way whether the enemies are kept as objects or in packed arrays.
+ * Slots are only stable until enemies are removed.
+ */
+public interface EnemyStorage {
+
+    /**
+     * @return the number of enemies stored
+     */
+    int size();
+
+    /**
+     * @param slot slot of the enemy
+     * @return the enemy in the slot, as an object towers and bullets can hold on to
+     */
+    Enemy getEnemy(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return true if the enemy in the slot is alive
+     */
+    boolean isAlive(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return x-coordinate of the bottom left corner of the enemy
+     */
+    float getX(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return y-coordinate of the bottom left corner of the enemy
+     */
+    float getY(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return x-coordinate of the center of the enemy
+     */
+    float getCenterX(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return y-coordinate of the center of the enemy
+     */
+    float getCenterY(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return half the largest side of the enemy
+     */
+    float getHalfSize(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return how far along the path the enemy has walked
+     */
+    float getDistance(int slot);
+
+    /**
+     * @param slot slot of the enemy
+     * @return health the enemy has left
+     */
+    float getHealth(int slot);
+
+    /**
+     * Sets the health index that is told when an enemy is hit, so it can keep its order.
+     * @param healthIndex the health index built from this storage, or null to stop telling it
+     */
+    void setHealthIndex(EnemyHealthIndex healthIndex);
+}
@@ -0,0 +1,134 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.Disposable;
+import inf112.skeleton.app.enums.RenderLayer;
+import inf112.skeleton.app.scene.RenderQueue;
+import inf112.skeleton.app.util.EntityPools;
+import inf112.skeleton.app.util.GameConstants;
+import inf112.skeleton.app.util.MoneyPopup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the popups floating over the game, like money going in and out and the start of a new wave.
+ * All popups are drawn with one shared font, and are moved by the game ticks, not the frame time.
+ * Money shown at the same place within {@link GameConstants#POPUP_MERGE_TIME} seconds is added to
+ * the same popup, so many enemies killed at once give one "+$N" popup instead of one popup each.
+ */
+public class FloatingTextController implements Disposable {
+
+    private final List<MoneyPopup> popups = new ArrayList<>();
+    private BitmapFont font;
+
+    /**
+     * Shows an amount of money, merged into a recent popup showing the same kind of money at the same place.
+     * @param prefix text in front of the amount, like "+$"
+     * @param amount the amount of money
+     * @param x coordinate
+     * @param y coordinate
+     * @param color color of the text
+     */
+    public void addMoney(String prefix, int amount, float x, float y, Color color) {
+        for (int i = popups.size() - 1; i >= 0; i--) {
+            MoneyPopup popup = popups.get(i);
+            if (popup.getAge() > GameConstants.POPUP_MERGE_TIME) {
+                // Popups are kept in the order they were created, so the rest are even older
+                break;
+            }
+            if (popup.showsMoney(prefix, x, y, color)) {
+                popup.addAmount(amount);
+                return;
+            }
+        }
+        popups.add(MoneyPopup.obtain(prefix, amount, x, y, color, GameConstants.POPUP_TIME));
+    }
+
+    /**
+     * Shows a text.
+     * @param text text to be displayed
+     * @param x coordinate
+     * @param y coordinate
+     * @param color color of the text
+     */
+    public void addText(String text, float x, float y, Color color) {
+        popups.add(MoneyPopup.obtain(text, x, y, color, GameConstants.POPUP_TIME));
+    }
+
+    /**
+     * Shows a text followed by a number. The number is written into the popup, so no string is created for it.
+     * @param text text in front of the number
+     * @param number the number to show
+     * @param x coordinate
+     * @param y coordinate
+     * @param color color of the text
+     */
+    public void addText(String text, int number, float x, float y, Color color) {
+        MoneyPopup popup = MoneyPopup.obtain(text, x, y, color, GameConstants.POPUP_TIME);
+        popup.appendNumber(number);
+        popups.add(popup);
+    }
+
+    /**
+     * Moves the popups and removes the ones whose time is up, giving them back to the popup pool.
+     * @param elapsedTime length of the tick in seconds
+     */
+    public void update(float elapsedTime) {
+        for (int i = popups.size() - 1; i >= 0; i--) {
+            MoneyPopup popup = popups.get(i);
+            if (popup.update(elapsedTime)) {
+                popups.remove(i);
+                EntityPools.MONEY_POPUPS.free(popup);
+            }
+        }
+    }
+
+    /**
+     * Adds all popups to the render queue.
+     * @param queue the render queue of the frame
+     */
+    public void submit(RenderQueue queue) {
+        for (int i = 0; i < popups.size(); i++) {
+            popups.get(i).submit(queue, RenderLayer.POPUPS, getFont());
+        }
+    }
+
+    private BitmapFont getFont() {
+        if (font == null) {
+            // Created on first draw, so popups can be made without a graphics backend
+            font = new BitmapFont();
+            font.getData().setScale(1.5f);
+        }
+        return font;
+    }
+
+    /**
+     * Removes all popups, giving them back to the popup pool.
+     */
+    public void clear() {
+        for (int i = 0; i < popups.size(); i++) {
+            EntityPools.MONEY_POPUPS.free(popups.get(i));
+        }
+        popups.clear();
+    }
+
+    /**
+     * @return the popups on the screen, in the order they were created. Should only be read.
+     */
+    public List<MoneyPopup> getPopups() {
+        return popups;
+    }
+
+    /**
+     * Frees the shared font. It is created again if popups are drawn afterwards.
+     */
+    @Override
+    public void dispose() {
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
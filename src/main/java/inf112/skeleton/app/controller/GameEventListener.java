@@ -0,0 +1,14 @@
+package inf112.skeleton.app.controller;
+
+/**
+ * Something that reacts to the events of a tick, such as the economy, the score or the sounds.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called once at the end of every tick with all events posted since the last time.
+     * The events are only valid during the call.
+     * @param events the events of the tick, read with {@link GameEvents#getType} and the other getters from 0 to size() - 1
+     */
+    void onEvents(GameEvents events);
+}
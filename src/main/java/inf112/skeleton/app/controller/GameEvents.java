@@ -0,0 +1,219 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.enums.GameEventType;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of the events that happen during a tick: zombies spawning, dying and leaking, towers firing and being built,
+ * and waves starting. Controllers post events while they update, without knowing who listens.
+ * At the end of the tick {@link #drain} hands all events to every listener in one call, and empties the buffer.
+ * Events are kept in primitive arrays, so posting and draining creates no garbage.
+ */
+public class GameEvents {
+
+    private static final int TYPE_COUNT = GameEventType.values().length;
+
+    private GameEventType[] types;
+    private int[] values;
+    private float[] x;
+    private float[] y;
+    private int head;
+    private int size;
+    private int mask;
+    private int batch;
+    private boolean draining;
+    private final long[] totals = new long[TYPE_COUNT];
+    private GameEventListener[] listeners = new GameEventListener[4];
+    private int listenerCount;
+
+    /**
+     * Creates an empty buffer with room for a few events. It grows when needed.
+     */
+    public GameEvents() {
+        this(64);
+    }
+
+    /**
+     * Creates an empty buffer.
+     * @param capacity number of events there is room for before the buffer has to grow, rounded up to a power of two
+     */
+    public GameEvents(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        int rounded = Integer.highestOneBit(capacity);
+        if (rounded < capacity) {
+            rounded <<= 1;
+        }
+        types = new GameEventType[rounded];
+        values = new int[rounded];
+        x = new float[rounded];
+        y = new float[rounded];
+        mask = rounded - 1;
+    }
+
+    /**
+     * Adds a listener that is given the events at the end of every tick.
+     * Listeners are called in the order they were added.
+     * @param listener the listener to add
+     */
+    public void addListener(GameEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null.");
+        }
+        if (listenerCount == listeners.length) {
+            listeners = Arrays.copyOf(listeners, listenerCount * 2);
+        }
+        listeners[listenerCount++] = listener;
+    }
+
+    /**
+     * Removes a listener.
+     * @param listener the listener to remove
+     */
+    public void removeListener(GameEventListener listener) {
+        for (int i = 0; i < listenerCount; i++) {
+            if (listeners[i] == listener) {
+                System.arraycopy(listeners, i + 1, listeners, i, listenerCount - i - 1);
+                listeners[--listenerCount] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds an event to the end of the buffer.
+     * @param type what happened
+     * @param value a number telling more about the event, see {@link GameEventType}
+     * @param x x-coordinate of where it happened
+     * @param y y-coordinate of where it happened
+     */
+    public void post(GameEventType type, int value, float x, float y) {
+        if (size == types.length) {
+            grow();
+        }
+        int index = (head + size) & mask;
+        types[index] = type;
+        values[index] = value;
+        this.x[index] = x;
+        this.y[index] = y;
+        size++;
+        totals[type.ordinal()]++;
+    }
+
+    /**
+     * Doubles the room in the buffer, and moves the events so the oldest is first.
+     */
+    private void grow() {
+        int capacity = types.length * 2;
+        types = unwrap(types, capacity);
+        values = unwrap(values, capacity);
+        x = unwrap(x, capacity);
+        y = unwrap(y, capacity);
+        head = 0;
+        mask = capacity - 1;
+    }
+
+    private GameEventType[] unwrap(GameEventType[] array, int capacity) {
+        GameEventType[] result = new GameEventType[capacity];
+        int first = array.length - head;
+        System.arraycopy(array, head, result, 0, first);
+        System.arraycopy(array, 0, result, first, head);
+        return result;
+    }
+
+    private int[] unwrap(int[] array, int capacity) {
+        int[] result = new int[capacity];
+        int first = array.length - head;
+        System.arraycopy(array, head, result, 0, first);
+        System.arraycopy(array, 0, result, first, head);
+        return result;
+    }
+
+    private float[] unwrap(float[] array, int capacity) {
+        float[] result = new float[capacity];
+        int first = array.length - head;
+        System.arraycopy(array, head, result, 0, first);
+        System.arraycopy(array, 0, result, first, head);
+        return result;
+    }
+
+    /**
+     * Gives all events in the buffer to every listener, and empties the buffer.
+     * Events posted by a listener while it is called are kept for the next drain.
+     */
+    public void drain() {
+        int count = size;
+        if (count == 0) {
+            return;
+        }
+        batch = count;
+        draining = true;
+        for (int i = 0; i < listenerCount; i++) {
+            listeners[i].onEvents(this);
+        }
+        draining = false;
+        head = (head + count) & mask;
+        size -= count;
+    }
+
+    /**
+     * Throws away the events in the buffer without giving them to the listeners.
+     */
+    public void clear() {
+        if (draining) {
+            throw new IllegalStateException("Cannot clear the events while they are drained.");
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * @return number of events in the buffer, or while draining, the number of events given to the listeners
+     */
+    public int size() {
+        return draining ? batch : size;
+    }
+
+    /**
+     * @param i number of the event, from 0 for the oldest to size() - 1
+     * @return what happened
+     */
+    public GameEventType getType(int i) {
+        return types[(head + i) & mask];
+    }
+
+    /**
+     * @param i number of the event, from 0 for the oldest to size() - 1
+     * @return the value of the event, see {@link GameEventType}
+     */
+    public int getValue(int i) {
+        return values[(head + i) & mask];
+    }
+
+    /**
+     * @param i number of the event, from 0 for the oldest to size() - 1
+     * @return x-coordinate of where the event happened
+     */
+    public float getX(int i) {
+        return x[(head + i) & mask];
+    }
+
+    /**
+     * @param i number of the event, from 0 for the oldest to size() - 1
+     * @return y-coordinate of where the event happened
+     */
+    public float getY(int i) {
+        return y[(head + i) & mask];
+    }
+
+    /**
+     * Returns how many events of a type have been posted since the buffer was created, drained or not.
+     * @param type the type of event to count
+     * @return number of posted events of the type
+     */
+    public long getTotal(GameEventType type) {
+        return totals[type.ordinal()];
+    }
+}
@@ -17,6 +17,7 @@ public class MouseController implements InputProcessor {
 
     private final Level level;
     private final EnemyController enemyController;
+    private final Vector3 worldCoordinates = new Vector3();
 
     public MouseController(TowerController towerController, EnemyController enemyController, Level level) {
         this.towerController = towerController;
@@ -32,7 +33,7 @@ public class MouseController implements InputProcessor {
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
 
         if (button == Input.Buttons.LEFT && towerController.isTowerSelected()) {
-            Vector3 worldCoordinates = new Vector3(screenX, screenY, 0);
+            worldCoordinates.set(screenX, screenY, 0);
             getCameraManager().getCamera().unproject(worldCoordinates);
 
             List<Enemy> currentEnemies = this.enemyController.getEnemyList();
@@ -44,15 +45,13 @@ public class MouseController implements InputProcessor {
             }
 
         } else if (button == Input.Buttons.LEFT && !towerController.isTowerSelected()) {
-            for (BaseDefender defender : towerController.getDefenderList()) {
-                if (defender.getBoundingRectangle().contains(screenX, GameConstants.SCREEN_HEIGHT - screenY)) {
-                    towerController.setSelectedTowerUpgrade(defender);
-                    return true;
-                } else {
-                    towerController.clearSelectedTower();
-                    towerController.clearSelectedDefenderUpgrade();
-                }
+            BaseDefender defender = towerController.getTowerAt(screenX, GameConstants.SCREEN_HEIGHT - screenY);
+            if (defender != null) {
+                towerController.setSelectedTowerUpgrade(defender);
+                return true;
             }
+            towerController.clearSelectedTower();
+            towerController.clearSelectedDefenderUpgrade();
         }
         return false;
     }
@@ -96,10 +95,17 @@ public class MouseController implements InputProcessor {
         return false;
     }
     /**
-     * Not in use yet, but might come in handy later.
+     * Calls the next wave early when N is pressed, and changes the targeting mode of the selected tower when T is pressed.
      */
     @Override
     public boolean keyDown(int i) {
+        if (i == Input.Keys.N) {
+            level.callNextWave();
+            return true;
+        }
+        if (i == Input.Keys.T) {
+            return towerController.cycleTargetingMode();
+        }
         return false;
     }
     /**
@@ -0,0 +1,423 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.util.GameConstants;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/**
+ * Keeps enemies in parallel primitive arrays instead of one object per enemy.
+ * Moving and damaging enemies are loops over a few arrays, and removing an enemy moves the last
+ * enemy into its slot, so the arrays stay packed. All enemies have the regular enemy size and
+ * follow the same path.
+ * An {@link Enemy} object is only created for an enemy when something, like a tower, asks for one.
+ * Those objects are kept when their enemy is removed, and reused for the next enemy that needs one.
+ * They are put in the {@link EnemyHandles} table while they follow an enemy, so bullets can follow them.
+ */
+public class PackedEnemyStorage implements EnemyStorage {
+
+    private static final float HALF_WIDTH = GameConstants.ENEMY_WIDTH / 2;
+    private static final float HALF_HEIGHT = GameConstants.ENEMY_HEIGHT / 2;
+
+    private MapPath path = new MapPath(GameConstants.START_POS, new LinkedList<>());
+
+    private float[] x;
+    private float[] y;
+    private float[] previousX;
+    private float[] previousY;
+    private float[] distance;
+    private int[] segment;
+    private float[] speed;
+    private float[] health;
+    private float[] startHealth;
+    private EnemyHealthIndex healthIndex;
+    private float[] timeAlive;
+    private float[] spawnDelay;
+    private int[] reward;
+    private char[] type;
+    private boolean[] alive;
+    private boolean[] doubleSpeed;
+    private final EnemyHandles enemyHandles;
+    private PackedEnemyView[] views;
+    private PackedEnemyView[] freeViews = new PackedEnemyView[16];
+    private int freeViewCount;
+    private int size;
+
+    /**
+     * Creates an empty storage.
+     * @param capacity number of enemies there is room for before the arrays have to grow
+     * @param enemyHandles the handle table the enemy objects are put in
+     */
+    public PackedEnemyStorage(int capacity, EnemyHandles enemyHandles) {
+        this.enemyHandles = enemyHandles;
+        capacity = Math.max(capacity, 1);
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        distance = new float[capacity];
+        segment = new int[capacity];
+        speed = new float[capacity];
+        health = new float[capacity];
+        startHealth = new float[capacity];
+        timeAlive = new float[capacity];
+        spawnDelay = new float[capacity];
+        reward = new int[capacity];
+        type = new char[capacity];
+        alive = new boolean[capacity];
+        doubleSpeed = new boolean[capacity];
+        views = new PackedEnemyView[capacity];
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        distance = Arrays.copyOf(distance, capacity);
+        segment = Arrays.copyOf(segment, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        health = Arrays.copyOf(health, capacity);
+        startHealth = Arrays.copyOf(startHealth, capacity);
+        timeAlive = Arrays.copyOf(timeAlive, capacity);
+        spawnDelay = Arrays.copyOf(spawnDelay, capacity);
+        reward = Arrays.copyOf(reward, capacity);
+        type = Arrays.copyOf(type, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        doubleSpeed = Arrays.copyOf(doubleSpeed, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+
+    /**
+     * Sets the path all enemies follow.
+     * @param path the path of the map
+     */
+    public void setPath(MapPath path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the path all enemies follow
+     */
+    public MapPath getPath() {
+        return path;
+    }
+
+    /**
+     * Adds an enemy with the same values as the given enemy object, at the start of the path.
+     * The object is not kept, so it can be thrown away afterwards.
+     * @param enemy enemy to copy
+     * @return the slot of the new enemy
+     */
+    public int add(Enemy enemy) {
+        return add(enemy.getType(), enemy.getEnemyHealth(),
+                enemy.getSpeed(), enemy.getReward(), enemy.getSpawnDelay(), enemy.getDoubleSpeed());
+    }
+
+    /**
+     * Adds an enemy at the start of the path.
+     * @param type char representing which type of zombie this is
+     * @param startHealth start health of the zombie
+     * @param startSpeed speed of the zombie, already doubled if double speed is active
+     * @param bounty money awarded for killing this zombie
+     * @param delay the delay before the zombie starts walking
+     * @param doubled whether double speed is active for this zombie
+     * @return the slot of the new enemy
+     */
+    public int add(char type, float startHealth, float startSpeed, int bounty, float delay, boolean doubled) {
+        if (size == x.length) {
+            grow(size * 2);
+        }
+        int slot = size++;
+        this.type[slot] = type;
+        x[slot] = path.getX(0, 0);
+        y[slot] = path.getY(0, 0);
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        distance[slot] = 0;
+        segment[slot] = 0;
+        speed[slot] = startSpeed;
+        health[slot] = startHealth;
+        this.startHealth[slot] = startHealth;
+        timeAlive[slot] = 0;
+        spawnDelay[slot] = delay;
+        reward[slot] = bounty;
+        alive[slot] = true;
+        doubleSpeed[slot] = doubled;
+        views[slot] = null;
+        return slot;
+    }
+
+    /**
+     * Moves all enemies along the path.
+     * Follows the same rules as {@link Enemy#update(float)}, including waiting for the spawn delay.
+     * @param elapsedTime The time since the last tick.
+     */
+    public void update(float elapsedTime) {
+        float length = path.getLength();
+        for (int i = 0; i < size; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            timeAlive[i] += elapsedTime;
+            if (timeAlive[i] < spawnDelay[i]) {
+                continue;
+            }
+            distance[i] = Math.min(distance[i] + speed[i] * elapsedTime, length);
+            segment[i] = path.segmentAt(distance[i], segment[i]);
+            x[i] = path.getX(segment[i], distance[i]);
+            y[i] = path.getY(segment[i], distance[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            if (views[i] != null) {
+                views[i].sync(i);
+            }
+        }
+    }
+
+    /**
+     * Removes health from an enemy, and marks it as dead if it has no health left.
+     * This method is used for testing. Towers hit enemies through the damage buffer.
+     * @param slot slot of the enemy
+     * @param damage the amount of health to remove
+     */
+    public void damage(int slot, float damage) {
+        applyDamage(slot, damage);
+    }
+
+    /**
+     * Removes health from a living enemy, without any sound.
+     * @param slot slot of the enemy
+     * @param damage the amount of health to remove
+     * @return true if this hit killed the enemy
+     */
+    public boolean applyDamage(int slot, float damage) {
+        if (!alive[slot]) {
+            return false;
+        }
+        health[slot] -= damage;
+        if (healthIndex != null) {
+            healthIndex.healthChanged(slot);
+        }
+        if (health[slot] <= 0) {
+            alive[slot] = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes an enemy by moving the last enemy into its slot.
+     * An enemy object made for the removed enemy stops following the storage and counts as dead,
+     * until it is reused for another enemy.
+     * @param slot slot of the enemy to remove
+     */
+    public void remove(int slot) {
+        if (views[slot] != null) {
+            enemyHandles.release(views[slot].getHandle());
+            views[slot].detach();
+            if (freeViewCount == freeViews.length) {
+                freeViews = Arrays.copyOf(freeViews, freeViewCount * 2);
+            }
+            freeViews[freeViewCount++] = views[slot];
+        }
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            distance[slot] = distance[last];
+            segment[slot] = segment[last];
+            speed[slot] = speed[last];
+            health[slot] = health[last];
+            startHealth[slot] = startHealth[last];
+            timeAlive[slot] = timeAlive[last];
+            spawnDelay[slot] = spawnDelay[last];
+            reward[slot] = reward[last];
+            type[slot] = type[last];
+            alive[slot] = alive[last];
+            doubleSpeed[slot] = doubleSpeed[last];
+            views[slot] = views[last];
+            if (views[slot] != null) {
+                views[slot].moveTo(slot);
+            }
+        }
+        views[last] = null;
+    }
+
+    /**
+     * Removes all enemies.
+     */
+    public void clear() {
+        while (size > 0) {
+            remove(size - 1);
+        }
+    }
+
+    /**
+     * Doubles the speed of every enemy that does not already have double speed, or halves the speed
+     * of every enemy that has it.
+     * @param doubled true to turn double speed on
+     */
+    public void setDoubleSpeed(boolean doubled) {
+        for (int i = 0; i < size; i++) {
+            if (doubleSpeed[i] != doubled) {
+                speed[i] = doubled ? speed[i] * 2 : speed[i] / 2;
+                doubleSpeed[i] = doubled;
+            }
+        }
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return true if the enemy has entered the map
+     */
+    public boolean hasEnteredMap(int slot) {
+        return distance[slot] >= path.getEntryDistance();
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return true if the enemy has walked to the end of the path, and should be removed
+     */
+    public boolean hasCompletedPath(int slot) {
+        return isSpawned(slot) && distance[slot] >= path.getEndDistance();
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return how far along the path the enemy has walked
+     */
+    @Override
+    public float getDistance(int slot) {
+        return distance[slot];
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return true if the spawn delay of the enemy is over, so it is on the map
+     */
+    public boolean isSpawned(int slot) {
+        return timeAlive[slot] >= spawnDelay[slot];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Enemy getEnemy(int slot) {
+        if (views[slot] == null) {
+            if (freeViewCount > 0) {
+                PackedEnemyView view = freeViews[--freeViewCount];
+                freeViews[freeViewCount] = null;
+                view.attach(slot);
+                views[slot] = view;
+            } else {
+                views[slot] = new PackedEnemyView(this, slot);
+            }
+            enemyHandles.acquire(views[slot]);
+        }
+        return views[slot];
+    }
+
+    @Override
+    public boolean isAlive(int slot) {
+        return alive[slot];
+    }
+
+    @Override
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    @Override
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    @Override
+    public float getCenterX(int slot) {
+        return x[slot] + HALF_WIDTH;
+    }
+
+    @Override
+    public float getCenterY(int slot) {
+        return y[slot] + HALF_HEIGHT;
+    }
+
+    @Override
+    public float getHalfSize(int slot) {
+        return Math.max(HALF_WIDTH, HALF_HEIGHT);
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return x-coordinate of the enemy at the start of the last tick
+     */
+    public float getPreviousX(int slot) {
+        return previousX[slot];
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return y-coordinate of the enemy at the start of the last tick
+     */
+    public float getPreviousY(int slot) {
+        return previousY[slot];
+    }
+
+    @Override
+    public float getHealth(int slot) {
+        return health[slot];
+    }
+
+    @Override
+    public void setHealthIndex(EnemyHealthIndex healthIndex) {
+        this.healthIndex = healthIndex;
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return health the enemy started with
+     */
+    public float getStartHealth(int slot) {
+        return startHealth[slot];
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return current speed of the enemy
+     */
+    public float getSpeed(int slot) {
+        return speed[slot];
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return the bounty reward
+     */
+    public int getReward(int slot) {
+        return reward[slot];
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return the type of the enemy
+     */
+    public char getType(int slot) {
+        return type[slot];
+    }
+
+    /**
+     * @param slot slot of the enemy
+     * @return true if the enemy is running double speed
+     */
+    public boolean getDoubleSpeed(int slot) {
+        return doubleSpeed[slot];
+    }
+}
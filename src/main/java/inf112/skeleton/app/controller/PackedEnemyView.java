@@ -0,0 +1,123 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.scene.RenderQueue;
+import inf112.skeleton.app.util.GameConstants;
+
+/**
+ * Enemy object that reads and writes an enemy kept in a {@link PackedEnemyStorage}.
+ * Only made for enemies that something holds on to, like the target of a tower or a bullet.
+ * The storage moves the view along when the enemy changes slot, and detaches it when the enemy is removed.
+ */
+class PackedEnemyView extends Enemy {
+
+    private final PackedEnemyStorage storage;
+    private int slot;
+
+    /**
+     * Creates a view of the enemy in the given slot.
+     * @param storage the storage holding the enemy
+     * @param slot slot of the enemy
+     */
+    PackedEnemyView(PackedEnemyStorage storage, int slot) {
+        super(storage.getType(slot), storage.getPath(), GameConstants.ENEMY_WIDTH, GameConstants.ENEMY_HEIGHT,
+                storage.getStartHealth(slot), storage.getReward(slot), storage.getSpeed(slot), 0, null,
+                storage.getDoubleSpeed(slot));
+        this.storage = storage;
+        this.slot = slot;
+        sync(slot);
+    }
+
+    /**
+     * Copies the position of the enemy from the storage.
+     * @param slot slot of the enemy
+     */
+    void sync(int slot) {
+        previousPosition.set(storage.getPreviousX(slot), storage.getPreviousY(slot));
+        position.set(storage.getX(slot), storage.getY(slot));
+        center.set(storage.getCenterX(slot), storage.getCenterY(slot));
+        boundsRectangle.set(position.x, position.y, size.x, size.y);
+        getHpBar().setHealth(storage.getHealth(slot));
+    }
+
+    /**
+     * Follows the enemy to a new slot.
+     * @param slot new slot of the enemy
+     */
+    void moveTo(int slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * Starts following a new enemy, when the storage reuses the view.
+     * @param slot slot of the new enemy
+     */
+    void attach(int slot) {
+        init(storage.getType(slot), storage.getPath(), GameConstants.ENEMY_WIDTH, GameConstants.ENEMY_HEIGHT,
+                storage.getStartHealth(slot), storage.getReward(slot), storage.getSpeed(slot), 0, null,
+                storage.getDoubleSpeed(slot));
+        this.slot = slot;
+        sync(slot);
+    }
+
+    /**
+     * Stops following the storage, after the enemy has been removed from it.
+     * The view is reset like an enemy given back to the enemy pool. The storage takes it out of the handle table first.
+     */
+    void detach() {
+        this.slot = -1;
+        reset();
+    }
+
+    @Override
+    public boolean applyDamage(float damage) {
+        if (slot < 0) {
+            return false;
+        }
+        boolean killed = storage.applyDamage(slot, damage);
+        getHpBar().setHealth(storage.getHealth(slot));
+        return killed;
+    }
+
+    @Override
+    public boolean isAlive() {
+        return slot >= 0 && storage.isAlive(slot);
+    }
+
+    @Override
+    public float getEnemyHealth() {
+        return slot >= 0 ? storage.getHealth(slot) : 0;
+    }
+
+    @Override
+    public float getDistance() {
+        return slot >= 0 ? storage.getDistance(slot) : 0;
+    }
+
+    @Override
+    public boolean hasCompletedPath() {
+        return slot >= 0 && storage.hasCompletedPath(slot);
+    }
+
+    @Override
+    public float getSpeed() {
+        return slot >= 0 ? storage.getSpeed(slot) : 0;
+    }
+
+    /**
+     * The storage moves the enemy, so the view does nothing on its own.
+     * @param elapsedTime The time since the last frame.
+     */
+    @Override
+    public void update(float elapsedTime) {
+    }
+
+    /**
+     * The enemy controller draws packed enemies straight from the storage.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick
+     */
+    @Override
+    public void submit(RenderQueue queue, float alpha) {
+    }
+}
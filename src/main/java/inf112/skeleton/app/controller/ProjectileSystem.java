@@ -0,0 +1,334 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.enums.BulletType;
+import inf112.skeleton.app.enums.GameEventType;
+import inf112.skeleton.app.enums.RenderLayer;
+import inf112.skeleton.app.scene.RenderQueue;
+import inf112.skeleton.app.tower.BaseDefender;
+import inf112.skeleton.app.tower.BomberDefender;
+import inf112.skeleton.app.util.GameAssets;
+import inf112.skeleton.app.util.MusicManager;
+
+import java.util.Arrays;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+
+/**
+ * All bullets and bombs in flight, kept in primitive arrays by slot number from 0 to size() - 1.
+ * Projectiles are updated and drawn in one loop each, and removed by moving the last projectile into their slot.
+ * A projectile follows its enemy through the enemy's handle. When the enemy is gone, the tower that fired it
+ * gives it a new target, or it is removed if there is none. Projectiles do not depend on their tower staying
+ * on the map, so selling or upgrading a tower leaves them flying.
+ */
+public class ProjectileSystem {
+
+    private static final float HALF_WIDTH = BULLET_WIDTH / 2;
+    private static final float HALF_HEIGHT = BULLET_HEIGHT / 2;
+    private static final float SPEED = TILE_WIDTH * 8;
+
+    private float[] x;
+    private float[] y;
+    private float[] previousX;
+    private float[] previousY;
+    private float[] targetX;
+    private float[] targetY;
+    private float[] damage;
+    private float[] explosionRadius;
+    private long[] enemyHandle;
+    private BulletType[] type;
+    private BaseDefender[] owner;
+    private BomberDefender[] bomber;
+    private final Vector2 impact = new Vector2();
+    private int size;
+    private int fired;
+    private GameEvents events;
+    private EnemyHandles enemyHandles;
+    private int drawn;
+
+    /**
+     * Creates an empty projectile system with room for a few projectiles. It grows when needed.
+     */
+    public ProjectileSystem() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty projectile system.
+     * @param capacity number of projectiles there is room for before the arrays have to grow
+     */
+    public ProjectileSystem(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        targetX = new float[capacity];
+        targetY = new float[capacity];
+        damage = new float[capacity];
+        explosionRadius = new float[capacity];
+        enemyHandle = new long[capacity];
+        type = new BulletType[capacity];
+        owner = new BaseDefender[capacity];
+        bomber = new BomberDefender[capacity];
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, x.length * 2);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        explosionRadius = Arrays.copyOf(explosionRadius, capacity);
+        enemyHandle = Arrays.copyOf(enemyHandle, capacity);
+        type = Arrays.copyOf(type, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        bomber = Arrays.copyOf(bomber, capacity);
+    }
+
+    /**
+     * Sets where the projectile system posts the projectiles it fires.
+     * @param events the game events of the level, or null to post nothing
+     */
+    public void setEvents(GameEvents events) {
+        this.events = events;
+    }
+
+    /**
+     * Sets the handle table the projectiles look up their enemies in.
+     * @param enemyHandles the handle table of the enemy controller, or null if there are no enemies to follow
+     */
+    public void setEnemyHandles(EnemyHandles enemyHandles) {
+        this.enemyHandles = enemyHandles;
+    }
+
+    /**
+     * Fires a bullet at an enemy.
+     * @param owner the tower firing the bullet, asked for a new target if the enemy is gone before it is hit
+     * @param startX x-coordinate the bullet starts at
+     * @param startY y-coordinate the bullet starts at
+     * @param enemy the enemy to hit
+     * @param damage the damage done to the enemy
+     * @param bulletType the type of the bullet, used to draw it
+     * @return the slot of the bullet
+     */
+    public int fire(BaseDefender owner, float startX, float startY, Enemy enemy, float damage, BulletType bulletType) {
+        if (size == x.length) {
+            grow();
+        }
+        int slot = size++;
+        x[slot] = startX;
+        y[slot] = startY;
+        previousX[slot] = startX;
+        previousY[slot] = startY;
+        enemyHandle[slot] = enemy != null ? enemy.getHandle() : EnemyHandles.NONE;
+        targetX[slot] = enemy != null ? enemy.center.x : startX + HALF_WIDTH;
+        targetY[slot] = enemy != null ? enemy.center.y : startY + HALF_HEIGHT;
+        this.damage[slot] = damage;
+        this.explosionRadius[slot] = 0;
+        this.type[slot] = bulletType;
+        this.owner[slot] = owner;
+        this.bomber[slot] = null;
+        fired++;
+        if (events != null) {
+            events.post(GameEventType.BULLET_FIRED, bulletType.ordinal(), startX, startY);
+        }
+        return slot;
+    }
+
+    /**
+     * Fires a bomb at an enemy. If the enemy is gone before the bomb lands, it flies on and explodes where the enemy was last seen.
+     * @param bomber the tower firing the bomb, which deals the damage when it explodes
+     * @param startX x-coordinate the bomb starts at
+     * @param startY y-coordinate the bomb starts at
+     * @param enemy the enemy to aim at
+     * @param damage the damage done in the middle of the explosion
+     * @param explosionRadius radius in which the bomb deals damage
+     * @return the slot of the bomb
+     */
+    public int fireBomb(BomberDefender bomber, float startX, float startY, Enemy enemy, float damage, float explosionRadius) {
+        int slot = fire(bomber, startX, startY, enemy, damage, BulletType.BOMBER_BULLET);
+        this.explosionRadius[slot] = explosionRadius;
+        this.bomber[slot] = bomber;
+        return slot;
+    }
+
+    /**
+     * Moves every projectile towards its target, lets the ones that arrive hit, and removes them.
+     * @param deltaTime time since last update
+     */
+    public void update(float deltaTime) {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            if (!updateProjectile(slot, deltaTime)) {
+                remove(slot);
+            }
+        }
+    }
+
+    /**
+     * @return false if the projectile should be removed
+     */
+    private boolean updateProjectile(int slot, float deltaTime) {
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        Enemy enemy = findEnemy(slot);
+        if (enemy == null && bomber[slot] == null) {
+            enemy = owner[slot].findNewTarget();
+            if (enemy == null) {
+                return false;
+            }
+            enemyHandle[slot] = enemy.getHandle();
+        }
+        if (enemy != null) {
+            targetX[slot] = enemy.center.x;
+            targetY[slot] = enemy.center.y;
+        } else {
+            enemyHandle[slot] = EnemyHandles.NONE;
+        }
+        float centerX = x[slot] + HALF_WIDTH;
+        float centerY = y[slot] + HALF_HEIGHT;
+        boolean arrived = Vector2.dst(centerX, centerY, targetX[slot], targetY[slot]) <= BULLET_HEIGHT;
+        if (arrived) {
+            hit(slot, enemy, centerX, centerY);
+            return false;
+        }
+        float dx = targetX[slot] - centerX;
+        float dy = targetY[slot] - centerY;
+        float scale = SPEED / (float) Math.sqrt(dx * dx + dy * dy) * deltaTime;
+        x[slot] += dx * scale;
+        y[slot] += dy * scale;
+        return true;
+    }
+
+    /**
+     * Looks up the target of a projectile.
+     * @return the living enemy the projectile flies towards, or null if it is dead or removed
+     */
+    private Enemy findEnemy(int slot) {
+        Enemy enemy = enemyHandles != null ? enemyHandles.get(enemyHandle[slot]) : null;
+        return enemy != null && enemy.isAlive() ? enemy : null;
+    }
+
+    private void hit(int slot, Enemy enemy, float centerX, float centerY) {
+        if (bomber[slot] != null) {
+            bomber[slot].applyAreaDamage(impact.set(centerX, centerY), explosionRadius[slot], damage[slot]);
+            MusicManager.playBombExplode();
+        } else if (enemy != null) {
+            owner[slot].dealDamage(enemy, damage[slot]);
+        }
+    }
+
+    /**
+     * Removes a projectile by moving the last projectile into its slot.
+     * @param slot slot of the projectile to remove
+     */
+    public void remove(int slot) {
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            targetX[slot] = targetX[last];
+            targetY[slot] = targetY[last];
+            damage[slot] = damage[last];
+            explosionRadius[slot] = explosionRadius[last];
+            enemyHandle[slot] = enemyHandle[last];
+            type[slot] = type[last];
+            owner[slot] = owner[last];
+            bomber[slot] = bomber[last];
+        }
+        owner[last] = null;
+        bomber[last] = null;
+    }
+
+    /**
+     * Removes all projectiles.
+     */
+    public void clear() {
+        Arrays.fill(owner, 0, size, null);
+        Arrays.fill(bomber, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds every projectile to the render queue, interpolated between the previous and current tick.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick
+     */
+    public void submit(RenderQueue queue, float alpha) {
+        drawn = 0;
+        for (int slot = 0; slot < size; slot++) {
+            Sprite sprite = GameAssets.getBulletSprite(type[slot]);
+            if (sprite != null) {
+                queue.draw(RenderLayer.BULLETS, sprite, interpolatedX(slot, alpha), interpolatedY(slot, alpha), BULLET_WIDTH, BULLET_HEIGHT);
+                drawn++;
+            }
+        }
+    }
+
+    private float interpolatedX(int slot, float alpha) {
+        return previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+    }
+
+    private float interpolatedY(int slot, float alpha) {
+        return previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+    }
+
+    /**
+     * @return the number of projectiles in flight
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param slot slot of the projectile
+     * @return x-coordinate of the bottom left corner of the projectile
+     */
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * @param slot slot of the projectile
+     * @return y-coordinate of the bottom left corner of the projectile
+     */
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * @param slot slot of the projectile
+     * @return the type of the projectile
+     */
+    public BulletType getType(int slot) {
+        return type[slot];
+    }
+
+    /**
+     * @return the number of projectiles drawn in the last frame
+     */
+    public int getDrawnCount() {
+        return drawn;
+    }
+
+    /**
+     * @return the number of projectiles fired since the last {@link #resetFiredCount}
+     */
+    public int getFiredCount() {
+        return fired;
+    }
+
+    /**
+     * Sets the number of fired projectiles back to zero.
+     */
+    public void resetFiredCount() {
+        fired = 0;
+    }
+}
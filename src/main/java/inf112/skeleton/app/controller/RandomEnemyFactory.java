@@ -1,7 +1,5 @@
 package inf112.skeleton.app.controller;
 
-import inf112.skeleton.app.entity.Enemy;
-import inf112.skeleton.app.level.Level;
 import inf112.skeleton.app.util.GameConstants;
 
 import java.util.Random;
@@ -19,21 +17,15 @@ public class RandomEnemyFactory implements EnemyFactory{
     }
 
     /**
-     * Creates a new enemy with random type.
+     * Gives a random zombie type.
      * The type of the enemy is chosen randomly from the possible enemy types,
      * thus this factory is not hardcoded and allow addition of more enemies without changing the factory
      *
-     * @param level The level to be used for the enemy.
-     * @param speedMultiplier The speed multiplier for the enemy.
-     * @param healthMultiplier The health multiplier for the enemy.
-     * @param delay The delay for the enemy.
-     * @param doubleSpeed The double speed flag for the enemy.
-     * @return A new enemy with random type.
+     * @return char of a random zombie type.
      */
     @Override
-    public Enemy getNext(Level level, float speedMultiplier, float healthMultiplier, float delay, boolean doubleSpeed) {
+    public char getNextType() {
         int randomIndex = random.nextInt(possibleZombies.length());
-        char zombie = possibleZombies.charAt(randomIndex);
-        return Enemy.newEnemy(zombie, level, speedMultiplier, healthMultiplier, delay, doubleSpeed);
+        return possibleZombies.charAt(randomIndex);
     }
 }
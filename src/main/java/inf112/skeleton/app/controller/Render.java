@@ -1,15 +1,17 @@
 package inf112.skeleton.app.controller;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import inf112.skeleton.app.scene.RenderQueue;
 
 public interface Render {
 
     /**
-     * Renders the given batch
-     * @param batch given batch to be rendered
+     * Adds what should be drawn to the render queue, which draws everything in the frame at once.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick, from 0 to 1
      */
-    public void render(SpriteBatch batch);
+    public default void submit(RenderQueue queue, float alpha) {
+    }
 
     /**
      * Renders a given gdx shape to be rendered
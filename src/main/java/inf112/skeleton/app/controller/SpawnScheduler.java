@@ -0,0 +1,181 @@
+package inf112.skeleton.app.controller;
+
+import java.util.Arrays;
+
+/**
+ * Zombies waiting to be spawned, ordered by the simulation time they should spawn at.
+ * The spawns are kept in a binary min-heap of primitive arrays, so no enemy objects exist
+ * for zombies that have not spawned yet, and adding or taking spawns does not create garbage
+ * once the arrays are big enough. Spawns with the same time come out in the order they were added.
+ */
+public class SpawnScheduler {
+
+    private double[] time;
+    private long[] order;
+    private char[] type;
+    private float[] speedMultiplier;
+    private float[] healthMultiplier;
+    private int size;
+    private long added;
+
+    /**
+     * Creates an empty scheduler.
+     * @param capacity number of spawns there is room for before the arrays have to grow
+     */
+    public SpawnScheduler(int capacity) {
+        capacity = Math.max(1, capacity);
+        time = new double[capacity];
+        order = new long[capacity];
+        type = new char[capacity];
+        speedMultiplier = new float[capacity];
+        healthMultiplier = new float[capacity];
+    }
+
+    private void grow(int capacity) {
+        time = Arrays.copyOf(time, capacity);
+        order = Arrays.copyOf(order, capacity);
+        type = Arrays.copyOf(type, capacity);
+        speedMultiplier = Arrays.copyOf(speedMultiplier, capacity);
+        healthMultiplier = Arrays.copyOf(healthMultiplier, capacity);
+    }
+
+    /**
+     * Adds a zombie to be spawned.
+     * @param spawnTime the simulation time the zombie spawns at
+     * @param zombieType char representing which type of zombie to spawn
+     * @param speed speed multiplier of the zombie
+     * @param health health multiplier of the zombie
+     */
+    public void schedule(double spawnTime, char zombieType, float speed, float health) {
+        if (size == time.length) {
+            grow(size * 2);
+        }
+        int slot = size++;
+        set(slot, spawnTime, added++, zombieType, speed, health);
+        siftUp(slot);
+    }
+
+    /**
+     * Removes the first spawn. Its values should be read with the getters before it is removed.
+     * @throws IllegalStateException if there are no spawns
+     */
+    public void removeFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("No spawns are scheduled");
+        }
+        size--;
+        if (size > 0) {
+            set(0, time[size], order[size], type[size], speedMultiplier[size], healthMultiplier[size]);
+            siftDown(0);
+        }
+    }
+
+    private void set(int slot, double spawnTime, long spawnOrder, char zombieType, float speed, float health) {
+        time[slot] = spawnTime;
+        order[slot] = spawnOrder;
+        type[slot] = zombieType;
+        speedMultiplier[slot] = speed;
+        healthMultiplier[slot] = health;
+    }
+
+    private boolean before(int a, int b) {
+        return time[a] < time[b] || (time[a] == time[b] && order[a] < order[b]);
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (!before(slot, parent)) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int first = slot;
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            if (left < size && before(left, first)) {
+                first = left;
+            }
+            if (right < size && before(right, first)) {
+                first = right;
+            }
+            if (first == slot) {
+                return;
+            }
+            swap(slot, first);
+            slot = first;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double spawnTime = time[a];
+        long spawnOrder = order[a];
+        char zombieType = type[a];
+        float speed = speedMultiplier[a];
+        float health = healthMultiplier[a];
+        set(a, time[b], order[b], type[b], speedMultiplier[b], healthMultiplier[b]);
+        set(b, spawnTime, spawnOrder, zombieType, speed, health);
+    }
+
+    /**
+     * @return the simulation time of the first spawn
+     */
+    public double getFirstTime() {
+        return time[0];
+    }
+
+    /**
+     * @return the type of the first zombie to spawn
+     */
+    public char getFirstType() {
+        return type[0];
+    }
+
+    /**
+     * @return the speed multiplier of the first zombie to spawn
+     */
+    public float getFirstSpeedMultiplier() {
+        return speedMultiplier[0];
+    }
+
+    /**
+     * @return the health multiplier of the first zombie to spawn
+     */
+    public float getFirstHealthMultiplier() {
+        return healthMultiplier[0];
+    }
+
+    /**
+     * @param now the current simulation time
+     * @return true if the first spawn is due at the given time
+     */
+    public boolean hasDue(double now) {
+        return size > 0 && time[0] <= now;
+    }
+
+    /**
+     * @return number of zombies waiting to spawn
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if no zombies are waiting to spawn
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all spawns.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
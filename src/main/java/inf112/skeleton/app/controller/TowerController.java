@@ -1,82 +1,96 @@
 package inf112.skeleton.app.controller;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Rectangle;
 import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.enums.GameEventType;
 import inf112.skeleton.app.enums.GridType;
 import inf112.skeleton.app.level.Level;
+import inf112.skeleton.app.map.Board;
 import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.map.PathCoverage;
+import inf112.skeleton.app.map.Tile;
+import inf112.skeleton.app.scene.RenderQueue;
 import inf112.skeleton.app.tower.BaseDefender;
 import inf112.skeleton.app.enums.DefenderType;
 import inf112.skeleton.app.tower.SniperDefender;
 import inf112.skeleton.app.tower.BomberDefender;
 import inf112.skeleton.app.tower.GunnerDefender;
-import inf112.skeleton.app.util.GameConstants;
 
 import static inf112.skeleton.app.util.GameConstants.*;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class TowerController implements Render{
 
+    private static final float SELECTED_UPGRADE_COLOR = Color.CYAN.toFloatBits();
+
     private static TowerController instance;
 
     private final List<BaseDefender> defenderList;
+    private final ProjectileSystem projectiles;
+    private final BaseDefender[][] towerGrid;
     private boolean isSelectedDefender;
     private boolean isTowerSelected;
     private DefenderType selectedTowerType;
     private BaseDefender selectedDefenderUpgrade;
     private boolean speedMode = false;
+    private GameEvents events;
 
     private final Level level;
     private final Map map;
 
     /**
      * Creates a new TowerController.
+     * The projectiles follow their enemies through the handle table of the level's enemy controller.
      * @param level The level to be used for the TowerController.
      */
     public TowerController(Level level){
         defenderList = new ArrayList<>();
+        projectiles = new ProjectileSystem(64);
+        towerGrid = new BaseDefender[MAP_ROWS][COLUMN_SIZE];
         this.level = level;
         this.map = level.getMap();
+        EnemyController enemyController = level.getEnemyController();
+        if (enemyController != null) {
+            projectiles.setEnemyHandles(enemyController.getEnemyHandles());
+        }
     }
 
     /**
-     * Builds a tower of the specified type at the given coordinates.
+     * Builds a tower of the specified type on the tile at the given coordinates.
      * The tower is only built if the placement is legal and the player has enough money.
      *
-     * @param x The x-coordinate for the tower.
-     * @param y The y-coordinate for the tower.
+     * @param x The x-coordinate of a point on the tile.
+     * @param y The y-coordinate of a point on the tile.
      * @param enemyList The list of enemies for the tower to target.
      * @param type The type of the tower to build.
      * @return The price of the built tower, or 0 if the tower was not built.
      */
     public int buildTower(float x, float y, List<Enemy> enemyList, DefenderType type){
-        if (!legalPlacement(x, y)){
+        Tile tile = map.getSelectedTile(x, y);
+        if (!legalPlacement(tile)){
             return 0;
         }
 
-        x = x - GameConstants.TOWER_SIZE / 2;
-        y = y - GameConstants.TOWER_SIZE / 2;
-
         switch (type){
            case GUNNER:
                if (this.level.getMoney() >= TOWER_PRICE_GUNNER){
                    this.level.removeMoney(TOWER_PRICE_GUNNER);
-                   return buildGunnerTower(x, y, enemyList);
+                   return buildGunnerTower(tile, enemyList);
                } break;
            case BOMBER:
                 if (this.level.getMoney() >= TOWER_PRICE_BOMBER){
                     this.level.removeMoney(TOWER_PRICE_BOMBER);
-                    return buildBomberTower(x, y, enemyList);
+                    return buildBomberTower(tile, enemyList);
                 } break;
            case SNIPER:
                 if (this.level.getMoney() >= TOWER_PRICE_SNIPER){
                     this.level.removeMoney(TOWER_PRICE_SNIPER);
-                   return buildSniperTower(x, y, enemyList);
+                   return buildSniperTower(tile, enemyList);
                 } break;
        }
        return 0;
@@ -85,62 +99,126 @@ public class TowerController implements Render{
     /**
      * Checks if the placement of a tower is legal.
      * Checks if the tower is placed on a path, on top of another tower or on an illegal placement tile (outside board).
+     * Only looks at the tile under the point, so it is cheap enough to call every frame.
      *
      * @param x x-coordinate of the tower
      * @param y y-coordinate of the tower
      * @return true if the placement is legal, false otherwise
      */
     public boolean legalPlacement(float x, float y) {
-        float towerLeft = x - GameConstants.TOWER_SIZE / 2;
-        float towerBottom = y - GameConstants.TOWER_SIZE / 2;
-        Rectangle newTowerBounds = new Rectangle(towerLeft, towerBottom, GameConstants.TOWER_SIZE, GameConstants.TOWER_SIZE);
+        return legalPlacement(map.getSelectedTile(x, y));
+    }
 
-        if (map.getSelectedTile(x, y).getType() == GridType.ILLEGALPLACEMENT) {
+    private boolean legalPlacement(Tile tile) {
+        if (tile.getType() == GridType.ILLEGALPLACEMENT) {
             return false;
         }
 
-        if (map.getSelectedTile(x, y).getType() == GridType.PATH) {
+        if (tile.getType() == GridType.PATH) {
             return false;
         }
 
-        for (BaseDefender defender : defenderList) {
-            if (defender.getHitBox().overlaps(newTowerBounds)) {
-                return false;
-            }
-        }
-
-        return true;
+        return getTowerAt(tile.getColumn(), tile.getRow()) == null;
     }
 
+    /**
+     * Returns the tower standing on the tile at the given coordinates.
+     * @param x x-coordinate of a point on the tile
+     * @param y y-coordinate of a point on the tile
+     * @return the tower on the tile, or null if the tile is empty or the point is outside the board
+     */
+    public BaseDefender getTowerAt(float x, float y) {
+        Tile tile = map.getSelectedTile(x, y);
+        return getTowerAt(tile.getColumn(), tile.getRow());
+    }
 
+    private BaseDefender getTowerAt(int column, int row) {
+        return Board.isOnBoard(column, row) ? towerGrid[row][column] : null;
+    }
 
-    private int buildSniperTower(float x, float y, List<Enemy> enemyList) {
-        SniperDefender sniperDefender = new SniperDefender(x, y, enemyList);
+    private int buildSniperTower(Tile tile, List<Enemy> enemyList) {
+        SniperDefender sniperDefender = new SniperDefender(tile.getX(), tile.getY(), enemyList);
         if (speedMode) {
             sniperDefender.setSpeed(sniperDefender.getSpeed() * 2);
         }
-        defenderList.add(sniperDefender);
+        placeDefender(sniperDefender, tile, TOWER_PRICE_SNIPER);
         return TOWER_PRICE_SNIPER;
     }
 
-    private int buildBomberTower(float x, float y, List<Enemy> enemyList) {
-        BomberDefender bomberDefender = new BomberDefender(x, y, enemyList);
+    private int buildBomberTower(Tile tile, List<Enemy> enemyList) {
+        BomberDefender bomberDefender = new BomberDefender(tile.getX(), tile.getY(), enemyList);
         if (speedMode) {
             bomberDefender.setSpeed(bomberDefender.getSpeed() * 2);
         }
-        defenderList.add(bomberDefender);
+        placeDefender(bomberDefender, tile, TOWER_PRICE_BOMBER);
         return TOWER_PRICE_BOMBER;
     }
 
-    private int buildGunnerTower(float x, float y, List<Enemy> enemyList) {
-        GunnerDefender gunnerDefender = new GunnerDefender(x, y, enemyList);
+    private int buildGunnerTower(Tile tile, List<Enemy> enemyList) {
+        GunnerDefender gunnerDefender = new GunnerDefender(tile.getX(), tile.getY(), enemyList);
         if (speedMode) {
             gunnerDefender.setSpeed(gunnerDefender.getDamage() * 2);
         }
-        defenderList.add(gunnerDefender);
+        placeDefender(gunnerDefender, tile, TOWER_PRICE_GUNNER);
         return TOWER_PRICE_GUNNER;
     }
 
+    /**
+     * Adds a new tower to the list, marks its tile as taken and posts it as a game event.
+     * @param defender the tower that was built
+     * @param tile the tile the tower stands on
+     * @param price the price paid for the tower
+     */
+    private void placeDefender(BaseDefender defender, Tile tile, int price) {
+        useEnemyIndex(defender);
+        defender.setProjectiles(projectiles);
+        defenderList.add(defender);
+        if (events != null) {
+            events.post(GameEventType.TOWER_BUILT, price, defender.center.x, defender.center.y);
+        }
+        if (Board.isOnBoard(tile.getColumn(), tile.getRow())) {
+            defender.setTile(tile.getColumn(), tile.getRow());
+            towerGrid[tile.getRow()][tile.getColumn()] = defender;
+        }
+    }
+
+    /**
+     * Sets where the tower controller posts towers being built and firing.
+     * @param events the game events of the level, or null to post nothing
+     */
+    public void setEvents(GameEvents events) {
+        this.events = events;
+        projectiles.setEvents(events);
+    }
+
+    /**
+     * Lets a new tower find its targets through the spatial, path and health indexes of the level's enemies,
+     * and follow them through their handle table.
+     * @param defender the tower that was built
+     */
+    private void useEnemyIndex(BaseDefender defender) {
+        EnemyController enemyController = level.getEnemyController();
+        if (enemyController != null) {
+            defender.setEnemyIndex(enemyController.getSpatialIndex());
+            defender.setPathIndex(enemyController.getPathIndex());
+            defender.setHealthIndex(enemyController.getHealthIndex());
+            defender.setEnemyHandles(enemyController.getEnemyHandles());
+            defender.setDamageBuffer(enemyController.getDamageBuffer());
+        }
+        updateCoverage(defender);
+    }
+
+    /**
+     * Works out which parts of the path are within range of the tower.
+     * Done when the tower is built and when its range is upgraded, as towers and the path never move.
+     * @param defender the tower to update
+     */
+    private void updateCoverage(BaseDefender defender) {
+        if (map != null && map.getPath() != null) {
+            defender.setCoverage(PathCoverage.of(map.getPath(), defender.center, defender.getRange()));
+        }
+    }
+
     /**
      * Doubles the speed of all towers.
      */
@@ -188,9 +266,22 @@ public class TowerController implements Render{
         if (selectedDefenderUpgrade != null && level.getMoney() >= selectedDefenderUpgrade.getRangePrice()) {
             level.removeMoney(selectedDefenderUpgrade.getRangePrice());
             selectedDefenderUpgrade.rangeUpgrade();
+            updateCoverage(selectedDefenderUpgrade);
         }
     }
 
+    /**
+     * Switches the selected tower to the next targeting mode.
+     * @return true if a tower is selected
+     */
+    public boolean cycleTargetingMode() {
+        if (selectedDefenderUpgrade == null) {
+            return false;
+        }
+        selectedDefenderUpgrade.setTargetingMode(selectedDefenderUpgrade.getTargetingMode().next());
+        return true;
+    }
+
     /**
      * Clears the selected tower.
      */
@@ -200,24 +291,29 @@ public class TowerController implements Render{
     }
 
     /**
-     * Updates the logic and environment for all placed defending towers
+     * Updates the logic and environment for all placed defending towers.
+     * The projectiles in flight are moved first, so bullets fired in this update start moving in the next.
      * @param elapsedTime time since last frame
      */
     public void update(float elapsedTime) {
-        for (BaseDefender tower : defenderList) {
-            tower.update(elapsedTime);
+        projectiles.update(elapsedTime);
+        for (int i = 0; i < defenderList.size(); i++) {
+            defenderList.get(i).update(elapsedTime);
         }
     }
 
     /**
-     * Gives a render call to the tower class, for each tower.
-     * @param batch SpriteBatch used to render.
+     * Adds each tower and the projectiles to the render queue. The tower selected for upgrades is tinted.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick
      */
     @Override
-    public void render(SpriteBatch batch) {
-        for (BaseDefender tower : defenderList) {
-            tower.render(batch);
+    public void submit(RenderQueue queue, float alpha) {
+        for (int i = 0; i < defenderList.size(); i++) {
+            BaseDefender tower = defenderList.get(i);
+            tower.submit(queue, alpha, tower == selectedDefenderUpgrade ? SELECTED_UPGRADE_COLOR : Color.WHITE_FLOAT_BITS);
         }
+        projectiles.submit(queue, alpha);
     }
 
     /**
@@ -232,13 +328,18 @@ public class TowerController implements Render{
     }
 
     /**
-     * Sells the selected tower and refunds 75% of its price.
+     * Sells the selected tower and refunds 75% of its price. Its projectiles in flight keep flying.
      */
     public void sellSelectedDefender() {
         if (selectedDefenderUpgrade != null) {
             int refundAmount = (int)(selectedDefenderUpgrade.getDefender().getPrice() * 0.75);
             level.addMoney(refundAmount);
             defenderList.remove(selectedDefenderUpgrade);
+            int column = selectedDefenderUpgrade.getColumn();
+            int row = selectedDefenderUpgrade.getRow();
+            if (getTowerAt(column, row) == selectedDefenderUpgrade) {
+                towerGrid[row][column] = null;
+            }
             selectedDefenderUpgrade = null;
         }
     }
@@ -310,10 +411,22 @@ public class TowerController implements Render{
     }
 
     /**
-     * Clears the list of defenders.
+     * Returns the projectiles fired by all towers.
+     * @return The projectile system of the towers.
+     */
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Clears the list of defenders and the projectiles in flight.
      */
     public void clearDefenders() {
         defenderList.clear();
+        projectiles.clear();
+        for (BaseDefender[] row : towerGrid) {
+            Arrays.fill(row, null);
+        }
     }
 
     /**
@@ -1,26 +1,33 @@
 package inf112.skeleton.app.controller;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import inf112.skeleton.app.level.Level;
+import inf112.skeleton.app.util.GameFiles;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class WaveController {
+
     private FileHandle filehandle;
     private final int selectedWave;
     private final EnemyController enemyController;
     private float baseSpeedMultiplier;
-    private float speedMultiplier;
     private float healthMultiplier;
     private float spawnDelay;
     private EnemyFactory enemyFactory;
 
-    List<String> wavePatterns;
-    int waveIndex;
-    float zombieIndex;
+    private final List<String> waveLines;
+    private int waveIndex;
+    // Makes the pattern of the next wave while the current wave is played. The thread stops when it has been idle for a while
+    private final ThreadPoolExecutor preparation;
+    private Future<WavePattern> preparedWave;
     private final boolean randomMode;
     private final Random random;
 
@@ -37,7 +44,13 @@ public class WaveController {
         this.random = new Random();
 
         selectFileHandle();
-        this.wavePatterns = readWavePatternsFromFile(filehandle.readString());
+        this.waveLines = readWaveLines(filehandle.readString());
+        this.preparation = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "wave-preparation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        preparation.allowCoreThreadTimeOut(true);
 
         this.baseSpeedMultiplier = 1;
         this.healthMultiplier = 1;
@@ -46,37 +59,50 @@ public class WaveController {
         if(randomMode) {
             this.enemyFactory = new RandomEnemyFactory();
         }
-        else {
-            this.enemyFactory = new PatternedEnemyFactory(wavePatterns.get(waveIndex));
-        }
-
+        prepareWave(waveIndex);
     }
 
 
     private void selectFileHandle() {
         switch(selectedWave) {
-            case 1 -> filehandle = Gdx.files.internal("maps/WavePattern1.txt");
-            case 2 -> filehandle = Gdx.files.internal("maps/WavePattern2.txt");
+            case 1 -> filehandle = GameFiles.internal("maps/WavePattern1.txt");
+            case 2 -> filehandle = GameFiles.internal("maps/WavePattern2.txt");
             default -> throw new IllegalArgumentException("Found no wave for the value:  " + selectedWave);
         }
     }
 
-    private List<String> readWavePatternsFromFile(String fileContent) {
+    /**
+     * Reads the lines of the file that each hold one wave. Empty lines and lines starting with '#' are skipped.
+     * The lines are parsed into {@link WavePattern}s on the preparation thread, one wave ahead of the game.
+     */
+    private List<String> readWaveLines(String fileContent) {
         String[] lines = fileContent.split("\n");
-        List<String> cleanLines = new ArrayList<>();
+        List<String> waves = new ArrayList<>();
 
         for(String line : lines) {
-            cleanLines.add(line.trim());
+            String cleanLine = line.trim();
+            if (!cleanLine.isEmpty() && !cleanLine.startsWith("#")) {
+                waves.add(cleanLine);
+            }
         }
-        return cleanLines;
+        if (waves.isEmpty()) {
+            throw new IllegalArgumentException("Found no waves in the wave file: " + filehandle.path());
+        }
+        return waves;
     }
 
     /**
-     * Generates a new wave of enemies.
+     * Starts a new wave of enemies, scheduled to spawn one after another.
      * Increases the speed, health and decreases the delay in between the spawns.
+     * The pattern of the wave was prepared in the background while the previous wave was played,
+     * and the pattern of the next wave is started right away.
      * @param level The level to be used for the enemies.
+     * @throws IllegalStateException if the wave controller is disposed
      */
     public void newWave(Level level) {
+        if (preparation.isShutdown()) {
+            throw new IllegalStateException("The wave controller is disposed");
+        }
         baseSpeedMultiplier += 0.05f;
         healthMultiplier *= 1.05f;
 
@@ -84,53 +110,54 @@ public class WaveController {
             spawnDelay *= 0.80f;
         }
 
-        speedMultiplier = level.isDoubleSpeedActive() ? baseSpeedMultiplier * 2 : baseSpeedMultiplier;
+        WavePattern wavePattern = takePreparedWave();
+        waveIndex++;
+        prepareWave(waveIndex);
 
-        if (randomMode) {
-            generateRandomWave(level);
-        }
-        else {
-            generateFixedWave(level);
-        }
+        enemyController.scheduleWave(wavePattern.decoder(spawnDelay),
+                baseSpeedMultiplier * wavePattern.getSpeedMultiplier(), healthMultiplier * wavePattern.getHealthMultiplier());
     }
 
+    /**
+     * Starts making the pattern of a wave on the background thread.
+     * @param index index of the wave, counted from 0
+     */
+    private void prepareWave(int index) {
+        preparedWave = preparation.submit(() -> randomMode ? generateRandomWave(index) : generateFixedWave(index));
+    }
 
-
-    private void generateFixedWave(Level level) {
-        waveIndex = waveIndex % wavePatterns.size();//Loop to first wave if we ran out of waves, using modulo
-        String wavePattern = wavePatterns.get(waveIndex);
-        this.enemyFactory = new PatternedEnemyFactory(wavePattern);
-
-        zombieIndex = 0f;
-
-        for(int i = 0; i < wavePattern.length(); i++) {
-            if(level.isDoubleSpeedActive()) {
-                enemyController.newZombie(enemyFactory.getNext(level, speedMultiplier, healthMultiplier, (zombieIndex * spawnDelay), true));
-            }
-            else{
-                enemyController.newZombie(enemyFactory.getNext(level, speedMultiplier, healthMultiplier, (zombieIndex * spawnDelay), false));
-            }
-            zombieIndex++;
+    /**
+     * Waits for the prepared wave. It is usually ready long before it is needed, so this does not block.
+     */
+    private WavePattern takePreparedWave() {
+        try {
+            return preparedWave.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the next wave", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not make the next wave", e.getCause());
         }
-        waveIndex++;
-        zombieIndex = 0;
     }
 
-    private void generateRandomWave(Level level) {
-        int numZombies = 5 + waveIndex + random.nextInt(5);//Length is always minimum 5 + wave number; but get random amount on top of this.
-        zombieIndex = 0f;
+    private WavePattern generateFixedWave(int index) {
+        return WavePattern.parse(waveLines.get(index % waveLines.size()));//Loop to first wave if we ran out of waves, using modulo
+    }
 
-        for(int i = 0; i < numZombies; i++) {
-            if(level.isDoubleSpeedActive()) {
-                enemyController.newZombie(enemyFactory.getNext(level, speedMultiplier, healthMultiplier, (zombieIndex * spawnDelay), true));
-            }
-            else {
-                enemyController.newZombie(enemyFactory.getNext(level, speedMultiplier, healthMultiplier, (zombieIndex * spawnDelay), false));
-            }
-            zombieIndex++;
+    private WavePattern generateRandomWave(int index) {
+        int numZombies = 5 + index + random.nextInt(5);//Length is always minimum 5 + wave number; but get random amount on top of this.
+        StringBuilder zombies = new StringBuilder(numZombies);
+        for (int i = 0; i < numZombies; i++) {
+            zombies.append(enemyFactory.getNextType());
         }
-        waveIndex++;
-        zombieIndex = 0;
+        return WavePattern.parse(zombies.toString());
+    }
+
+    /**
+     * Stops the preparation thread. Called when the level ends; no more waves can be started afterwards.
+     */
+    public void dispose() {
+        preparation.shutdownNow();
     }
 
     /**
@@ -0,0 +1,122 @@
+package inf112.skeleton.app.controller;
+
+/**
+ * Gives out the zombies of a {@link WavePattern} one at a time, in spawn order.
+ * Repeats are counted down instead of being expanded, so the decoder uses the same
+ * small amount of memory however many zombies the wave has.
+ * The current zombie is read with {@link #getType} and {@link #getTime}, and {@link #advance} moves to the next.
+ */
+public class WaveDecoder {
+
+    private final WavePattern pattern;
+
+    // Groups being repeated, from the wave itself down to the innermost group
+    private final int[] groups;
+    private final long[] groupsLeft;
+    private final float[] groupIntervals;
+    private int depth;
+
+    private int cursor;
+    private int zombie = WavePattern.NONE;
+    private long zombiesLeft;
+    private float zombieInterval;
+
+    private long taken;
+    private boolean started;
+    private char type;
+    private double time;
+
+    WaveDecoder(WavePattern pattern, float defaultInterval) {
+        this.pattern = pattern;
+        int maxDepth = pattern.getDepth();
+        groups = new int[maxDepth];
+        groupsLeft = new long[maxDepth];
+        groupIntervals = new float[maxDepth];
+
+        float rootInterval = pattern.interval[0];
+        enterGroup(0, rootInterval == WavePattern.INHERIT ? defaultInterval : rootInterval);
+        advance();
+    }
+
+    private void enterGroup(int node, float intervalOfParent) {
+        float own = pattern.interval[node];
+        groups[depth] = node;
+        groupsLeft[depth] = pattern.repeat[node];
+        groupIntervals[depth] = own == WavePattern.INHERIT ? intervalOfParent : own;
+        depth++;
+        cursor = pattern.child[node];
+    }
+
+    /**
+     * Moves to the next zombie of the wave. Does nothing when the wave has no more zombies.
+     */
+    public void advance() {
+        while (true) {
+            if (zombiesLeft > 0) {
+                zombiesLeft--;
+                taken++;
+                type = pattern.type[zombie];
+                if (started) {
+                    time += zombieInterval;
+                }
+                started = true;
+                return;
+            }
+            if (cursor != WavePattern.NONE) {
+                int node = cursor;
+                cursor = pattern.next[node];
+                if (pattern.zombies[node] == 0) {
+                    continue;
+                }
+                float inherited = groupIntervals[depth - 1];
+                if (pattern.type[node] != 0) {
+                    zombie = node;
+                    zombiesLeft = pattern.repeat[node];
+                    zombieInterval = pattern.interval[node] == WavePattern.INHERIT ? inherited : pattern.interval[node];
+                } else {
+                    enterGroup(node, inherited);
+                }
+                continue;
+            }
+            if (depth == 0) {
+                type = 0;
+                return;
+            }
+            int group = groups[depth - 1];
+            if (--groupsLeft[depth - 1] > 0) {
+                cursor = pattern.child[group];
+                continue;
+            }
+            depth--;
+            cursor = pattern.next[group];
+        }
+    }
+
+    /**
+     * @return true if there is a zombie left to spawn
+     */
+    public boolean hasNext() {
+        return type != 0;
+    }
+
+    /**
+     * @return the type of the current zombie
+     */
+    public char getType() {
+        return type;
+    }
+
+    /**
+     * @return when the current zombie spawns, in seconds after the first zombie of the wave
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * @return number of zombies left in the wave, counting the current one
+     */
+    public long getRemaining() {
+        return pattern.getZombieCount() - taken + (hasNext() ? 1 : 0);
+    }
+}
@@ -0,0 +1,297 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.util.GameConstants;
+
+import java.util.Arrays;
+
+/**
+ * One wave written in the wave pattern language. A pattern is a list of zombie types and groups:
+ * <ul>
+ *     <li>{@code R}, {@code T}, {@code Q}: one zombie of that type</li>
+ *     <li>{@code R*200}: the zombie, or group, repeated 200 times</li>
+ *     <li>{@code (TQ)*50}: a group of zombies, repeated as a whole</li>
+ *     <li>{@code (TQ)*50 @0.2s}: the zombies of the group spawn 0.2 seconds apart</li>
+ *     <li>{@code @1.5s} at the start of the wave: the time between spawns for the whole wave</li>
+ *     <li>{@code hp=2} and {@code speed=1.5}: multiplies the health or speed of every zombie in the wave</li>
+ * </ul>
+ * Zombies without a time between spawns use the delay given by the wave controller.
+ * A plain line like {@code RRRTQ} is a valid pattern, so old wave files can be read as they are.
+ * The pattern is kept as a small tree the size of the text, so a wave of many thousand zombies
+ * takes no more memory than its description. The zombies are given out one at a time by a {@link WaveDecoder}.
+ */
+public class WavePattern {
+
+    static final int NONE = -1;
+    static final float INHERIT = -1;
+
+    // One entry per node. Zombie nodes have a type, groups have type 0 and a first child.
+    char[] type;
+    long[] repeat;
+    float[] interval;
+    int[] child;
+    int[] next;
+    long[] zombies;
+    private int nodeCount;
+    private int depth;
+
+    private float healthMultiplier = 1;
+    private float speedMultiplier = 1;
+    private long zombieCount;
+
+    private final String text;
+    private int position;
+
+    private WavePattern(String text) {
+        this.text = text;
+        int capacity = Math.max(1, text.length() + 1);
+        type = new char[capacity];
+        repeat = new long[capacity];
+        interval = new float[capacity];
+        child = new int[capacity];
+        next = new int[capacity];
+        zombies = new long[capacity];
+    }
+
+    /**
+     * Reads a wave from the wave pattern language.
+     * @param text the pattern of one wave
+     * @return the parsed wave
+     * @throws IllegalArgumentException if the pattern is not valid
+     */
+    public static WavePattern parse(String text) {
+        WavePattern pattern = new WavePattern(text);
+        pattern.parseWave();
+        return pattern;
+    }
+
+    private void parseWave() {
+        int root = addNode((char) 0);
+        skipSpace();
+        if (peek() == '@') {
+            position++;
+            interval[root] = parseInterval();
+        }
+        child[root] = parseList(1);
+        if (position < text.length()) {
+            throw error("Unexpected '" + text.charAt(position) + "'");
+        }
+        zombieCount = count(root);
+        trim();
+    }
+
+    /**
+     * Reads items until the end of the text or of the group.
+     * @return the first node of the list, or {@link #NONE} if it is empty
+     */
+    private int parseList(int level) {
+        depth = Math.max(depth, level);
+        int first = NONE;
+        int last = NONE;
+        while (true) {
+            skipSpace();
+            char c = peek();
+            if (c == 0 || c == ')') {
+                return first;
+            }
+            if (Character.isLowerCase(c)) {
+                parseSetting();
+                continue;
+            }
+            int node = parseItem(level);
+            if (last == NONE) {
+                first = node;
+            } else {
+                next[last] = node;
+            }
+            last = node;
+        }
+    }
+
+    private int parseItem(int level) {
+        char c = text.charAt(position++);
+        int node;
+        if (c == '(') {
+            node = addNode((char) 0);
+            child[node] = parseList(level + 1);
+            if (peek() != ')') {
+                throw error("Missing ')'");
+            }
+            position++;
+        } else if (GameConstants.ENEMY_TYPES.indexOf(c) >= 0) {
+            node = addNode(c);
+        } else {
+            throw error("No available zombie for: " + c);
+        }
+        skipSpace();
+        if (peek() == '*') {
+            position++;
+            skipSpace();
+            repeat[node] = parseCount();
+            skipSpace();
+        }
+        if (peek() == '@') {
+            position++;
+            interval[node] = parseInterval();
+        }
+        return node;
+    }
+
+    private void parseSetting() {
+        int start = position;
+        while (Character.isLowerCase(peek())) {
+            position++;
+        }
+        String name = text.substring(start, position);
+        if (peek() != '=') {
+            throw error("Missing '=' after " + name);
+        }
+        position++;
+        float value = parseNumber();
+        switch (name) {
+            case "hp" -> healthMultiplier *= value;
+            case "speed" -> speedMultiplier *= value;
+            default -> throw error("Unknown setting: " + name);
+        }
+    }
+
+    private long parseCount() {
+        int start = position;
+        while (Character.isDigit(peek())) {
+            position++;
+        }
+        if (start == position) {
+            throw error("Missing repeat count");
+        }
+        try {
+            return Long.parseLong(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error("Repeat count is too large");
+        }
+    }
+
+    private float parseInterval() {
+        skipSpace();
+        float seconds = parseNumber();
+        if (peek() == 's') {
+            position++;
+        }
+        return seconds;
+    }
+
+    private float parseNumber() {
+        int start = position;
+        while (Character.isDigit(peek()) || peek() == '.') {
+            position++;
+        }
+        try {
+            return Float.parseFloat(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error("Expected a number");
+        }
+    }
+
+    private void skipSpace() {
+        while (Character.isWhitespace(peek())) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position + " in wave: " + text);
+    }
+
+    private int addNode(char nodeType) {
+        int node = nodeCount++;
+        type[node] = nodeType;
+        repeat[node] = 1;
+        interval[node] = INHERIT;
+        child[node] = NONE;
+        next[node] = NONE;
+        return node;
+    }
+
+    /**
+     * Counts the zombies spawned by the node and the nodes in it.
+     * @return number of zombies spawned by the node, at most {@link Long#MAX_VALUE}
+     */
+    private long count(int node) {
+        long each;
+        if (type[node] != 0) {
+            each = 1;
+        } else {
+            each = 0;
+            for (int c = child[node]; c != NONE; c = next[c]) {
+                each = saturatedAdd(each, count(c));
+            }
+        }
+        if (each != 0 && repeat[node] > Long.MAX_VALUE / each) {
+            zombies[node] = Long.MAX_VALUE;
+        } else {
+            zombies[node] = each * repeat[node];
+        }
+        return zombies[node];
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private void trim() {
+        type = Arrays.copyOf(type, nodeCount);
+        repeat = Arrays.copyOf(repeat, nodeCount);
+        interval = Arrays.copyOf(interval, nodeCount);
+        child = Arrays.copyOf(child, nodeCount);
+        next = Arrays.copyOf(next, nodeCount);
+        zombies = Arrays.copyOf(zombies, nodeCount);
+    }
+
+    /**
+     * Starts giving out the zombies of the wave.
+     * @param defaultInterval time between spawns for zombies the pattern gives no time for, in seconds
+     * @return a decoder at the first zombie of the wave
+     */
+    public WaveDecoder decoder(float defaultInterval) {
+        return new WaveDecoder(this, defaultInterval);
+    }
+
+    /**
+     * @return the deepest nesting of groups, counting the wave itself
+     */
+    int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return number of zombies in the wave
+     */
+    public long getZombieCount() {
+        return zombieCount;
+    }
+
+    /**
+     * @return how much the health of every zombie in the wave is multiplied
+     */
+    public float getHealthMultiplier() {
+        return healthMultiplier;
+    }
+
+    /**
+     * @return how much the speed of every zombie in the wave is multiplied
+     */
+    public float getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    /**
+     * @return the text the wave was read from
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
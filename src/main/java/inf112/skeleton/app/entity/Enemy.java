@@ -1,13 +1,17 @@
 package inf112.skeleton.app.entity;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
+import inf112.skeleton.app.controller.EnemyHealthIndex;
 import inf112.skeleton.app.enums.Direction;
+import inf112.skeleton.app.enums.RenderLayer;
 import inf112.skeleton.app.level.Level;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.scene.RenderQueue;
+import inf112.skeleton.app.util.EntityPools;
 import inf112.skeleton.app.util.GameAssets;
-import inf112.skeleton.app.util.GameConstants;
-import inf112.skeleton.app.util.MusicManager;
 
 import java.util.LinkedList;
 
@@ -15,26 +19,38 @@ import java.util.LinkedList;
 import static inf112.skeleton.app.util.GameConstants.*;
 
 
-public class Enemy extends GameObject{
+public class Enemy extends GameObject implements Pool.Poolable {
 
-    private final char type;
+    private char type;
     private float currentHealth;
-    private final int reward;
+    private int reward;
     private float speed;
-    private float distanceToTile;
-    private Direction currentDirection;
-    private final LinkedList<Direction> directionLinkedList;
-    private final float spawnDelay;
+    private MapPath path;
+    private float distance;
+    private int segment;
+    private float spawnDelay;
     private float elapsedTimeStart;
+    private long handle = EnemyHandles.NONE;
+    private EnemyHealthIndex healthIndex;
+    private int healthSlot;
 
     private boolean alive = true;
-    private final HealthBar hpBar;
+    private HealthBar hpBar;
     private boolean doubleSpeed;
-    private final float height;
+    private float height;
     public boolean hasEnteredMap;
 
     /**
-     * Creates a new enemy object
+     * Creates an unused enemy for the enemy pool. It is not alive until {@link #init} is called.
+     */
+    public Enemy() {
+        super(0, 0, 0, 0);
+        alive = false;
+        isVisible = false;
+    }
+
+    /**
+     * Creates a new enemy object, with its own path compiled from the given directions
      * @param type char representing which type of zombie this is
      * @param x start position on the x-axis
      * @param y start position on the y-axis
@@ -45,80 +61,152 @@ public class Enemy extends GameObject{
      * @param reward money awarded for killing this zombie
      * @param speed start speed of the zombie
      * @param spawnDelay the delay before the zombie get put on the map
-     * @param texture the visual zombie texture
+     * @param texture the visual zombie texture, or null to use the default texture for the type
      * @param doubleSpeed boolean indicating whether the enemy has double speed active
      */
     public Enemy(char type, float x, float y, float width, float height, float startHealth, LinkedList<Direction> directionLinkedList, int reward, float speed, float spawnDelay, Sprite texture, boolean doubleSpeed){
-        super(x, y, width, height);
-        this.doubleSpeed = false;
+        this(type, new MapPath(new Vector2(x, y), directionLinkedList), width, height, startHealth, reward, speed, spawnDelay, texture, doubleSpeed);
+    }
+
+    /**
+     * Creates a new enemy object at the start of a path
+     * @param type char representing which type of zombie this is
+     * @param path the path to follow, usually shared by all enemies on the map
+     * @param width width of the zombie(gameObject)
+     * @param height height of the zombie(gameObject)
+     * @param startHealth Start health of the zombie
+     * @param reward money awarded for killing this zombie
+     * @param speed start speed of the zombie
+     * @param spawnDelay the delay before the zombie get put on the map
+     * @param texture the visual zombie texture, or null to use the default texture for the type
+     * @param doubleSpeed boolean indicating whether the enemy has double speed active
+     */
+    public Enemy(char type, MapPath path, float width, float height, float startHealth, int reward, float speed, float spawnDelay, Sprite texture, boolean doubleSpeed){
+        super(path.getX(0, 0), path.getY(0, 0), width, height);
+        init(type, path, width, height, startHealth, reward, speed, spawnDelay, texture, doubleSpeed);
+    }
+
+    /**
+     * Places the enemy at the start of a path with new values.
+     * Used both for new enemies and for enemies reused from the enemy pool. The enemy gets its handle
+     * when the enemy controller puts it in the handle table.
+     * @param type char representing which type of zombie this is
+     * @param path the path to follow, usually shared by all enemies on the map
+     * @param width width of the zombie(gameObject)
+     * @param height height of the zombie(gameObject)
+     * @param startHealth Start health of the zombie
+     * @param reward money awarded for killing this zombie
+     * @param speed start speed of the zombie
+     * @param spawnDelay the delay before the zombie get put on the map
+     * @param texture the visual zombie texture, or null to use the default texture for the type
+     * @param doubleSpeed boolean indicating whether the enemy has double speed active
+     */
+    public void init(char type, MapPath path, float width, float height, float startHealth, int reward, float speed, float spawnDelay, Sprite texture, boolean doubleSpeed){
+        float x = path.getX(0, 0);
+        float y = path.getY(0, 0);
+        position.set(x, y);
+        previousPosition.set(x, y);
+        size.set(width, height);
+        center.set(x + width / 2, y + height / 2);
+        boundsRectangle.set(x, y, width, height);
+        isVisible = true;
+
         this.type = type;
         this.height = height;
         this.speed = speed;
-        this.directionLinkedList = new LinkedList<>(directionLinkedList);
+        this.path = path;
+        this.distance = 0;
+        this.segment = 0;
         this.currentHealth = startHealth;
         this.reward = reward;
         this.sprite = texture;
         this.doubleSpeed = doubleSpeed;
+        this.alive = true;
+        this.hasEnteredMap = false;
 
         this.spawnDelay = spawnDelay;
         this.elapsedTimeStart = 0;
 
-        getNextDistance();
-        this.hpBar = new HealthBar(x + 5, y + this.height, width - 10, height / 10, currentHealth);
+        this.hpBar = EntityPools.HEALTH_BARS.obtain();
+        this.hpBar.init(position.x + 5, position.y + this.height, width - 10, height / 10, currentHealth);
+    }
+
+    /**
+     * Clears the enemy when it is given back to the enemy pool.
+     * The health bar goes back to its own pool. The enemy must be taken out of the
+     * {@link EnemyHandles} table first, so bullets still flying towards the enemy can tell that it is gone.
+     */
+    @Override
+    public void reset() {
+        healthIndex = null;
+        alive = false;
+        isVisible = false;
+        path = null;
+        sprite = null;
+        if (hpBar != null) {
+            EntityPools.HEALTH_BARS.free(hpBar);
+            hpBar = null;
+        }
+    }
+
+    /**
+     * Gets an enemy from the enemy pool, placed at the start of a path.
+     * The enemy should be given back with {@link EntityPools#ENEMIES} when it is removed from the game.
+     * @return the enemy
+     * @see #init
+     */
+    public static Enemy obtain(char type, MapPath path, float width, float height, float startHealth, int reward, float speed, float spawnDelay, Sprite texture, boolean doubleSpeed){
+        Enemy enemy = EntityPools.ENEMIES.obtain();
+        enemy.init(type, path, width, height, startHealth, reward, speed, spawnDelay, texture, doubleSpeed);
+        return enemy;
     }
 
     /**
      * Creates a new zombie according to the char
      * @param type char symbolizing the type of zombie
-     * @param level used to access the direction list
+     * @param level used to access the path of the map
      * @param speedMultiplier increases the speed of zombies for each wave
      * @param healthMultiplier increases the health of zombies for each wave
      * @param spawnDelay sets the game time of which the zombie will spawn
      * @param doubleSpeed boolean indicating whether the enemy has double speed active
-     * @return new zombie/enemy with these assigned values
+     * @return new zombie/enemy with these assigned values, taken from the enemy pool
      */
     public static Enemy newEnemy(char type, Level level,float speedMultiplier, float healthMultiplier, float spawnDelay, boolean doubleSpeed) {
         return switch(type) {
-            case 'R'-> new Enemy(
+            case 'R'-> obtain(
                     type,
-                    START_POS.x,
-                    START_POS.y,
+                    level.getMap().getPath(),
                     ENEMY_WIDTH,
                     ENEMY_HEIGHT,
                     (ENEMY_REGULAR_START_HP * healthMultiplier),
-                    level.getMap().getDirections(),
                     ENEMY_REGULAR_BOUNTY,
                     (ENEMY_REGULAR_SPEED * speedMultiplier),
                     (spawnDelay),
-                    GameAssets.zombieSprite,
+                    null,
                     doubleSpeed
             );
-            case 'T' -> new Enemy(
+            case 'T' -> obtain(
                     type,
-                    START_POS.x,
-                    START_POS.y,
+                    level.getMap().getPath(),
                     ENEMY_WIDTH,
                     ENEMY_HEIGHT,
                     (ENEMY_TANK_START_HP * healthMultiplier),
-                    level.getMap().getDirections(),
                     ENEMY_TANK_BOUNTY,
                     (ENEMY_TANK_SPEED * speedMultiplier),
                     (spawnDelay),
-                    GameAssets.tankSprite,
+                    null,
                     doubleSpeed
             );
-            case 'Q' -> new Enemy(
+            case 'Q' -> obtain(
                     type,
-                    START_POS.x,
-                    START_POS.y,
+                    level.getMap().getPath(),
                     ENEMY_WIDTH,
                     ENEMY_HEIGHT,
                     (ENEMY_QUICK_START_HP * healthMultiplier),
-                    level.getMap().getDirections(),
                     ENEMY_QUICK_BOUNTY,
                     (ENEMY_QUICK_SPEED * speedMultiplier),
                     (spawnDelay),
-                    GameAssets.quickzombieSprite,
+                    null,
                     doubleSpeed
             );
             default -> throw new IllegalArgumentException("No available zombie for: " + type);
@@ -126,21 +214,39 @@ public class Enemy extends GameObject{
     }
 
     /**
-     * Called when an enemy is hit by a bullet.
-     * Removes health according to the bullets damage, then checks if the enemy is still alive.
-     * Updates the hpBar according to the new health.
+     * Removes health from the enemy right away, like a hit applied from the damage buffer.
+     * Hits on an enemy that is already dead do nothing.
+     * This method is used for testing. Towers hit enemies through the damage buffer.
      * @param damage the amount of health to remove from the enemy
      */
     public void shot(float damage){
+        applyDamage(damage);
+    }
+
+    /**
+     * Removes health from a living enemy and updates the hpBar, without any sound.
+     * Used when the hits of a whole tick are resolved together.
+     * @param damage the amount of health to remove from the enemy
+     * @return true if this hit killed the enemy
+     */
+    public boolean applyDamage(float damage){
+        if (!alive) {
+            return false;
+        }
         this.currentHealth -= damage;
+        if (healthIndex != null) {
+            healthIndex.healthChanged(healthSlot);
+        }
 
         if (this.currentHealth <= 0){
             alive = false;
             isVisible = false;
-            MusicManager.playZombieDeathScream();
-        } else{
+            return true;
+        }
+        if (hpBar != null){
             hpBar.setHealth(currentHealth);
         }
+        return false;
     }
 
     /**
@@ -153,94 +259,123 @@ public class Enemy extends GameObject{
     }
 
     /**
-     * Returns the direction list of the enemy.
+     * @return the time from the enemy is created until it starts walking
+     */
+    public float getSpawnDelay(){
+        return this.spawnDelay;
+    }
+
+    /**
+     * Returns a copy of the directions of the path the enemy follows.
      * This method is used for testing.
      * @return The direction list of the enemy.
      */
     public LinkedList<Direction> getDirectionLinkedList(){
-        return this.directionLinkedList;
+        return new LinkedList<>(path.getDirections());
     }
 
-    private void getNextDistance(){
-        currentDirection = directionLinkedList.pollFirst();
-        if (currentDirection != null){
-            switch (currentDirection) {
-                case UP:
-                case DOWN:
-                    distanceToTile = GameConstants.TILE_HEIGHT;
-                    break;
-                case RIGHT:
-                case LEFT:
-                    distanceToTile = GameConstants.TILE_WIDTH;
-                    break;
-            }
-        }
+    /**
+     * @return how far along the path the enemy has walked
+     */
+    public float getDistance(){
+        return distance;
+    }
+
+    /**
+     * @return the path the enemy follows
+     */
+    public MapPath getPath(){
+        return path;
+    }
+
+    /**
+     * @return true if the enemy has walked to the end of its path, and should be removed
+     */
+    public boolean hasCompletedPath(){
+        return elapsedTimeStart >= spawnDelay && distance >= path.getEndDistance();
     }
 
     /**
-     * Renders the enemy and its health bar.
-     * @param batch The SpriteBatch used in the project.
+     * Adds the enemy to the render queue, interpolated between the previous and current tick.
+     * The health bar is added separately with {@link #submitHealthBar}.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick
      */
     @Override
-    public void render(SpriteBatch batch){
+    public void submit(RenderQueue queue, float alpha) {
+        if (sprite == null) {
+            sprite = GameAssets.getEnemySprite(type);
+        }
         if (elapsedTimeStart >= spawnDelay) {
-            super.render(batch);
-            hpBar.render(batch);
+            submit(queue, RenderLayer.ENEMIES, alpha);
+        }
+    }
+
+    /**
+     * Adds the health bar above the enemy to the render queue, interpolated between the previous and current tick.
+     * @param queue the render queue of the frame
+     * @param renderer draws the bars of all enemies
+     * @param alpha how far the frame is between the previous and the current tick
+     */
+    public void submitHealthBar(RenderQueue queue, HealthBarRenderer renderer, float alpha) {
+        if (hpBar == null || !isVisible || elapsedTimeStart < spawnDelay) {
+            return;
         }
+        float x = interpolatedX(alpha) + 5;
+        float y = interpolatedY(alpha) + this.height;
+        hpBar.updatePosition(x, y);
+        renderer.submit(queue, x, y, hpBar.size.x, hpBar.size.y, hpBar.getHealthFraction());
     }
 
     /**
-     * Updates the enemy's position and direction according to the elapsed time, speed, and direction.
+     * Moves the enemy along its path according to the elapsed time and speed.
+     * Marks the enemy as entered when it has walked far enough to be on the map.
      * @param elapsedTime The time since the last frame.
      */
     @Override
     public void update(float elapsedTime) {
         super.update(elapsedTime);
         elapsedTimeStart += elapsedTime;
-        if (elapsedTimeStart < spawnDelay || currentDirection == null) {
+        if (elapsedTimeStart < spawnDelay) {
             return;
         }
-        if (distanceToTile <= 0){
-            getNextDistance();
-        }
-        if (currentDirection != null){
-            float movedDistance = speed * elapsedTime;
-
-            switch (currentDirection) {
-                case DOWN:
-                    position.y -= movedDistance;
-                    distanceToTile -= movedDistance;
-                    if (distanceToTile < 0){
-                        position.y += distanceToTile;
-                    }
-                    break;
-                case UP:
-                    position.y += movedDistance;
-                    distanceToTile -= movedDistance;
-                    if (distanceToTile < 0){
-                        position.y += distanceToTile;
-                    }
-                    break;
-                case LEFT:
-                    position.x -= movedDistance;
-                    distanceToTile -= movedDistance;
-                    break;
-                case RIGHT:
-                    position.x += movedDistance;
-                    distanceToTile -= movedDistance;
-                    if (distanceToTile < 0){
-                        position.x += distanceToTile;
-                    }
-                    break;
-
-                default:
-                    break;
-            }
+        distance = Math.min(distance + speed * elapsedTime, path.getLength());
+        segment = path.segmentAt(distance, segment);
+        position.set(path.getX(segment, distance), path.getY(segment, distance));
+        center.set(position.x + size.x / 2, position.y + size.y / 2);
+        if (!hasEnteredMap && distance >= path.getEntryDistance()) {
+            enemyEnteredMap();
         }
-        hpBar.updatePosition(position.x + 5, position.y + this.height);
     }
 
 
+    /**
+     * Returns the handle of the enemy. Something following the enemy can keep the handle instead of the enemy,
+     * and look it up in the {@link EnemyHandles} table of the enemy controller, which finds nothing once the enemy has been removed.
+     * @return the handle of the enemy, or {@link EnemyHandles#NONE} if the enemy is not in the game
+     */
+    public long getHandle(){
+        return handle;
+    }
+
+    /**
+     * Sets the handle of the enemy. Only done by the {@link EnemyHandles} table.
+     * @param handle the handle of the enemy, or {@link EnemyHandles#NONE}
+     */
+    void setHandle(long handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Sets the health index the enemy tells when it is hit.
+     * @param healthIndex the health index the enemy is in, or null if it is in none
+     * @param slot the slot of the enemy in the index
+     */
+    public void setHealthIndex(EnemyHealthIndex healthIndex, int slot) {
+        this.healthIndex = healthIndex;
+        this.healthSlot = slot;
+    }
+
     /**
      * @return true of the enemy is alive
      */
@@ -0,0 +1,91 @@
+package inf112.skeleton.app.entity;
+
+import java.util.Arrays;
+
+/**
+ * Table of the enemies in the game, handed out as handles made of an index into the table and a generation.
+ * When an enemy leaves the game its entry is emptied and the generation of the index goes up,
+ * so old handles to it find nothing in constant time, and the table holds no reference to the enemy.
+ * Bullets and towers keep handles instead of enemies, so they never keep a removed enemy reachable
+ * or follow a pooled enemy object that has been reused for a new enemy.
+ * The enemy controller owns the table, puts enemies in it when they enter the game, and takes them out
+ * before they are given back to the enemy pool.
+ */
+public class EnemyHandles {
+
+    /**
+     * Handle that never finds an enemy.
+     */
+    public static final long NONE = -1;
+
+    private Enemy[] enemies = new Enemy[64];
+    private int[] generations = new int[64];
+    private int[] freeIndexes = new int[64];
+    private int freeCount;
+    private int used;
+
+    /**
+     * Puts an enemy in the table, and gives the enemy its handle.
+     * @param enemy the enemy entering the game
+     * @return the handle of the enemy
+     */
+    public long acquire(Enemy enemy) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("enemy cannot be null.");
+        }
+        int index;
+        if (freeCount > 0) {
+            index = freeIndexes[--freeCount];
+        } else {
+            if (used == enemies.length) {
+                enemies = Arrays.copyOf(enemies, used * 2);
+                generations = Arrays.copyOf(generations, used * 2);
+                freeIndexes = Arrays.copyOf(freeIndexes, used * 2);
+            }
+            index = used++;
+        }
+        enemies[index] = enemy;
+        long handle = (long) generations[index] << 32 | index;
+        enemy.setHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Takes an enemy out of the table, so its handle finds nothing from now on, and the enemy has no handle.
+     * Releasing a handle that finds nothing does nothing.
+     * @param handle the handle of the enemy leaving the game
+     */
+    public void release(long handle) {
+        if (get(handle) == null) {
+            return;
+        }
+        int index = (int) handle;
+        enemies[index].setHandle(NONE);
+        enemies[index] = null;
+        generations[index] = (generations[index] + 1) & Integer.MAX_VALUE;
+        freeIndexes[freeCount++] = index;
+    }
+
+    /**
+     * Looks up an enemy by its handle.
+     * @param handle the handle of the enemy
+     * @return the enemy, or null if it has left the game
+     */
+    public Enemy get(long handle) {
+        if (handle < 0) {
+            return null;
+        }
+        int index = (int) handle;
+        if (index >= used || generations[index] != (int) (handle >>> 32)) {
+            return null;
+        }
+        return enemies[index];
+    }
+
+    /**
+     * @return the number of enemies in the table
+     */
+    public int size() {
+        return used - freeCount;
+    }
+}
@@ -4,9 +4,10 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import inf112.skeleton.app.controller.Render;
+import inf112.skeleton.app.enums.RenderLayer;
+import inf112.skeleton.app.scene.RenderQueue;
 
 
 public abstract class GameObject implements Render {
@@ -15,6 +16,11 @@ public abstract class GameObject implements Render {
      */
     public Vector2 position;
 
+    /**
+     * position at the start of the current tick, used to interpolate rendering between ticks
+     */
+    public Vector2 previousPosition;
+
     /**
      * width and height
      */
@@ -59,6 +65,7 @@ public abstract class GameObject implements Render {
      */
     public GameObject(float xCord, float yCord, float width, float height) {
         this.position = new Vector2(xCord, yCord);
+        this.previousPosition = new Vector2(xCord, yCord);
         this.size = new Vector2(width, height);
         this.center = new Vector2(xCord + width / 2, yCord + height / 2);
         this.boundsRectangle = new Rectangle(xCord, yCord, width, height);
@@ -89,23 +96,40 @@ public abstract class GameObject implements Render {
     }
 
     /**
-     * Renders texture of object of it's visible
-     * @param batch spritebatch
+     * Adds the texture of the object to the render queue if it's visible, interpolated between the previous and current tick
+     * @param queue the render queue of the frame
+     * @param layer the layer the object is drawn in
+     * @param alpha how far the frame is between the previous and the current tick
      */
-    @Override
-    public void render(SpriteBatch batch) {
+    protected void submit(RenderQueue queue, RenderLayer layer, float alpha) {
         if (!isVisible) return;
-        Sprite toDraw = isSelected ? spriteSelected : sprite;
-        if (toDraw != null) {
-            batch.draw(toDraw, position.x, position.y, size.x, size.y);
-        }
+        queue.draw(layer, isSelected ? spriteSelected : sprite, interpolatedX(alpha), interpolatedY(alpha), size.x, size.y);
     }
 
     /**
-     * Updates the bounds of object, used in collision between bullets and enemies
+     * @param alpha how far the frame is between the previous and the current tick
+     * @return the x-coordinate the object should be drawn at
+     */
+    protected float interpolatedX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    /**
+     * @param alpha how far the frame is between the previous and the current tick
+     * @return the y-coordinate the object should be drawn at
+     */
+    protected float interpolatedY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
+
+    /**
+     * Updates the bounds of object, used in collision between bullets and enemies.
+     * Also remembers the position at the start of the tick, so rendering can interpolate from it.
      * @param elapsedTime time since last frame
      */
     public void update(float elapsedTime) {
+        previousPosition.set(position);
+
         //position
         boundsRectangle.x = position.x;
         boundsRectangle.y = position.y;
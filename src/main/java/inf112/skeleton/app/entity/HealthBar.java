@@ -1,20 +1,23 @@
 package inf112.skeleton.app.entity;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
-import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar.*;
-import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Pool;
 
-public class HealthBar extends GameObject {
+/**
+ * The health of an enemy and where its bar is drawn.
+ * The bar itself is drawn by {@link HealthBarRenderer}, together with the bars of all other enemies.
+ */
+public class HealthBar extends GameObject implements Pool.Poolable {
 
-    private final ProgressBar healthBar;
+    private float startHealth;
     private float newHealth;
 
+    /**
+     * Creates an unused health bar for the health bar pool.
+     */
+    public HealthBar() {
+        super(0, 0, 0, 0);
+    }
+
     /**
      * Health bar that visualizes current health for each enemy
      * @param x x coordinate
@@ -25,32 +28,31 @@ public class HealthBar extends GameObject {
      */
     public HealthBar(float x, float y, float width, float height, float startHealth){
         super(x, y, width, height);
-        ProgressBarStyle barStyle = new ProgressBarStyle();
-        barStyle.background = createDrawable((int) width, (int) height, Color.RED);
-        barStyle.knobBefore = createDrawable((int) width, (int) height, Color.GREEN);
-        healthBar = new ProgressBar(0, startHealth, 1, false, barStyle);
-        healthBar.setWidth(width);
-        healthBar.setHeight(height);
-        healthBar.setValue(startHealth);
+        this.startHealth = startHealth;
         this.newHealth = startHealth;
-
     }
 
+    /**
+     * Sets up a health bar taken from the health bar pool.
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param width width of the bar
+     * @param height height of the bar
+     * @param startHealth start health of the bar which will be the max of the bar
+     */
+    public void init(float x, float y, float width, float height, float startHealth){
+        position.set(x, y);
+        previousPosition.set(x, y);
+        size.set(width, height);
+        this.startHealth = startHealth;
+        this.newHealth = startHealth;
+    }
 
     /**
-     * Fills the given part of health bar with given color
-     * @param width width of health bar part
-     * @param height height of health bar part
-     * @param color color to be filled in given part of health bar
-     * @return colored part of the health bar
+     * Nothing to clear, {@link #init} sets every value when the bar is used again.
      */
-    public Drawable createDrawable(int width, int height, Color color){
-        Pixmap map = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        map.setColor(color);
-        map.fill();
-        TextureRegionDrawable drawable = new TextureRegionDrawable(new TextureRegion(new Texture(map)));
-        map.dispose();
-        return drawable;
+    @Override
+    public void reset() {
     }
 
     /**
@@ -69,6 +71,13 @@ public class HealthBar extends GameObject {
         return this.newHealth;
     }
 
+    /**
+     * @return how much of the start health is left, from 0 to 1
+     */
+    public float getHealthFraction() {
+        return startHealth > 0 ? Math.max(0, newHealth) / startHealth : 0;
+    }
+
     /**
      * Updates the position of the HealthBar.
      * @param x The new x-coordinate to set.
@@ -78,17 +87,6 @@ public class HealthBar extends GameObject {
         this.position.set(x, y);
     }
 
-    /**
-     * Renders the HealthBar.
-     * @param batch The SpriteBatch used in the project.
-     */
-    @Override
-    public void render(SpriteBatch batch){
-        healthBar.setValue(this.newHealth);
-        healthBar.setPosition(position.x, position.y);
-        healthBar.draw(batch, 1);
-    }
-
     /**
      * Updates the HealthBar.
      * @param elapsedTime The time since the last update.
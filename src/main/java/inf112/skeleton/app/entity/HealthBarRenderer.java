@@ -0,0 +1,83 @@
+package inf112.skeleton.app.entity;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import inf112.skeleton.app.enums.RenderLayer;
+import inf112.skeleton.app.scene.RenderQueue;
+
+/**
+ * Adds the health bars of all enemies to the render queue from one 1x1 white texture, tinted red for the background
+ * and green for the health that is left. Every bar uses the same texture, so all bars in the
+ * health bar layer go into one sprite batch flush.
+ */
+public class HealthBarRenderer implements Disposable {
+
+    private static final float BACKGROUND_COLOR = Color.RED.toFloatBits();
+    private static final float HEALTH_COLOR = Color.GREEN.toFloatBits();
+
+    private Texture texture;
+    private TextureRegion white;
+    private int barsDrawn;
+
+    /**
+     * Creates the white texture. Done on the first draw, so enemies can be simulated without a graphics backend.
+     */
+    private void createTexture() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        texture = new Texture(pixmap);
+        pixmap.dispose();
+        white = new TextureRegion(texture);
+    }
+
+    /**
+     * Sets the number of drawn bars back to zero. Called before the bars of a frame are added to a render queue.
+     */
+    public void clearBarsDrawn() {
+        barsDrawn = 0;
+    }
+
+    /**
+     * Adds one health bar to the render queue.
+     * @param queue the render queue of the frame
+     * @param x x coordinate of the bar
+     * @param y y coordinate of the bar
+     * @param width width of the full bar
+     * @param height height of the bar
+     * @param fraction how much of the health is left, from 0 to 1
+     */
+    public void submit(RenderQueue queue, float x, float y, float width, float height, float fraction) {
+        if (texture == null) {
+            createTexture();
+        }
+        fraction = Math.max(0, Math.min(1, fraction));
+        queue.draw(RenderLayer.HEALTH_BARS, white, x, y, width, height, BACKGROUND_COLOR);
+        if (fraction > 0) {
+            queue.draw(RenderLayer.HEALTH_BARS, white, x, y, width * fraction, height, HEALTH_COLOR);
+        }
+        barsDrawn++;
+    }
+
+    /**
+     * @return number of bars drawn since the last {@link #clearBarsDrawn}
+     */
+    public int getBarsDrawn() {
+        return barsDrawn;
+    }
+
+    /**
+     * Frees the white texture. It is created again if more bars are drawn afterwards.
+     */
+    @Override
+    public void dispose() {
+        if (texture != null) {
+            texture.dispose();
+            texture = null;
+            white = null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package inf112.skeleton.app.enums;
+
+/**
+ * Enum for the things that happen in a tick and are told to the rest of the game through the game events.
+ */
+public enum GameEventType {
+    /**
+     * A zombie came onto the path. The value is the type of the zombie.
+     */
+    ENEMY_SPAWNED,
+    /**
+     * A killed zombie was removed. The value is the money rewarded for it.
+     */
+    ENEMY_KILLED,
+    /**
+     * A zombie walked the whole path and was removed. The value is the money it would have rewarded.
+     */
+    ENEMY_LEAKED,
+    /**
+     * A tower fired a bullet or a bomb. The value is the ordinal of the {@link BulletType}.
+     */
+    BULLET_FIRED,
+    /**
+     * A tower was built. The value is the price paid for it.
+     */
+    TOWER_BUILT,
+    /**
+     * A wave started. The value is the number of the wave.
+     */
+    WAVE_STARTED
+}
@@ -0,0 +1,9 @@
+package inf112.skeleton.app.enums;
+
+/**
+ * Enum for the layers the game is drawn in, from the bottom to the top.
+ * Everything in a layer is drawn on top of everything in the layers before it.
+ */
+public enum RenderLayer {
+    ENEMIES, HEALTH_BARS, TOWERS, BULLETS, POPUPS, HUD, INDICATORS
+}
@@ -0,0 +1,62 @@
+package inf112.skeleton.app.enums;
+
+/**
+ * Enum for the different sound effects, with the file each one is loaded from,
+ * and how often the effect may be played.
+ */
+public enum SoundEffect {
+    SNIPER_SHOT("snipershot.ogg", 3, 0.1f, 0.6f, false),
+    GUNNER_SHOT("gunnershot.ogg", 4, 0.05f, 0.3f, false),
+    BOMBER_SHOT("bombershot.ogg", 3, 0.1f, 0.5f, false),
+    BOMB_EXPLODE("bombexplosion.ogg", 4, 0.08f, 1.0f, false),
+    ZOMBIE_DEATH("zombiedeathsound.ogg", 4, 0.1f, 1.0f, true);
+
+    private final String fileName;
+    private final int maxVoices;
+    private final float minInterval;
+    private final float voiceLength;
+    private final boolean merged;
+
+    SoundEffect(String fileName, int maxVoices, float minInterval, float voiceLength, boolean merged) {
+        this.fileName = fileName;
+        this.maxVoices = maxVoices;
+        this.minInterval = minInterval;
+        this.voiceLength = voiceLength;
+        this.merged = merged;
+    }
+
+    /**
+     * @return the name of the sound file for this effect
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * @return how many times the effect may be playing at once
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    /**
+     * @return the shortest time in seconds between two starts of the effect
+     */
+    public float getMinInterval() {
+        return minInterval;
+    }
+
+    /**
+     * @return about how long one play of the effect lasts, in seconds
+     */
+    public float getVoiceLength() {
+        return voiceLength;
+    }
+
+    /**
+     * @return true if many plays in the same frame are merged into one louder play
+     */
+    public boolean isMerged() {
+        return merged;
+    }
+}
@@ -0,0 +1,35 @@
+package inf112.skeleton.app.enums;
+
+/**
+ * Enum for which enemy in range a tower picks as its target.
+ */
+public enum TargetingMode {
+    /**
+     * The enemy that has walked the furthest along the path.
+     */
+    FIRST,
+    /**
+     * The enemy that has walked the shortest way along the path.
+     */
+    LAST,
+    /**
+     * The enemy with the most health left.
+     */
+    STRONGEST,
+    /**
+     * The enemy with the least health left.
+     */
+    WEAKEST,
+    /**
+     * The enemy closest to the tower.
+     */
+    CLOSEST;
+
+    /**
+     * @return the mode after this one, starting over after the last
+     */
+    public TargetingMode next() {
+        TargetingMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+}
@@ -0,0 +1,16 @@
+package inf112.skeleton.app.enums;
+
+/**
+ * Enum for when the next wave starts.
+ */
+public enum WaveMode {
+    /**
+     * The next wave starts when all zombies of the waves on the map are gone.
+     */
+    CLEARED,
+    /**
+     * The next wave also starts when the wave interval has passed, even if zombies are left,
+     * so several waves can be on the map at once.
+     */
+    TIMED
+}
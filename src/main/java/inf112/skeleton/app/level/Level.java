@@ -1,22 +1,25 @@
 package inf112.skeleton.app.level;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 
-import inf112.skeleton.app.controller.EnemyEvents;
+import inf112.skeleton.app.controller.FloatingTextController;
+import inf112.skeleton.app.controller.GameEventListener;
+import inf112.skeleton.app.controller.GameEvents;
 import inf112.skeleton.app.controller.WaveController;
+import inf112.skeleton.app.enums.GameEventType;
+import inf112.skeleton.app.enums.WaveMode;
 import inf112.skeleton.app.scene.CameraManager;
 import inf112.skeleton.app.util.MoneyPopup;
 import inf112.skeleton.app.util.GameConstants;
+import inf112.skeleton.app.util.GameEventSounds;
 import inf112.skeleton.app.controller.EnemyController;
 import inf112.skeleton.app.controller.TowerController;
 import inf112.skeleton.app.map.Map;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class Level implements EnemyEvents {
+public class Level implements GameEventListener {
     private int currentWave;
     private int score;
     private int money;
@@ -26,21 +29,26 @@ public class Level implements EnemyEvents {
     private EnemyController enemyController;
     private WaveController waveController;
     private TowerController towerController;
-    private final OrthographicCamera camera;
-    private final CameraManager cameraManager;
+    private CameraManager cameraManager;
     private boolean isPaused;
     private boolean isDoubleSpeedActive = false;
     private final int mapNumber;
-    private final List<MoneyPopup> popups = new ArrayList<>();
+    private final FloatingTextController floatingText = new FloatingTextController();
+    private final GameEvents events = new GameEvents(256);
+    private float tickLength = 1f / GameConstants.TICKS_PER_SECOND;
+    private float accumulator;
+    private float interpolationAlpha = 1f;
+    private long tickCount;
+    private WaveMode waveMode = WaveMode.CLEARED;
+    private float waveInterval = GameConstants.WAVE_INTERVAL;
+    private float waveTimer;
 
     /**
      * Creates a new Level.
+     * The level only holds game state, so it can be created and updated without a libGDX backend.
      * @param mapNumber The number of the map for the level.
      */
     public Level(int mapNumber) {
-        this.camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        this.camera.setToOrtho(false);
-        this.cameraManager = new CameraManager(camera);
         this.mapNumber = mapNumber;
         start();
     }
@@ -52,9 +60,15 @@ public class Level implements EnemyEvents {
         map = new Map(mapNumber);
 
         this.enemyController = new EnemyController(this);
+        enemyController.setPackedStorage(GameConstants.PACKED_ENEMY_STORAGE);
+        enemyController.setEvents(events);
         waveController = new WaveController(enemyController, mapNumber, false);
 
         this.towerController = new TowerController(this);
+        towerController.setEvents(events);
+
+        events.addListener(this);
+        events.addListener(new GameEventSounds());
 
         isPaused = false;
         this.currentWave = 0;
@@ -66,6 +80,10 @@ public class Level implements EnemyEvents {
 
     /**
      * Updates the level based on the elapsed time.
+     * The time is split into ticks of fixed length, so the result does not depend on the frame rate.
+     * Time left over after the last whole tick is carried over to the next frame.
+     * At most {@link GameConstants#MAX_TICKS_PER_FRAME} ticks are run per frame, so a long hitch
+     * slows the game down for a moment instead of making every following frame slower.
      * @param elapsedTime The time between the last frame and the current frame.
      */
     public void update(float elapsedTime) {
@@ -73,34 +91,177 @@ public class Level implements EnemyEvents {
             return;
         }
 
-        map.update(elapsedTime);
-        enemyController.update(elapsedTime);
-        towerController.update(elapsedTime);
+        accumulator += elapsedTime;
+        int ticks = 0;
+        while (accumulator >= tickLength && ticks < GameConstants.MAX_TICKS_PER_FRAME) {
+            tick();
+            accumulator -= tickLength;
+            ticks++;
+        }
+        if (accumulator >= tickLength) {
+            accumulator = 0;
+        }
+        interpolationAlpha = accumulator / tickLength;
+    }
 
-        if(enemyController.getEnemyList().isEmpty()) {
+    /**
+     * Advances the game by exactly one tick.
+     * The events posted during the tick are given to their listeners at the end of it.
+     */
+    public void tick() {
+        map.update(tickLength);
+        enemyController.update(tickLength);
+        towerController.update(tickLength);
+        enemyController.resolveDamage();
+        floatingText.update(tickLength);
+        tickCount++;
+        waveTimer += tickLength;
+
+        if(enemyController.getEnemyCount() == 0 || (waveMode == WaveMode.TIMED && waveTimer >= waveInterval)) {
             nextWave();
         }
+        events.drain();
+    }
+
+    /**
+     * Starts the next wave right away, without waiting for the current wave to end.
+     * The zombies left from earlier waves stay on the map.
+     */
+    public void callNextWave() {
+        if (!isPaused) {
+            nextWave();
+        }
+    }
+
+    /**
+     * Sets when the next wave starts.
+     * @param waveMode {@link WaveMode#CLEARED} to wait for the zombies to be gone, or
+     *                 {@link WaveMode#TIMED} to also start waves when the wave interval has passed
+     */
+    public void setWaveMode(WaveMode waveMode) {
+        this.waveMode = waveMode;
+    }
+
+    /**
+     * @return when the next wave starts
+     */
+    public WaveMode getWaveMode() {
+        return waveMode;
+    }
+
+    /**
+     * Sets the time between the start of two waves in {@link WaveMode#TIMED} mode.
+     * @param seconds time between waves, in seconds of game time
+     */
+    public void setWaveInterval(float seconds) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Wave interval must be positive, was: " + seconds);
+        }
+        this.waveInterval = seconds;
+    }
+
+    /**
+     * @return the time since the current wave started, in seconds of game time
+     */
+    public float getTimeSinceWaveStart() {
+        return waveTimer;
+    }
+
+    /**
+     * Sets how many times per second the game is simulated, independent of the frame rate.
+     * @param ticksPerSecond number of ticks per second of game time
+     */
+    public void setTickRate(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive, was: " + ticksPerSecond);
+        }
+        this.tickLength = 1f / ticksPerSecond;
+        this.accumulator = 0;
+    }
+
+    /**
+     * @return the length of one tick in seconds
+     */
+    public float getTickLength() {
+        return tickLength;
+    }
+
+    /**
+     * @return how many ticks have been simulated since the level was created
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns how far the current frame is between the previous and the current tick.
+     * Used when rendering, to draw moving objects between their two last positions.
+     * @return a value from 0 to 1
+     */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
     }
 
     /**
      * Returns the camera of the level.
+     * The camera is created the first time it is needed, as it is only used for input and rendering.
      * @return The camera of the level.
      */
     public CameraManager getCameraManager() {
+        if (cameraManager == null) {
+            OrthographicCamera camera = new OrthographicCamera(GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+            camera.setToOrtho(false, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+            cameraManager = new CameraManager(camera);
+        }
         return this.cameraManager;
     }
 
     private void nextWave() {
         currentWave++;
-        createWavePopup("Started wave: " + currentWave, Color.WHITE, 0, 0);
+        waveTimer = 0;
+        events.post(GameEventType.WAVE_STARTED, currentWave, 0, 0);
         waveController.newWave(this);
     }
 
+    /**
+     * Updates the money, score, health and popups of the level from the events of a tick.
+     * All zombies killed in the tick are rewarded together, with a single money popup.
+     * @param events the events of the tick
+     */
+    @Override
+    public void onEvents(GameEvents events) {
+        int kills = 0;
+        int reward = 0;
+        for (int i = 0; i < events.size(); i++) {
+            switch (events.getType(i)) {
+                case ENEMY_KILLED:
+                    kills++;
+                    reward += events.getValue(i);
+                    break;
+                case ENEMY_LEAKED:
+                    enemyCompletedPath();
+                    break;
+                case WAVE_STARTED:
+                    createWavePopup(events.getValue(i), Color.WHITE);
+                    break;
+                default:
+                    break;
+            }
+        }
+        enemiesKilled(kills, reward);
+    }
+
+    /**
+     * @return the events of the level, posted during a tick and given to their listeners at the end of it
+     */
+    public GameEvents getEvents() {
+        return events;
+    }
+
     /**
      * Removes users health when enemies manage to go through the whole path.
      * Also changes scene to game over if user has 0 health left.
      */
-    @Override
     public void enemyCompletedPath() {
         userHealth--;
         if (userHealth == 0){
@@ -112,10 +273,21 @@ public class Level implements EnemyEvents {
      * Increases score and money when enemy is killed.
      * @param reward money gathered from killing the enemy
      */
-    @Override
     public void enemyKilled(int reward){
-        score += GameConstants.SCORE_INCREASE;
-        enemiesKilled += 1;
+        enemiesKilled(1, reward);
+    }
+
+    /**
+     * Increases score and money for all enemies killed in one tick, with a single money popup.
+     * @param count number of enemies killed
+     * @param reward money gathered from killing all of them
+     */
+    public void enemiesKilled(int count, int reward){
+        if (count <= 0) {
+            return;
+        }
+        score += GameConstants.SCORE_INCREASE * count;
+        enemiesKilled += count;
         addMoney(reward);
     }
 
@@ -163,6 +335,7 @@ public class Level implements EnemyEvents {
     public void restart() {
         enemyController.clearEnemies();
         towerController.clearDefenders();
+        events.clear();
     }
 
 
@@ -200,7 +373,7 @@ public class Level implements EnemyEvents {
      */
     public void addMoney(int amount) {
         this.money += amount;
-        createMoneyPopup("+$" + amount, Color.GREEN, true);
+        createMoneyPopup("+$", amount, Color.GREEN, true);
     }
 
     /**
@@ -211,31 +384,40 @@ public class Level implements EnemyEvents {
         if (this.money >= amount) {
             this.money -= amount;
             if (!towerController.isSelectedTowerUpgrade()) {
-                createMoneyPopup("-$" + amount, Color.RED, true);
+                createMoneyPopup("-$", amount, Color.RED, true);
             } else {
-                createMoneyPopup("-$" + amount, Color.RED, false);
+                createMoneyPopup("-$", amount, Color.RED, false);
             }
         }
     }
 
-    private void createMoneyPopup(String text, Color color, boolean useDefaultPosition) {
+    private void createMoneyPopup(String prefix, int amount, Color color, boolean useDefaultPosition) {
         float x = 135;
-        float y = Gdx.graphics.getHeight() - 120;
+        float y = GameConstants.SCREEN_HEIGHT - 120;
 
         if (!useDefaultPosition && towerController.getSelectedDefenderUpgrade() != null) {
             x = towerController.getSelectedDefenderUpgrade().center.x;
             y = towerController.getSelectedDefenderUpgrade().center.y + 40;
         }
 
-        MoneyPopup popup = new MoneyPopup(text, x, y, color, 2.0f);
-        popups.add(popup);
+        floatingText.addMoney(prefix, amount, x, y, color);
+    }
+
+    private void createWavePopup(int wave, Color color) {
+        float x = GameConstants.SCREEN_WIDTH / 2.3f;
+        float y = GameConstants.SCREEN_HEIGHT / 1.18f;
+        floatingText.addText("Started wave: ", wave, x, y, color);
     }
 
-    private void createWavePopup(String text, Color color, float x, float y) {
-        x = Gdx.graphics.getWidth() / 2.3f;
-        y = Gdx.graphics.getHeight() / 1.18f;
-        MoneyPopup popup = new MoneyPopup(text, x, y, color, 2.0f);
-        popups.add(popup);
+    /**
+     * Frees what the level holds outside the game state: the textures of the map and the enemies,
+     * the popup font and the thread preparing the next waves. Called when the level ends.
+     */
+    public void dispose() {
+        waveController.dispose();
+        map.dispose();
+        enemyController.dispose();
+        floatingText.dispose();
     }
 
     /**
@@ -244,6 +426,7 @@ public class Level implements EnemyEvents {
      */
     public void setTowerController(TowerController towerController) {
         this.towerController = towerController;
+        towerController.setEvents(events);
     }
 
     /**
@@ -262,10 +445,18 @@ public class Level implements EnemyEvents {
 
     /**
      * Returns the list of money popups for the level.
+     * The popups are moved and removed by the level, so the list should only be used for drawing them.
      * @return The list of money popups for the level.
      */
     public List<MoneyPopup> getPopups() {
-        return popups;
+        return floatingText.getPopups();
+    }
+
+    /**
+     * @return the controller moving and drawing the popups of the level
+     */
+    public FloatingTextController getFloatingText() {
+        return floatingText;
     }
 
     /**
@@ -1,7 +1,6 @@
 package inf112.skeleton.app.map;
 
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import inf112.skeleton.app.util.GameConstants;
@@ -13,6 +12,7 @@ import java.util.Set;
 
 public class Board {
     private final List<Tile> gameBoard;
+    private final Tile[][] tiles;
     private final Set<Vector2> pathPoints;
 
     /**
@@ -22,6 +22,7 @@ public class Board {
     public Board(Set<Vector2> pathPoints) {
         this.pathPoints = pathPoints;
         gameBoard = new ArrayList<>();
+        tiles = new Tile[GameConstants.MAP_ROWS][GameConstants.COLUMN_SIZE];
         createGameBoard();
     }
 
@@ -36,16 +37,62 @@ public class Board {
                 tileXCordStart = x * tileWidth;
                 tileYCordStart = y * tileHeight + GameConstants.UI_ROWS_BOTTOM * tileHeight;
 
-                if (pathPoints.contains(new Vector2(x, y))) {
-                    gameBoard.add(new Tile(tileXCordStart, tileYCordStart, tileWidth, tileHeight, GridType.PATH));
-                }
-                else {
-                    gameBoard.add(new Tile(tileXCordStart, tileYCordStart, tileWidth, tileHeight, GridType.GROUND));
-                }
+                GridType type = pathPoints.contains(new Vector2(x, y)) ? GridType.PATH : GridType.GROUND;
+                Tile tile = new Tile(x, y, tileXCordStart, tileYCordStart, tileWidth, tileHeight, type);
+                tiles[y][x] = tile;
+                gameBoard.add(tile);
             }
         }
     }
 
+    /**
+     * Finds the column of the board an x-coordinate is in.
+     * @param x coordinate
+     * @return the column, which is outside the board if the coordinate is
+     */
+    public static int columnAt(float x) {
+        return (int) Math.floor(x / GameConstants.TILE_WIDTH);
+    }
+
+    /**
+     * Finds the row of the board a y-coordinate is in.
+     * @param y coordinate
+     * @return the row, which is outside the board if the coordinate is
+     */
+    public static int rowAt(float y) {
+        return (int) Math.floor(y / GameConstants.TILE_HEIGHT) - GameConstants.UI_ROWS_BOTTOM;
+    }
+
+    /**
+     * Checks if a column and row is on the board.
+     * @param column column of the tile
+     * @param row row of the tile
+     * @return true if there is a tile at the column and row
+     */
+    public static boolean isOnBoard(int column, int row) {
+        return column >= 0 && column < GameConstants.COLUMN_SIZE && row >= 0 && row < GameConstants.MAP_ROWS;
+    }
+
+    /**
+     * Returns the tile at a column and row.
+     * @param column column of the tile
+     * @param row row of the tile
+     * @return the tile, or null if the column and row is not on the board
+     */
+    public Tile getTile(int column, int row) {
+        return isOnBoard(column, row) ? tiles[row][column] : null;
+    }
+
+    /**
+     * Returns the tile containing a point, by looking it up from the tile coordinates of the point.
+     * @param x coordinate
+     * @param y coordinate
+     * @return the tile, or null if the point is not on the board
+     */
+    public Tile getTileAt(float x, float y) {
+        return getTile(columnAt(x), rowAt(y));
+    }
+
     /**
      * Returns a list of all the tiles in the gameBoard.
      * @return gameBoard
@@ -67,23 +114,10 @@ public class Board {
 
 
     /**
-     * Renders all the tiles in gameBoard
-     * @param batch given tile to be rendered
-     */
-    public void render(SpriteBatch batch) {
-        for (Tile tile : gameBoard) {
-            tile.render(batch);
-        }
-    }
-
-    /**
-     * Updates the tiles on the game board
+     * Updates the game board. All tiles are static, so they are not updated.
      * @param elapsedTime time from previous frame to current frame
      *
      */
     public void update(float elapsedTime) {
-        for (Tile tile : gameBoard) {
-            tile.update(elapsedTime);
-        }
     }
 }
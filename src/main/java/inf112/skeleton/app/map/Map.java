@@ -1,9 +1,8 @@
 package inf112.skeleton.app.map;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 
 import java.util.*;
@@ -11,11 +10,17 @@ import java.util.*;
 import inf112.skeleton.app.enums.Direction;
 import inf112.skeleton.app.controller.Render;
 import inf112.skeleton.app.enums.GridType;
+import inf112.skeleton.app.util.GameConstants;
+import inf112.skeleton.app.util.GameFiles;
 
 public class Map implements Render{
+    private static final Tile OUTSIDE_BOARD = new Tile(-1, -1, 0, 0, GridType.ILLEGALPLACEMENT);
+
     private FileHandle filehandle;
     private LinkedList<Direction> directions;
+    private MapPath path;
     private Board board;
+    private StaticTileLayer tileLayer;
     private final int selectedMap;
 
     /**
@@ -30,14 +35,15 @@ public class Map implements Render{
         selectFileHandle();
         String fileContent = filehandle.readString();
         this.directions = createDirectionList(fileContent);
+        this.path = new MapPath(GameConstants.START_POS, directions);
         Set<Vector2> pathTiles = createPathSet(fileContent);
         board = new Board(pathTiles);
     }
 
     private void selectFileHandle() {
         switch (selectedMap) {
-            case 1 -> filehandle = Gdx.files.internal("maps/map1.txt");
-            case 2 -> filehandle = Gdx.files.internal("maps/map2.txt");
+            case 1 -> filehandle = GameFiles.internal("maps/map1.txt");
+            case 2 -> filehandle = GameFiles.internal("maps/map2.txt");
             default -> throw new IllegalArgumentException("Found no map for the value:  " + selectedMap);
         }
     }
@@ -101,8 +107,26 @@ public class Map implements Render{
         board.render(renderer);
     }
 
-    public void render(SpriteBatch batch) {
-        board.render(batch);
+    /**
+     * Draws the tiles of the map from a cache that is baked the first time it is drawn.
+     * Must be called outside of a sprite batch begin and end.
+     * @param projection the projection matrix of the camera
+     */
+    public void renderTiles(Matrix4 projection) {
+        if (tileLayer == null) {
+            tileLayer = new StaticTileLayer(board);
+        }
+        tileLayer.render(projection);
+    }
+
+    /**
+     * Frees the cached tile layer of the map.
+     */
+    public void dispose() {
+        if (tileLayer != null) {
+            tileLayer.dispose();
+            tileLayer = null;
+        }
     }
 
     /**
@@ -121,6 +145,14 @@ public class Map implements Render{
         return directions;
     }
 
+    /**
+     * Returns the path enemies walk, compiled once from the directions of the map.
+     * @return the path shared by all enemies on the map
+     */
+    public MapPath getPath() {
+        return path;
+    }
+
     /**
      *
      * @return the board
@@ -133,16 +165,11 @@ public class Map implements Render{
      * Returns the selected tile
      * @param x coordinate for tile
      * @param y coordinate for tile
-     * @return the selected tile
+     * @return the selected tile, or a shared illegal placement tile if the point is outside the board
      */
     public Tile getSelectedTile(float x, float y) {
-        List<Tile> gameBoard = this.board.getGameBoard();
-        for (Tile tile : gameBoard) {
-            if (tile.contains(x, y)) {
-                return tile;
-            }
-        }
-        return new Tile(-1, -1, 0, 0, GridType.ILLEGALPLACEMENT);
+        Tile tile = board.getTileAt(x, y);
+        return tile != null ? tile : OUTSIDE_BOARD;
     }
 
     /**
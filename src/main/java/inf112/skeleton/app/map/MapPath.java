@@ -0,0 +1,261 @@
+package inf112.skeleton.app.map;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.enums.Direction;
+import inf112.skeleton.app.util.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The path enemies walk, compiled once from the directions of a map into straight segments.
+ * Each segment knows how far along the path it starts, so an enemy only has to store how far
+ * it has walked, and its position can be looked up from that distance.
+ * The path is immutable, so one path is shared by all enemies on a map.
+ */
+public class MapPath {
+
+    private static final float MIN_X = GameConstants.ENEMY_WIDTH;
+    private static final float MAX_X = GameConstants.SCREEN_WIDTH - GameConstants.ENEMY_WIDTH;
+    private static final float MIN_Y = GameConstants.UI_ROWS_BOTTOM * GameConstants.TILE_HEIGHT - GameConstants.ENEMY_HEIGHT / 2;
+    private static final float MAX_Y = GameConstants.SCREEN_HEIGHT - GameConstants.UI_ROWS_TOP * GameConstants.TILE_HEIGHT - GameConstants.ENEMY_HEIGHT / 2;
+
+    private final List<Direction> directions;
+    private final Direction[] segmentDirections;
+    private final float[] startX;
+    private final float[] startY;
+    private final float[] segmentStart;
+    private final int segments;
+    private final float length;
+    private final float entryDistance;
+    private final float endDistance;
+
+    /**
+     * Compiles a path from a start position and one direction per tile.
+     * Tiles in a row with the same direction become one segment.
+     * @param start position of the bottom left corner of an enemy when it spawns
+     * @param directions the direction to walk on each tile, in order
+     */
+    public MapPath(Vector2 start, List<Direction> directions) {
+        this.directions = Collections.unmodifiableList(new ArrayList<>(directions));
+
+        List<Direction> merged = new ArrayList<>();
+        List<Float> lengths = new ArrayList<>();
+        for (Direction direction : directions) {
+            float tile = tileLength(direction);
+            int last = merged.size() - 1;
+            if (last >= 0 && merged.get(last) == direction) {
+                lengths.set(last, lengths.get(last) + tile);
+            } else {
+                merged.add(direction);
+                lengths.add(tile);
+            }
+        }
+
+        segments = merged.size();
+        segmentDirections = merged.toArray(new Direction[0]);
+        startX = new float[segments + 1];
+        startY = new float[segments + 1];
+        segmentStart = new float[segments + 1];
+        startX[0] = start.x;
+        startY[0] = start.y;
+        for (int i = 0; i < segments; i++) {
+            float segmentLength = lengths.get(i);
+            startX[i + 1] = startX[i] + dx(segmentDirections[i]) * segmentLength;
+            startY[i + 1] = startY[i] + dy(segmentDirections[i]) * segmentLength;
+            segmentStart[i + 1] = segmentStart[i] + segmentLength;
+        }
+        length = segmentStart[segments];
+
+        float entry = length;
+        float end = length;
+        boolean entered = false;
+        for (int i = 0; i < segments; i++) {
+            float segmentLength = segmentStart[i + 1] - segmentStart[i];
+            float[] inside = insideInterval(i, segmentLength);
+            if (!entered) {
+                if (inside != null) {
+                    entered = true;
+                    entry = segmentStart[i] + inside[0];
+                    if (inside[1] < segmentLength) {
+                        end = segmentStart[i] + inside[1];
+                        break;
+                    }
+                }
+            } else if (inside == null || inside[0] > 0) {
+                end = segmentStart[i];
+                break;
+            } else if (inside[1] < segmentLength) {
+                end = segmentStart[i] + inside[1];
+                break;
+            }
+        }
+        this.entryDistance = entry;
+        this.endDistance = end;
+    }
+
+    /**
+     * Finds the part of a segment where an enemy is inside the map, using the same limits as the
+     * old screen bounds test of the enemy controller.
+     * @return the start and end distance along the segment, or null if no part is inside
+     */
+    private float[] insideInterval(int segment, float segmentLength) {
+        float from = 0;
+        float to = segmentLength;
+        float[] range = axisInterval(startX[segment], dx(segmentDirections[segment]), MIN_X, MAX_X);
+        if (range == null) return null;
+        from = Math.max(from, range[0]);
+        to = Math.min(to, range[1]);
+        range = axisInterval(startY[segment], dy(segmentDirections[segment]), MIN_Y, MAX_Y);
+        if (range == null) return null;
+        from = Math.max(from, range[0]);
+        to = Math.min(to, range[1]);
+        return from <= to ? new float[]{from, to} : null;
+    }
+
+    private static float[] axisInterval(float start, float direction, float min, float max) {
+        if (direction == 0) {
+            return start >= min && start <= max ? new float[]{Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY} : null;
+        }
+        float first = (min - start) / direction;
+        float second = (max - start) / direction;
+        return new float[]{Math.min(first, second), Math.max(first, second)};
+    }
+
+    private static float tileLength(Direction direction) {
+        return direction == Direction.UP || direction == Direction.DOWN ? GameConstants.TILE_HEIGHT : GameConstants.TILE_WIDTH;
+    }
+
+    private static float dx(Direction direction) {
+        return direction == Direction.RIGHT ? 1 : direction == Direction.LEFT ? -1 : 0;
+    }
+
+    private static float dy(Direction direction) {
+        return direction == Direction.UP ? 1 : direction == Direction.DOWN ? -1 : 0;
+    }
+
+    /**
+     * Finds the segment an enemy is on, by binary search.
+     * @param distance how far along the path the enemy is
+     * @return index of the segment, the last segment if the distance is past the end of the path
+     */
+    public int segmentAt(float distance) {
+        if (segments == 0) return 0;
+        int low = 0;
+        int high = segments - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (segmentStart[middle] <= distance) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the segment an enemy is on, starting from the segment it was on last time.
+     * Enemies only walk forward a little each tick, so this usually finishes right away.
+     * @param distance how far along the path the enemy is
+     * @param previousSegment the segment the enemy was on before, or 0
+     * @return index of the segment, the last segment if the distance is past the end of the path
+     */
+    public int segmentAt(float distance, int previousSegment) {
+        int segment = Math.max(0, Math.min(previousSegment, segments - 1));
+        if (segment > 0 && segmentStart[segment] > distance) {
+            return segmentAt(distance);
+        }
+        while (segment < segments - 1 && segmentStart[segment + 1] <= distance) {
+            segment++;
+        }
+        return segment;
+    }
+
+    /**
+     * @param segment index of the segment the distance is on
+     * @param distance how far along the path
+     * @return the x-coordinate of the point on the path
+     */
+    public float getX(int segment, float distance) {
+        if (segments == 0) return startX[0];
+        float along = Math.min(distance, length) - segmentStart[segment];
+        return startX[segment] + dx(segmentDirections[segment]) * along;
+    }
+
+    /**
+     * @param segment index of the segment the distance is on
+     * @param distance how far along the path
+     * @return the y-coordinate of the point on the path
+     */
+    public float getY(int segment, float distance) {
+        if (segments == 0) return startY[0];
+        float along = Math.min(distance, length) - segmentStart[segment];
+        return startY[segment] + dy(segmentDirections[segment]) * along;
+    }
+
+    /**
+     * Looks up a point on the path. Distances past the end of the path give the end of the path.
+     * @param distance how far along the path
+     * @param result vector the point is written to
+     * @return the result vector
+     */
+    public Vector2 positionAt(float distance, Vector2 result) {
+        int segment = segmentAt(distance);
+        return result.set(getX(segment, distance), getY(segment, distance));
+    }
+
+    /**
+     * @return the total length of the path
+     */
+    public float getLength() {
+        return length;
+    }
+
+    /**
+     * @return how far along the path an enemy has walked when it enters the map
+     */
+    public float getEntryDistance() {
+        return entryDistance;
+    }
+
+    /**
+     * Returns how far an enemy walks before it has completed the path.
+     * This is where the path leaves the map, or the end of the path if it stays on the map.
+     * @return distance along the path where enemies leave the map
+     */
+    public float getEndDistance() {
+        return endDistance;
+    }
+
+    /**
+     * @return the number of straight segments in the path
+     */
+    public int getSegmentCount() {
+        return segments;
+    }
+
+    /**
+     * @param segment index of the segment
+     * @return how far along the path the segment starts
+     */
+    public float getSegmentStart(int segment) {
+        return segmentStart[segment];
+    }
+
+    /**
+     * @param segment index of the segment
+     * @return the direction enemies walk on the segment
+     */
+    public Direction getSegmentDirection(int segment) {
+        return segmentDirections[segment];
+    }
+
+    /**
+     * @return the directions the path was compiled from, one per tile
+     */
+    public List<Direction> getDirections() {
+        return directions;
+    }
+}
@@ -0,0 +1,148 @@
+package inf112.skeleton.app.map;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * The parts of a path that are within range of a point, as intervals of distance along the path.
+ * Towers never move and the path does not change, so the coverage of a tower is worked out once
+ * when it is built, and again when its range changes. An enemy is within range of the tower
+ * when its distance along the path is inside one of the intervals.
+ */
+public class PathCoverage {
+
+    // Widens the intervals a little, so rounding never leaves out an enemy that is exactly at the edge of the range
+    private static final float MARGIN = 0.5f;
+
+    private final float[] starts;
+    private final float[] ends;
+    private final int intervals;
+    private final float x;
+    private final float y;
+    private final float range;
+
+    private PathCoverage(float[] starts, float[] ends, int intervals, float x, float y, float range) {
+        this.starts = starts;
+        this.ends = ends;
+        this.intervals = intervals;
+        this.x = x;
+        this.y = y;
+        this.range = range;
+    }
+
+    /**
+     * Finds the parts of the path within range of a point.
+     * Each segment of the path is a straight line, so the part of it within range is a single interval.
+     * Intervals that meet at a corner are merged.
+     * @param path the path enemies walk along
+     * @param point the point, usually the center of a tower
+     * @param range the largest distance from the point
+     * @return the coverage of the path
+     */
+    public static PathCoverage of(MapPath path, Vector2 point, float range) {
+        int segments = path.getSegmentCount();
+        float[] starts = new float[Math.max(1, segments)];
+        float[] ends = new float[Math.max(1, segments)];
+        int count = 0;
+
+        if (segments == 0) {
+            float dx = path.getX(0, 0) - point.x;
+            float dy = path.getY(0, 0) - point.y;
+            if (dx * dx + dy * dy <= range * range) {
+                ends[count++] = 0;
+            }
+        }
+        for (int segment = 0; segment < segments; segment++) {
+            float segmentStart = path.getSegmentStart(segment);
+            float segmentLength = path.getSegmentStart(segment + 1) - segmentStart;
+            float directionX = path.getX(segment, segmentStart + segmentLength) - path.getX(segment, segmentStart);
+            float directionY = path.getY(segment, segmentStart + segmentLength) - path.getY(segment, segmentStart);
+            directionX /= segmentLength;
+            directionY /= segmentLength;
+            float offsetX = path.getX(segment, segmentStart) - point.x;
+            float offsetY = path.getY(segment, segmentStart) - point.y;
+
+            // Solve |offset + direction * t| = range for t along the segment
+            float b = directionX * offsetX + directionY * offsetY;
+            float c = offsetX * offsetX + offsetY * offsetY - range * range;
+            float discriminant = b * b - c;
+            if (discriminant < 0) {
+                continue;
+            }
+            float root = (float) Math.sqrt(discriminant);
+            float from = Math.max(0, -b - root);
+            float to = Math.min(segmentLength, -b + root);
+            if (from > to) {
+                continue;
+            }
+            from += segmentStart - MARGIN;
+            to += segmentStart + MARGIN;
+            if (count > 0 && from <= ends[count - 1]) {
+                ends[count - 1] = Math.max(ends[count - 1], to);
+            } else {
+                starts[count] = from;
+                ends[count] = to;
+                count++;
+            }
+        }
+        return new PathCoverage(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), count, point.x, point.y, range);
+    }
+
+    /**
+     * @return the number of intervals
+     */
+    public int getIntervalCount() {
+        return intervals;
+    }
+
+    /**
+     * @param interval index of the interval, ordered along the path
+     * @return the distance along the path where the interval starts
+     */
+    public float getStart(int interval) {
+        return starts[interval];
+    }
+
+    /**
+     * @param interval index of the interval, ordered along the path
+     * @return the distance along the path where the interval ends
+     */
+    public float getEnd(int interval) {
+        return ends[interval];
+    }
+
+    /**
+     * @param distance distance along the path
+     * @return true if the distance is inside one of the intervals
+     */
+    public boolean covers(float distance) {
+        for (int i = 0; i < intervals; i++) {
+            if (distance >= starts[i] && distance <= ends[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the total length of path covered
+     */
+    public float getCoveredLength() {
+        float length = 0;
+        for (int i = 0; i < intervals; i++) {
+            length += ends[i] - starts[i];
+        }
+        return length;
+    }
+
+    /**
+     * Checks if the coverage was made for the given point and range, so it can still be used.
+     * @param point the point, usually the center of a tower
+     * @param range the largest distance from the point
+     * @return true if the coverage matches
+     */
+    public boolean matches(Vector2 point, float range) {
+        return point.x == x && point.y == y && range == this.range;
+    }
+}
@@ -0,0 +1,75 @@
+package inf112.skeleton.app.map;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.List;
+
+/**
+ * The ground and path tiles of a board, baked once into a {@link SpriteCache}.
+ * The tiles never change during a game, so the whole layer is drawn with one cached mesh
+ * instead of one sprite batch draw per tile every frame.
+ */
+public class StaticTileLayer implements Disposable {
+
+    private final Board board;
+    private SpriteCache cache;
+    private int cacheId = -1;
+
+    /**
+     * Creates the layer. Nothing is baked until the first render, so the layer can be created
+     * before the assets are loaded and without a graphics backend.
+     * @param board the board whose tiles are drawn
+     */
+    public StaticTileLayer(Board board) {
+        this.board = board;
+    }
+
+    private void bake() {
+        List<Tile> tiles = board.getGameBoard();
+        cache = new SpriteCache(tiles.size(), false);
+        cache.beginCache();
+        for (Tile tile : tiles) {
+            TextureRegion region = tile.getRegion();
+            if (region != null) {
+                cache.add(region, tile.getX(), tile.getY(), tile.size.x, tile.size.y);
+            }
+        }
+        cacheId = cache.endCache();
+    }
+
+    /**
+     * Draws all tiles. Must be called outside of a sprite batch begin and end.
+     * @param projection the projection matrix of the camera
+     */
+    public void render(Matrix4 projection) {
+        if (cache == null) {
+            bake();
+        }
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        cache.draw(cacheId);
+        cache.end();
+    }
+
+    /**
+     * @return true if the tiles have been baked into the cache
+     */
+    public boolean isBaked() {
+        return cache != null;
+    }
+
+    /**
+     * Frees the cached mesh. The tiles are baked again if the layer is rendered afterwards.
+     */
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+            cacheId = -1;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package inf112.skeleton.app.map;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import inf112.skeleton.app.entity.GameObject;
@@ -10,12 +9,10 @@ import java.util.Random;
 
 public class Tile extends GameObject {
     private final GridType type;
+    private final int textureVariant;
+    private final int column;
+    private final int row;
     private TextureAtlas.AtlasRegion tileTexture;
-    private TextureAtlas.AtlasRegion pathTexture;
-    private TextureAtlas.AtlasRegion groundTexture;
-    private TextureAtlas.AtlasRegion groundTexture2;
-    private TextureAtlas.AtlasRegion groundTexture3;
-    private TextureAtlas.AtlasRegion groundTexture4;
 
 
     /**
@@ -27,45 +24,41 @@ public class Tile extends GameObject {
      * @param type of the tile
      */
     public Tile(float x, float y, float width, float height, GridType type) {
+        this(-1, -1, x, y, width, height, type);
+    }
+
+    /**
+     * Constructor for a tile on the board
+     * @param column column of the tile on the board
+     * @param row row of the tile on the board
+     * @param x coordinate
+     * @param y coordinate
+     * @param width of the tile
+     * @param height of the tile
+     * @param type of the tile
+     */
+    public Tile(int column, int row, float x, float y, float width, float height, GridType type) {
         super(x, y, width, height);
+        this.column = column;
+        this.row = row;
         this.type = type;
-        this.loadTextures();
-        this.setRandomTileTexture();
+        this.textureVariant = type == GridType.GROUND ? new Random().nextInt(4) : 0;
     }
 
     @Override
     public void render(ShapeRenderer shapeRender) {
     }
 
-    private void loadTextures() {
-        pathTexture = GameAssets.pathTexture;
-        groundTexture = GameAssets.groundTexture;
-        groundTexture2 = GameAssets.groundTexture2;
-        groundTexture3 = GameAssets.groundTexture3;
-        groundTexture4 = GameAssets.groundTexture4;
-
-    }
-
-    public void render(SpriteBatch batch) {
-        batch.draw(tileTexture, this.position.x, this.position.y, this.size.x, this.size.y);
-    }
-
-    private void setRandomTileTexture() {
-        if(this.type == GridType.GROUND) {
-            Random random = new Random();
-            int textureIndex = random.nextInt(4);
-
-            this.tileTexture = switch(textureIndex) {
-                case 0 -> groundTexture;
-                case 1 -> groundTexture2;
-                case 2 -> groundTexture3;
-                case 3 -> groundTexture4;
-                default -> throw new IllegalArgumentException("Found no ground texture for:    " + textureIndex);
-            };
-        }
-        else if(this.type == GridType.PATH) {
-            this.tileTexture = pathTexture;
+    /**
+     * Returns the texture of the tile. It is looked up the first time it is needed,
+     * so tiles can be created before the assets are loaded.
+     * @return the texture region of the tile
+     */
+    public TextureAtlas.AtlasRegion getRegion() {
+        if (tileTexture == null) {
+            tileTexture = GameAssets.getTileTexture(type, textureVariant);
         }
+        return tileTexture;
     }
 
     /**
@@ -101,4 +94,20 @@ public class Tile extends GameObject {
     public float getY(){
         return this.position.y;
     }
+
+    /**
+     *
+     * @return column of the tile on the board, or -1 if the tile is not on the board
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     *
+     * @return row of the tile on the board, or -1 if the tile is not on the board
+     */
+    public int getRow() {
+        return row;
+    }
 }
@@ -24,6 +24,9 @@ public abstract class AbstractGameScene implements Screen {
     public abstract void hide ();
     public abstract void pause ();
 
+    /**
+     * Makes sure the assets are loaded. Does nothing if they are loaded already.
+     */
     public void resume () {
         GameAssets.instance.init();
     }
@@ -12,6 +12,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.GameSettings;
 import inf112.skeleton.app.util.MusicManager;
@@ -36,9 +37,8 @@ public class HowToPlayScene extends AbstractGameScene{
     }
 
     private void build() {
-        uiskin = new Skin(Gdx.files.internal(GameConstants.SKIN_UI),
-                new TextureAtlas(GameConstants.TEXTURE_ATLAS_UI));
-        atlas = new TextureAtlas(Gdx.files.internal("zombie.atlas"));
+        uiskin = GameAssets.getInstance().acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
+        atlas = GameAssets.getInstance().acquireAtlas(GameConstants.TEXTURE_ATLAS_UI);
 
         Table layerBackground = buildBg();
         Table layerControls = buildControls();
@@ -157,7 +157,8 @@ public class HowToPlayScene extends AbstractGameScene{
     @Override
     public void hide () {
         stage.dispose();
-        uiskin.dispose();
+        GameAssets.getInstance().releaseSkin(GameConstants.SKIN_UI);
+        GameAssets.getInstance().releaseAtlas(GameConstants.TEXTURE_ATLAS_UI);
     }
     @Override
     public void show () {
@@ -170,7 +171,7 @@ public class HowToPlayScene extends AbstractGameScene{
         if(!GameSettings.getMusic()) {
             MusicManager.stopCurrentMusic();
         } else {
-            MusicManager.play("menumusic.ogg", true);
+            MusicManager.play(GameConstants.MENU_MUSIC, true);
         }
 
     }
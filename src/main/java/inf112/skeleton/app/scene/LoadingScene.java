@@ -0,0 +1,80 @@
+package inf112.skeleton.app.scene;
+
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import inf112.skeleton.app.util.GameAssets;
+import inf112.skeleton.app.util.GameConstants;
+
+/**
+ * The first scene of the game. Loads the assets a little every frame while showing a progress bar,
+ * and moves on to the menu when everything is loaded.
+ * The scene draws only shapes, since the textures it could use are the ones being loaded.
+ */
+public class LoadingScene extends AbstractGameScene {
+
+    private static final int LOAD_MILLIS_PER_FRAME = 15;
+    private static final float BAR_WIDTH = GameConstants.SCREEN_WIDTH / 2;
+    private static final float BAR_HEIGHT = 20;
+
+    private ShapeRenderer shapeRenderer;
+    private OrthographicCamera camera;
+
+    /**
+     * Creates the loading scene. The assets must be queued with {@link GameAssets#queueAll} first.
+     * @param game the game
+     */
+    public LoadingScene(Game game) {
+        super(game);
+    }
+
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+    }
+
+    @Override
+    public void render(float deltaTime) {
+        boolean loaded = GameAssets.getInstance().update(LOAD_MILLIS_PER_FRAME);
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        float x = (GameConstants.SCREEN_WIDTH - BAR_WIDTH) / 2;
+        float y = (GameConstants.SCREEN_HEIGHT - BAR_HEIGHT) / 2;
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.3f, 0.3f, 0.3f, 1);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(1, 1, 1, 1);
+        shapeRenderer.rect(x, y, BAR_WIDTH * GameAssets.getInstance().getProgress(), BAR_HEIGHT);
+        shapeRenderer.end();
+
+        if (loaded) {
+            game.setScreen(new MenuScene(game));
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void hide() {
+        shapeRenderer.dispose();
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    /**
+     * Keeps loading a little every frame, instead of blocking until everything is loaded.
+     */
+    @Override
+    public void resume() {
+    }
+}
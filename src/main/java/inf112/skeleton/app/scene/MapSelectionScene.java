@@ -4,13 +4,13 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.GameSettings;
 import inf112.skeleton.app.util.MusicManager;
@@ -28,8 +28,7 @@ public class MapSelectionScene extends AbstractGameScene {
     }
 
     private void build() {
-        uimenuskin = new Skin(Gdx.files.internal(GameConstants.SKIN_UI),
-                new TextureAtlas(GameConstants.TEXTURE_ATLAS_UI));
+        uimenuskin = GameAssets.getInstance().acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
 
         Table layerBackground = buildBg();
         Table layerControls = buildControls();
@@ -118,7 +117,7 @@ public class MapSelectionScene extends AbstractGameScene {
     @Override
     public void hide () {
         stage.dispose();
-        uimenuskin.dispose();
+        GameAssets.getInstance().releaseSkin(GameConstants.SKIN_UI);
     }
     @Override
     public void show () {
@@ -131,7 +130,7 @@ public class MapSelectionScene extends AbstractGameScene {
         if(!GameSettings.getMusic()) {
             MusicManager.stopCurrentMusic();
         } else {
-            MusicManager.play("menumusic.ogg", true);
+            MusicManager.play(GameConstants.MENU_MUSIC, true);
         }
 
     }
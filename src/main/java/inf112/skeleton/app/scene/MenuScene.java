@@ -3,7 +3,6 @@ package inf112.skeleton.app.scene;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
@@ -14,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.GameSettings;
 import inf112.skeleton.app.util.MusicManager;
@@ -37,8 +37,7 @@ public class MenuScene extends AbstractGameScene {
     }
 
     private void build() {
-        uimenuskin = new Skin(Gdx.files.internal(GameConstants.SKIN_UI),
-                new TextureAtlas(GameConstants.TEXTURE_ATLAS_UI));
+        uimenuskin = GameAssets.getInstance().acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
 
         Table layerBackground = buildBg();
         Table layerControls = buildControls();
@@ -143,7 +142,7 @@ public class MenuScene extends AbstractGameScene {
     @Override
     public void hide () {
         stage.dispose();
-        uimenuskin.dispose();
+        GameAssets.getInstance().releaseSkin(GameConstants.SKIN_UI);
     }
     @Override
     public void show () {
@@ -156,7 +155,7 @@ public class MenuScene extends AbstractGameScene {
         if(!GameSettings.getMusic()) {
             MusicManager.stopCurrentMusic();
         } else {
-            MusicManager.play("menumusic.ogg", true);
+            MusicManager.play(GameConstants.MENU_MUSIC, true);
         }
 
     }
@@ -4,13 +4,13 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.GameSettings;
 
@@ -45,10 +45,8 @@ public class OptionScene extends AbstractGameScene {
 
     // Build the scene
     private void build() {
-        skin = new Skin(Gdx.files.internal(GameConstants.SKIN_UI),
-                new TextureAtlas(GameConstants.TEXTURE_ATLAS_UI));
-        uiskin = new Skin(Gdx.files.internal(GameConstants.PLACEHOLDER_UI),
-                new TextureAtlas(GameConstants.PLACEHOLDER_ATLAS));
+        skin = GameAssets.getInstance().acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
+        uiskin = GameAssets.getInstance().acquireSkin(GameConstants.PLACEHOLDER_UI, GameConstants.PLACEHOLDER_ATLAS);
 
         Table layerBackground = buildBg();
         Table layerControls = buildControls();
@@ -194,7 +192,8 @@ public class OptionScene extends AbstractGameScene {
     @Override
     public void hide () {
         stage.dispose();
-        skin.dispose();
+        GameAssets.getInstance().releaseSkin(GameConstants.SKIN_UI);
+        GameAssets.getInstance().releaseSkin(GameConstants.PLACEHOLDER_UI);
     }
     @Override
     public void pause() {
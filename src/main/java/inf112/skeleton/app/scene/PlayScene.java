@@ -1,6 +1,7 @@
 package inf112.skeleton.app.scene;
 
 import com.badlogic.gdx.*;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.*;
@@ -14,17 +15,22 @@ import inf112.skeleton.app.controller.EnemyController;
 import inf112.skeleton.app.controller.MouseController;
 import inf112.skeleton.app.controller.TowerController;
 import inf112.skeleton.app.enums.DefenderType;
+import inf112.skeleton.app.enums.GridType;
+import inf112.skeleton.app.enums.RenderLayer;
 import inf112.skeleton.app.level.Level;
+import inf112.skeleton.app.map.Tile;
 import inf112.skeleton.app.tower.BaseDefender;
-import inf112.skeleton.app.util.MoneyPopup;
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.GameSettings;
 import inf112.skeleton.app.util.MusicManager;
-import java.util.Iterator;
 
 import static inf112.skeleton.app.util.GameConstants.*;
 
 public class PlayScene extends AbstractGameScene {
+    private static final float LEGAL_PLACEMENT_COLOR = new Color(0, 1, 0, 0.5f).toFloatBits();
+    private static final float ILLEGAL_PLACEMENT_COLOR = new Color(1, 0, 0, 0.5f).toFloatBits();
+
     private Stage stage;
     private Skin uimenuskin;
 
@@ -52,8 +58,10 @@ public class PlayScene extends AbstractGameScene {
     public static OrthographicCamera camera;
     public static int currentMapNumber;
     private BitmapFont bitmapFont;
+    private final StringBuilder infoText = new StringBuilder(32);
+    private final GlyphLayout infoLayout = new GlyphLayout();
+    private final RenderQueue renderQueue = new RenderQueue();
 
-    private TextureAtlas towerAtlas;
 
     /**
      * Constructor for PlayScene
@@ -79,7 +87,6 @@ public class PlayScene extends AbstractGameScene {
         camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         camera.update();
-        towerAtlas = new TextureAtlas("zombie.atlas");
         stage = new Stage(new ScreenViewport(camera), spriteBatch);
 
 
@@ -89,8 +96,7 @@ public class PlayScene extends AbstractGameScene {
      * Setup UI
      */
     private void setupUI() {
-        uimenuskin = new Skin(Gdx.files.internal(GameConstants.SKIN_UI),
-                new TextureAtlas(GameConstants.TEXTURE_ATLAS_UI));
+        uimenuskin = GameAssets.getInstance().acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
         Table layerControls = buildControls();
         Stack stack = new Stack();
         stage.addActor(stack);
@@ -285,17 +291,15 @@ public class PlayScene extends AbstractGameScene {
         level.update(deltaTime);
         spriteBatch.setProjectionMatrix(camera.combined);
 
-        spriteBatch.begin();
-        level.getMap().render(spriteBatch);
-        enemyController.render(spriteBatch);
-        towerController.render(spriteBatch);
-        spriteBatch.end();
-
-        renderMoneyPopup();
+        float alpha = level.getInterpolationAlpha();
+        level.getMap().renderTiles(camera.combined);
+        enemyController.submit(renderQueue, alpha);
+        towerController.submit(renderQueue, alpha);
+        level.getFloatingText().submit(renderQueue);
         visibilityUpgradeButtons();
-        renderInfo(spriteBatch);
+        submitInfo();
         towerPlacementIndicator();
-        towerUpgradeIndicator();
+        renderQueue.flush(spriteBatch);
         towerRangeIndicator();
 
         // Render game world to screen
@@ -306,20 +310,6 @@ public class PlayScene extends AbstractGameScene {
         }
     }
 
-    private void renderMoneyPopup() {
-        spriteBatch.begin();
-        Iterator<MoneyPopup> iter = level.getPopups().iterator();
-        while (iter.hasNext()) {
-            MoneyPopup popup = iter.next();
-            if (popup.update(Gdx.graphics.getDeltaTime())) {
-                iter.remove();
-            } else {
-                popup.draw(spriteBatch);
-            }
-        }
-        spriteBatch.end();
-    }
-
     private void visibilityUpgradeButtons() {
         if (towerController.isSelectedTowerUpgrade()) {
             speedUpgradeButton.setVisible(true);
@@ -335,44 +325,35 @@ public class PlayScene extends AbstractGameScene {
     }
 
     private TextureRegion getTowerRegion(DefenderType type) {
+        TextureAtlas atlas = GameAssets.getInstance().getAtlas();
         switch (type) {
             case GUNNER:
-                return towerAtlas.findRegion("gunna1");
+                return atlas.findRegion("gunna1");
             case SNIPER:
-                return towerAtlas.findRegion("snipa0");
+                return atlas.findRegion("snipa0");
             case BOMBER:
-                return towerAtlas.findRegion("bomba0");
+                return atlas.findRegion("bomba0");
             default:
                 return null;
         }
     }
 
     private void towerPlacementIndicator() {
-        spriteBatch.begin();
         if (towerController.isTowerSelected()) {
-            if (towerController.legalPlacement(Gdx.input.getX(), SCREEN_HEIGHT - Gdx.input.getY())) {
-                spriteBatch.setColor(0, 1, 0, 0.5f);
+            float x = Gdx.input.getX();
+            float y = SCREEN_HEIGHT - Gdx.input.getY();
+            float color = towerController.legalPlacement(x, y) ? LEGAL_PLACEMENT_COLOR : ILLEGAL_PLACEMENT_COLOR;
+            Tile tile = level.getMap().getSelectedTile(x, y);
+            if (tile.getType() == GridType.ILLEGALPLACEMENT) {
+                x -= TOWER_SIZE/2;
+                y -= TOWER_SIZE/2;
             } else {
-                spriteBatch.setColor(1, 0, 0, 0.5f);
+                x = tile.getX();
+                y = tile.getY();
             }
             TextureRegion region = getTowerRegion(towerController.getSelectedTowerType());
-            spriteBatch.draw(region, Gdx.input.getX() - TOWER_SIZE/2, SCREEN_HEIGHT - Gdx.input.getY() - TOWER_SIZE/2, TOWER_SIZE, TOWER_SIZE);
+            renderQueue.draw(RenderLayer.INDICATORS, region, x, y, TOWER_SIZE, TOWER_SIZE, color);
         }
-        spriteBatch.end();
-    }
-
-    private void towerUpgradeIndicator() {
-        spriteBatch.begin();
-        spriteBatch.enableBlending();
-        for (BaseDefender tower : towerController.getDefenderList()) {
-            if (tower == towerController.getSelectedDefenderUpgrade()) {
-                spriteBatch.setColor(0, 1, 1, 1);
-            } else {
-                spriteBatch.setColor(1, 1, 1, 1);
-            }
-            tower.render(spriteBatch);
-        }
-        spriteBatch.end();
     }
 
     private void towerRangeIndicator() {
@@ -387,37 +368,46 @@ public class PlayScene extends AbstractGameScene {
         }
     }
 
-    private void renderInfo(SpriteBatch batch){
-        spriteBatch.begin();
+    /**
+     * Writes a label and a value into the shared info text, so no string is created every frame.
+     * The text is only valid until the next call.
+     */
+    private CharSequence infoText(String label, int value) {
+        infoText.setLength(0);
+        return infoText.append(label).append(value);
+    }
 
-        String scoreText = "Score: " + level.getScore();
-        String moneyText = "Money: " + level.getMoney();
-        String waveText = "Wave: " + level.getCurrentWave();
-        String enemiesText = "Enemies killed: " + level.getEnemiesKilled();
-        String healthText = "Health: " + level.getUserHealth();
+    /**
+     * Adds a line of the info text to the render queue.
+     * @return the x-coordinate right after the text
+     */
+    private float submitInfoText(CharSequence text, float xCord, float yCord) {
+        infoLayout.setText(bitmapFont, text);
+        renderQueue.text(RenderLayer.HUD, bitmapFont, text, xCord, yCord, Color.WHITE);
+        return xCord + infoLayout.width;
+    }
 
+    private void submitInfo(){
         float xCord = 10;
         float yCord = GameConstants.SCREEN_HEIGHT - 20;
         int padding = 20;
 
-        GlyphLayout glyphScore = bitmapFont.draw(batch, scoreText, xCord, yCord);
-        xCord += glyphScore.width + padding;
-
-        GlyphLayout glyphMoney = bitmapFont.draw(batch, moneyText, xCord, yCord);
-        xCord += glyphMoney.width + padding;
-
-        GlyphLayout glyphHealth = bitmapFont.draw(batch, enemiesText, xCord, yCord);
-        xCord += glyphHealth.width + padding;
-
-        bitmapFont.draw(batch, healthText, xCord, yCord);
+        xCord = submitInfoText(infoText("Score: ", level.getScore()), xCord, yCord) + padding;
+        xCord = submitInfoText(infoText("Money: ", level.getMoney()), xCord, yCord) + padding;
+        xCord = submitInfoText(infoText("Enemies killed: ", level.getEnemiesKilled()), xCord, yCord) + padding;
+        submitInfoText(infoText("Health: ", level.getUserHealth()), xCord, yCord);
 
         xCord = GameConstants.SCREEN_WIDTH / 2;
-        GlyphLayout glyphWave = new GlyphLayout();
-        glyphWave.setText(bitmapFont, waveText);
-
-        bitmapFont.draw(batch, waveText, xCord - glyphWave.width / 2, yCord);
+        CharSequence waveText = infoText("Wave: ", level.getCurrentWave());
+        infoLayout.setText(bitmapFont, waveText);
+        renderQueue.text(RenderLayer.HUD, bitmapFont, waveText, xCord - infoLayout.width / 2, yCord, Color.WHITE);
+    }
 
-        spriteBatch.end();
+    /**
+     * @return the queue the play scene is drawn with, which counts the draws and batch flushes of the last frame
+     */
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
     }
 
 
@@ -437,7 +427,7 @@ public class PlayScene extends AbstractGameScene {
         InputMultiplexer inputMultiplexer = new InputMultiplexer(stage, new MouseController(towerController, enemyController, level));
         Gdx.input.setInputProcessor(inputMultiplexer);
         if(GameSettings.getMusic()) {
-            MusicManager.play("gamemusic.ogg", true);
+            MusicManager.play(GAME_MUSIC, true);
         }
     }
 
@@ -446,9 +436,10 @@ public class PlayScene extends AbstractGameScene {
     public void hide () {
         MusicManager.stopCurrentMusic();
         spriteBatch.dispose();
+        level.dispose();
         Gdx.input.setCatchBackKey(false);
         stage.dispose();
-        uimenuskin.dispose();
+        GameAssets.getInstance().releaseSkin(GameConstants.SKIN_UI);
     }
 
     @Override
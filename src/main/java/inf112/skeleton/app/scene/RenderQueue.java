@@ -0,0 +1,226 @@
+package inf112.skeleton.app.scene;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import inf112.skeleton.app.enums.RenderLayer;
+
+import java.util.Arrays;
+
+/**
+ * Collects everything drawn in a frame, and draws it all in one sprite batch begin and end.
+ * The draws are sorted by layer, and within a layer by texture, so the batch has to switch texture,
+ * and flush, as few times as possible. Draws in the same layer with the same texture keep their order.
+ * The commands are reused from frame to frame, so a frame does not create garbage once the queue has grown.
+ */
+public class RenderQueue {
+
+    private static final int SEQUENCE_BITS = 24;
+    private static final int TEXTURE_BITS = 16;
+    private static final float WHITE = Color.WHITE.toFloatBits();
+
+    private static class Command {
+        TextureRegion region;
+        BitmapFont font;
+        final StringBuilder text = new StringBuilder();
+        final Color textColor = new Color();
+        float x, y, originX, originY, width, height, rotation;
+        float color;
+    }
+
+    private Command[] commands = new Command[256];
+    private long[] keys = new long[256];
+    private int size;
+    private Texture[] textures = new Texture[8];
+    private int textureCount;
+
+    private int drawCalls;
+    private int batchFlushes;
+    private int textureSwitches;
+
+    /**
+     * Removes all draws from the queue. Called at the start of every frame.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            commands[i].region = null;
+            commands[i].font = null;
+        }
+        size = 0;
+        Arrays.fill(textures, 0, textureCount, null);
+        textureCount = 0;
+    }
+
+    /**
+     * Queues a region drawn in white.
+     * @param layer the layer to draw in
+     * @param region the region to draw
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param width width
+     * @param height height
+     */
+    public void draw(RenderLayer layer, TextureRegion region, float x, float y, float width, float height) {
+        draw(layer, region, x, y, 0, 0, width, height, 0, WHITE);
+    }
+
+    /**
+     * Queues a tinted region.
+     * @param layer the layer to draw in
+     * @param region the region to draw
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param width width
+     * @param height height
+     * @param color the tint, packed with {@link Color#toFloatBits()}
+     */
+    public void draw(RenderLayer layer, TextureRegion region, float x, float y, float width, float height, float color) {
+        draw(layer, region, x, y, 0, 0, width, height, 0, color);
+    }
+
+    /**
+     * Queues a tinted region rotated around its origin.
+     * @param layer the layer to draw in
+     * @param region the region to draw
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param originX x coordinate of the point rotated around, relative to x
+     * @param originY y coordinate of the point rotated around, relative to y
+     * @param width width
+     * @param height height
+     * @param rotation rotation in degrees, counter clockwise
+     * @param color the tint, packed with {@link Color#toFloatBits()}
+     */
+    public void draw(RenderLayer layer, TextureRegion region, float x, float y, float originX, float originY,
+                     float width, float height, float rotation, float color) {
+        if (region == null) {
+            return;
+        }
+        Command command = add(layer, region.getTexture());
+        command.region = region;
+        command.x = x;
+        command.y = y;
+        command.originX = originX;
+        command.originY = originY;
+        command.width = width;
+        command.height = height;
+        command.rotation = rotation;
+        command.color = color;
+    }
+
+    /**
+     * Queues a text. The text is copied, so the caller can change it right after.
+     * @param layer the layer to draw in
+     * @param font the font to draw with
+     * @param text the text
+     * @param x x coordinate of the left side of the text
+     * @param y y coordinate of the top of the text
+     * @param color the color of the text
+     */
+    public void text(RenderLayer layer, BitmapFont font, CharSequence text, float x, float y, Color color) {
+        Command command = add(layer, font.getRegion().getTexture());
+        command.font = font;
+        command.text.setLength(0);
+        command.text.append(text);
+        command.textColor.set(color);
+        command.x = x;
+        command.y = y;
+    }
+
+    private Command add(RenderLayer layer, Texture texture) {
+        if (size == commands.length) {
+            commands = Arrays.copyOf(commands, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        if (commands[size] == null) {
+            commands[size] = new Command();
+        }
+        keys[size] = ((long) layer.ordinal() << (TEXTURE_BITS + SEQUENCE_BITS))
+                | ((long) textureIndex(texture) << SEQUENCE_BITS)
+                | size;
+        return commands[size++];
+    }
+
+    /**
+     * Gives each texture a number in the order it is first seen this frame, so draws can be sorted by texture.
+     */
+    private int textureIndex(Texture texture) {
+        for (int i = 0; i < textureCount; i++) {
+            if (textures[i] == texture) {
+                return i;
+            }
+        }
+        if (textureCount == textures.length) {
+            textures = Arrays.copyOf(textures, textureCount * 2);
+        }
+        textures[textureCount] = texture;
+        return textureCount++;
+    }
+
+    /**
+     * Sorts the queued draws and draws them all between one begin and end of the batch,
+     * then clears the queue. The batch must not be drawing already.
+     * @param batch the batch to draw with
+     */
+    public void flush(SpriteBatch batch) {
+        Arrays.sort(keys, 0, size);
+        textureSwitches = 0;
+        Texture lastTexture = null;
+
+        batch.begin();
+        for (int i = 0; i < size; i++) {
+            Command command = commands[(int) (keys[i] & ((1 << SEQUENCE_BITS) - 1))];
+            Texture texture;
+            if (command.font != null) {
+                texture = command.font.getRegion().getTexture();
+                command.font.setColor(command.textColor);
+                command.font.draw(batch, command.text, command.x, command.y);
+            } else {
+                texture = command.region.getTexture();
+                batch.setPackedColor(command.color);
+                batch.draw(command.region, command.x, command.y, command.originX, command.originY,
+                        command.width, command.height, 1, 1, command.rotation);
+            }
+            if (texture != lastTexture) {
+                textureSwitches++;
+                lastTexture = texture;
+            }
+        }
+        batch.setPackedColor(WHITE);
+        batch.end();
+
+        drawCalls = size;
+        batchFlushes = batch.renderCalls;
+        clear();
+    }
+
+    /**
+     * @return number of draws queued since the last flush or clear
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of draws in the last flushed frame
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * @return number of times the batch sent its vertices to the graphics card in the last flushed frame
+     */
+    public int getBatchFlushes() {
+        return batchFlushes;
+    }
+
+    /**
+     * @return number of times the texture changed between two draws in the last flushed frame
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+}
@@ -1,14 +1,24 @@
 package inf112.skeleton.app.tower;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import inf112.skeleton.app.entity.Bullet;
+import inf112.skeleton.app.controller.DamageBuffer;
+import inf112.skeleton.app.controller.EnemyHealthIndex;
+import inf112.skeleton.app.controller.EnemyPathIndex;
+import inf112.skeleton.app.controller.EnemySpatialIndex;
+import inf112.skeleton.app.controller.ProjectileSystem;
 import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
 import inf112.skeleton.app.entity.GameObject;
 import inf112.skeleton.app.enums.DefenderType;
+import inf112.skeleton.app.enums.RenderLayer;
+import inf112.skeleton.app.enums.TargetingMode;
+import inf112.skeleton.app.map.PathCoverage;
+import inf112.skeleton.app.scene.RenderQueue;
+import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 
 import java.util.*;
@@ -16,18 +26,32 @@ import java.util.*;
 public abstract class BaseDefender extends GameObject {
 
     protected List<Enemy> enemies;
-    protected List<Bullet> bullets;
-    protected HashMap<Enemy, Float> enemyDistanceMap;
+    protected EnemySpatialIndex enemyIndex;
+    private ProjectileSystem projectiles;
+    private DamageBuffer damageBuffer;
+    protected EnemyPathIndex pathIndex;
+    protected EnemyHealthIndex healthIndex;
+    protected TargetingMode targetingMode = TargetingMode.CLOSEST;
+    protected PathCoverage coverage;
     protected DefenderType defenderType;
+    protected String regionName;
     private boolean isSelected = false;
-    private Vector2 direction;
+    private final Vector2 direction = new Vector2();
+    private final Rectangle hitBox = new Rectangle();
+    private final Rectangle boundingRectangle = new Rectangle();
     private boolean isSelectedDefender = false;
+    private int column = -1;
+    private int row = -1;
 
-    protected Enemy enemy;
+    private EnemyHandles enemyHandles;
+    private long enemyHandle = EnemyHandles.NONE;
+    // Place of the target in the enemy list, used instead of the handle when there is no handle table
+    private int targetIndex = -1;
     protected float range;
     protected float damage;
 
     protected float rotation = 0;
+    protected boolean flipX = false;
     protected float speedCounter = 0;
     protected float speed = 2f; // per second
 
@@ -49,8 +73,6 @@ public abstract class BaseDefender extends GameObject {
         attackPrice = GameConstants.TOWER_ATTACK_PRICE;
         rangePrice = GameConstants.TOWER_RANGE_PRICE;
         speedPrice = GameConstants.TOWER_SPEED_PRICE;
-
-        bullets = new ArrayList<>();
     }
 
     @Override
@@ -65,63 +87,85 @@ public abstract class BaseDefender extends GameObject {
     @Override
     public void update(float deltaTime){
         super.update(deltaTime);
-        updateEnemyMap();
-        for (Bullet bullet : bullets) {
-            bullet.update(deltaTime);
-        }
-        if (getEnemy() == null) {
+        Enemy enemy = getEnemy();
+        if (enemy == null) {
             findTarget();
             return;
         }
-        if (getEnemy().isAlive() && enemyDistanceMap.containsKey(enemy)) {
-            checkRotation();
+        if (enemy.isAlive() && isInRange(enemy)) {
+            checkRotation(enemy);
             startFiring(deltaTime);
         } else {
-            enemy = null;
+            enemyHandle = EnemyHandles.NONE;
+            targetIndex = -1;
         }
-        removeBullet();
     }
 
+    /**
+     * Looks up the target of the defender by its handle. A defender that has not been given a handle table,
+     * like one made on its own with just a list of enemies, looks its target up in that list instead.
+     * @return the target, or null if the defender has none or the target has been removed
+     */
     public Enemy getEnemy(){
-        return this.enemy;
+        if (enemyHandles != null) {
+            return enemyHandles.get(enemyHandle);
+        }
+        return enemies != null && targetIndex >= 0 && targetIndex < enemies.size() ? enemies.get(targetIndex) : null;
     }
 
+    /**
+     * Finds a target for a bullet that has lost its enemy: the target of the defender,
+     * or a new target if the current one is dead or out of range.
+     * @return the enemy to send the bullet after, or null if there is nothing left to shoot at
+     */
+    public Enemy findNewTarget() {
+        Enemy enemy = getEnemy();
+        if (enemy == null || !enemy.isAlive() || !isInRange(enemy)) {
+            enemy = findTarget();
+        }
+        return enemy;
+    }
+
+    /**
+     * Adds the defender to the render queue. Its bullets are added by the owner of the projectile system.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick. Defenders do not move, so it is not used
+     */
     @Override
-    public void render(SpriteBatch batch) {
-        if (sprite == null || spriteSelected == null) {
-            Gdx.app.error("BaseDefender", "Sprite textures are not initialized!");
+    public void submit(RenderQueue queue, float alpha) {
+        submit(queue, alpha, Color.WHITE_FLOAT_BITS);
+    }
+
+    /**
+     * Adds the defender, tinted with the given color, to the render queue.
+     * @param queue the render queue of the frame
+     * @param alpha how far the frame is between the previous and the current tick. Defenders do not move, so it is not used
+     * @param color the tint of the defender, packed with {@link Color#toFloatBits()}
+     */
+    public void submit(RenderQueue queue, float alpha, float color) {
+        if (!prepareSprites()) {
             return;
         }
+        queue.draw(RenderLayer.TOWERS, isSelected ? spriteSelected : sprite, position.x, position.y,
+                size.x / 2, size.y / 2, size.x, size.y, rotation, color);
+    }
 
-        if (isSelected) {
-            batch.draw(
-                    spriteSelected,
-                    position.x,
-                    position.y,
-                    size.x / 2,
-                    size.y / 2,
-                    size.x,
-                    size.y,
-                    1,
-                    1,
-                    rotation);
-        } else {
-            batch.draw(
-                    sprite,
-                    position.x,
-                    position.y,
-                    size.x / 2,
-                    size.y / 2,
-                    size.x,
-                    size.y,
-                    1,
-                    1,
-                    rotation);
+    /**
+     * Loads the sprites from the atlas if they are not loaded yet, and flips them to the way the defender is facing.
+     * @return false if the sprites could not be loaded
+     */
+    private boolean prepareSprites() {
+        if ((sprite == null || spriteSelected == null) && regionName != null && GameAssets.getInstance().getAtlas() != null) {
+            initializeSprites(GameAssets.getInstance().getAtlas(), regionName, regionName);
         }
-
-        for (Bullet bullet : bullets) {
-            bullet.render(batch);
+        if (sprite == null || spriteSelected == null) {
+            Gdx.app.error("BaseDefender", "Sprite textures are not initialized!");
+            return false;
+        }
+        if (sprite.isFlipX() != flipX) {
+            sprite.flip(true, false);
         }
+        return true;
     }
 
 
@@ -154,21 +198,17 @@ public abstract class BaseDefender extends GameObject {
 
     /**
      * Calculates the rotation between the center of BaseDefender and enemy
+     * @param enemy the target of the defender
      */
-    private void checkRotation(){
-        if (enemy != null) {
-            direction = new Vector2(enemy.center).sub(center);
-            float angle = direction.angleDeg();
-            boolean shouldFlip = direction.x < 0;
-            if (sprite.isFlipX() != shouldFlip) {
-                sprite.flip(true, false);
-            }
-            if (shouldFlip) {
-                rotation = angle - 180;
-                if (rotation < 0) rotation += 360;
-            }else {
-                rotation = angle;
-            }
+    private void checkRotation(Enemy enemy){
+        direction.set(enemy.center).sub(center);
+        float angle = direction.angleDeg();
+        flipX = direction.x < 0;
+        if (flipX) {
+            rotation = angle - 180;
+            if (rotation < 0) rotation += 360;
+        }else {
+            rotation = angle;
         }
     }
     public float getRotation(){
@@ -199,54 +239,213 @@ public abstract class BaseDefender extends GameObject {
     }
 
     /**
-     * Removes bullet if bullet is not visible, which means it is outside of map or hit target.
+     * Checks if an enemy is close enough to be shot at
+     * @param enemy the enemy to check
+     * @return true if the enemy is within range of the base defender
      */
-    private void removeBullet(){
-        List<Bullet> tempList = new ArrayList<>();
-        for (Bullet bullet : bullets) {
-            if (!bullet.isVisible()) {
-                tempList.add(bullet);
-            }
+    private boolean isInRange(Enemy enemy) {
+        return center.dst2(enemy.position) <= range * range;
+    }
+
+    /**
+     * Finds a new target for the defender, and keeps only its handle, so the defender can tell when it is removed.
+     * Without a handle table the place of the target in the enemy list is kept instead.
+     * @return the new target, or null if no living enemy is in range
+     */
+    private Enemy findTarget() {
+        Enemy enemy = pickTarget();
+        enemyHandle = enemy != null ? enemy.getHandle() : EnemyHandles.NONE;
+        targetIndex = enemy != null && enemyHandles == null && enemies != null ? enemies.indexOf(enemy) : -1;
+        return enemy;
+    }
+
+    /**
+     * Picks the enemy in range the targeting mode of the defender asks for.
+     * Uses the path index when the defender knows which parts of the path it covers,
+     * together with the health bounds of its buckets for the modes that follow health.
+     * Closest enemies are found through the path index or the spatial index.
+     * Without the indexes every enemy is checked.
+     * @return the picked enemy, or null if no living enemy is in range
+     */
+    private Enemy pickTarget() {
+        boolean covered = pathIndex != null && coverage != null && coverage.matches(center, range);
+        switch (targetingMode) {
+            case FIRST:
+                return covered ? pathIndex.findFirst(center, range, coverage) : findInList();
+            case LAST:
+                return covered ? pathIndex.findLast(center, range, coverage) : findInList();
+            case STRONGEST:
+                return covered && healthIndex != null ? healthIndex.findStrongest(center, range, coverage) : findInList();
+            case WEAKEST:
+                return covered && healthIndex != null ? healthIndex.findWeakest(center, range, coverage) : findInList();
+            default:
+                break;
+        }
+        if (covered) {
+            return pathIndex.findClosest(center, range, coverage);
+        }
+        if (enemyIndex != null) {
+            return enemyIndex.findClosest(center, range);
         }
-        bullets.removeAll(tempList);
+        return findInList();
     }
 
     /**
-     * Updates the hashmap containing distance from enemies to the center of the base defender
+     * Checks every enemy in the list for the one the targeting mode picks.
+     * @return the picked enemy, or null if no living enemy is in range
      */
-    private void updateEnemyMap() {
-        enemyDistanceMap = new HashMap<>();
-        for (Enemy enemy : enemies) {
-            float distance = center.dst(enemy.position);
-            if (distance <= range && enemy.isAlive()) {
-                enemyDistanceMap.put(enemy, distance);
-            }
-            else {
-                enemyDistanceMap.remove(enemy);
+    private Enemy findInList() {
+        Enemy best = null;
+        float bestScore = Float.MAX_VALUE;
+
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy candidate = enemies.get(i);
+            float score = score(candidate);
+            if (score < bestScore && candidate.isAlive() && isInRange(candidate)) {
+                best = candidate;
+                bestScore = score;
             }
         }
+        return best;
     }
 
     /**
-     * Finds the closest enemy to the base defender
+     * @return how good a target the enemy is for the targeting mode, lower is better
      */
-    private void findTarget() {
-        Enemy closestEnemy = null;
-        float closestDistance = Float.MAX_VALUE;
+    private float score(Enemy candidate) {
+        switch (targetingMode) {
+            case FIRST:
+                return -candidate.getDistance();
+            case LAST:
+                return candidate.getDistance();
+            case STRONGEST:
+                return -candidate.getEnemyHealth();
+            case WEAKEST:
+                return candidate.getEnemyHealth();
+            default:
+                return center.dst2(candidate.position);
+        }
+    }
 
-        for (Map.Entry<Enemy, Float> entry : enemyDistanceMap.entrySet()) {
-            if (entry.getValue() < closestDistance) {
-                closestEnemy = entry.getKey();
-                closestDistance = entry.getValue();
-            }
+    /**
+     * Sets the index used to find enemies near the defender.
+     * @param enemyIndex spatial index of the enemies, or null to check every enemy in the list
+     */
+    public void setEnemyIndex(EnemySpatialIndex enemyIndex) {
+        this.enemyIndex = enemyIndex;
+    }
+
+    /**
+     * Sets the index used to find enemies on the parts of the path the defender covers.
+     * @param pathIndex path index of the enemies, or null to not use it
+     */
+    public void setPathIndex(EnemyPathIndex pathIndex) {
+        this.pathIndex = pathIndex;
+    }
+
+    /**
+     * Sets the handle table the defender looks up its target in.
+     * @param enemyHandles the handle table of the enemy controller, or null to look the target up in the enemy list
+     */
+    public void setEnemyHandles(EnemyHandles enemyHandles) {
+        this.enemyHandles = enemyHandles;
+    }
+
+    /**
+     * Sets the buffer the hits of the defender are collected in, to be applied at the end of the tick.
+     * A defender must have one before it hits anything.
+     * @param damageBuffer damage buffer of the enemy controller
+     */
+    public void setDamageBuffer(DamageBuffer damageBuffer) {
+        this.damageBuffer = damageBuffer;
+    }
+
+    /**
+     * Hits an enemy with a bullet or bomb fired by the defender.
+     * The hit goes into the damage buffer, and is applied with the other hits of the tick.
+     * @param enemy the enemy that was hit
+     * @param damage the amount of health to remove from the enemy
+     * @throws IllegalStateException if the defender has not been given a damage buffer
+     */
+    public void dealDamage(Enemy enemy, float damage) {
+        if (damageBuffer == null) {
+            throw new IllegalStateException("Defender has no damage buffer to deal damage into.");
+        }
+        damageBuffer.add(enemy, damage);
+    }
+
+    /**
+     * Sets the index used to find the strongest and weakest enemies.
+     * @param healthIndex health index of the enemies, or null to check every enemy in the list
+     */
+    public void setHealthIndex(EnemyHealthIndex healthIndex) {
+        this.healthIndex = healthIndex;
+    }
+
+    /**
+     * Changes which enemy in range the defender picks. The current target is kept until it dies or leaves the range.
+     * @param targetingMode the new targeting mode
+     */
+    public void setTargetingMode(TargetingMode targetingMode) {
+        if (targetingMode == null) {
+            throw new IllegalArgumentException("targetingMode cannot be null.");
         }
+        this.targetingMode = targetingMode;
+    }
 
-        this.enemy = closestEnemy;
+    /**
+     * @return which enemy in range the defender picks
+     */
+    public TargetingMode getTargetingMode() {
+        return targetingMode;
+    }
+
+    /**
+     * Sets the parts of the path within range of the defender. It is only used while it matches
+     * the position and range of the defender, so it must be set again when the range changes.
+     * @param coverage the parts of the path within range, or null to not use the path index
+     */
+    public void setCoverage(PathCoverage coverage) {
+        this.coverage = coverage;
+    }
+
+    /**
+     * @return the parts of the path within range of the defender, or null if they are not known
+     */
+    public PathCoverage getCoverage() {
+        return coverage;
+    }
+
+    /**
+     * Remembers which tile of the board the defender stands on.
+     * @param column column of the tile
+     * @param row row of the tile
+     */
+    public void setTile(int column, int row) {
+        this.column = column;
+        this.row = row;
+    }
+
+    /**
+     * @return column of the tile the defender stands on, or -1 if it is not placed on the board
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * @return row of the tile the defender stands on, or -1 if it is not placed on the board
+     */
+    public int getRow() {
+        return row;
     }
 
     // getters and setters
+    /**
+     * @return the hit box of the defender. The same rectangle is reused for every call.
+     */
     public Rectangle getHitBox(){
-        return new Rectangle(position.x + size.x/2, position.y + size.y/4, size.x /8, size.y / 2);
+        return hitBox.set(position.x + size.x/2, position.y + size.y/4, size.x /8, size.y / 2);
     }
 
     public void setSpeed(float attackSpeed) {
@@ -281,14 +480,30 @@ public abstract class BaseDefender extends GameObject {
     public void selectedDefender(boolean selectedDefender){
         isSelectedDefender = selectedDefender;
     }
+    /**
+     * @return the bounds of the defender. The same rectangle is reused for every call.
+     */
     public Rectangle getBoundingRectangle() {
-        return new Rectangle(position.x, position.y, size.x, size.y);
+        return boundingRectangle.set(position.x, position.y, size.x, size.y);
+    }
+
+    /**
+     * Sets the projectile system the defender fires into. The owner of the system updates and draws the projectiles.
+     * A defender must have one before it fires.
+     * @param projectiles the shared projectile system
+     */
+    public void setProjectiles(ProjectileSystem projectiles) {
+        this.projectiles = projectiles;
     }
 
     /**
-     * @return list of bullets shot by the enemy
+     * @return the projectile system the defender fires into
+     * @throws IllegalStateException if the defender has not been given a projectile system
      */
-    public List<Bullet> getBullets() {
-        return bullets;
+    public ProjectileSystem getProjectiles() {
+        if (projectiles == null) {
+            throw new IllegalStateException("Defender has no projectile system to fire into.");
+        }
+        return projectiles;
     }
 }
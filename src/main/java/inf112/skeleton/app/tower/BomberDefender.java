@@ -1,19 +1,18 @@
 package inf112.skeleton.app.tower;
 
 import com.badlogic.gdx.math.Vector2;
-import inf112.skeleton.app.entity.Bullet;
 import inf112.skeleton.app.entity.Enemy;
-import inf112.skeleton.app.enums.BulletType;
 import inf112.skeleton.app.enums.DefenderType;
-import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.MusicManager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class BomberDefender extends BaseDefender{
 
     private final float explosionRadius;
+    private final List<Enemy> splashTargets = new ArrayList<>();
 
     /**
      * Create a defender that throws bombs, yielding a high radius of damage
@@ -27,24 +26,31 @@ public class BomberDefender extends BaseDefender{
         damage = GameConstants.TOWER_DAMAGE_BOMBER;
         explosionRadius = GameConstants.BOMBER_EXPLOSION_RADIUS;
         price = GameConstants.TOWER_PRICE_BOMBER;
-        initializeSprites(GameAssets.getInstance().getAtlas(), "bomba0", "bomba0");
+        regionName = "bomba0";
 
 
     }
 
     /**
-     * Deal damage to enemies within the bomb explosion radius based on their distance to the bomb impact
+     * Deal damage to enemies within the bomb explosion radius based on their distance to the bomb impact.
+     * Only the enemies near the impact are checked when the defender has a spatial index.
      * @param impactPoint position where bomb explodes
      * @param explosionRadius radius in which the bomb deals damage
      * @param maxDamage amount of damage dealt by bomb
      */
     public void applyAreaDamage(Vector2 impactPoint, float explosionRadius, float maxDamage) {
-        for (Enemy enemy : enemies) {
+        List<Enemy> targets = enemies;
+        if (enemyIndex != null) {
+            enemyIndex.findInRadius(impactPoint, explosionRadius, splashTargets);
+            targets = splashTargets;
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            Enemy enemy = targets.get(i);
             float impactDistance = impactPoint.dst(enemy.center);
             if (impactDistance <= explosionRadius) {
                 float damageReductionFactor = impactDistance / explosionRadius;
                 float damageToApply = maxDamage * (1 - damageReductionFactor);
-                enemy.shot(damageToApply);
+                dealDamage(enemy, damageToApply);
             }
         }
     }
@@ -54,11 +60,8 @@ public class BomberDefender extends BaseDefender{
      */
     @Override
     public void projectileFire() {
-        Bullet bullet = new Bullet(center.x, center.y, enemy, damage, BulletType.BOMBER_BULLET);
-        bullet.setExplosionRadius(explosionRadius);
+        getProjectiles().fireBomb(this, center.x, center.y, getEnemy(), damage, explosionRadius);
         MusicManager.playBomberShot();
-        bullet.setBomberDefender(this);
-        bullets.add(bullet);
     }
 
 
@@ -1,10 +1,8 @@
 package inf112.skeleton.app.tower;
 
-import inf112.skeleton.app.entity.Bullet;
 import inf112.skeleton.app.entity.Enemy;
 import inf112.skeleton.app.enums.BulletType;
 import inf112.skeleton.app.enums.DefenderType;
-import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.MusicManager;
 
@@ -21,7 +19,7 @@ public class GunnerDefender extends BaseDefender {
     public GunnerDefender(float x, float y, List<Enemy> enemyList) {
         super(x, y, enemyList);
         defenderType = DefenderType.GUNNER;
-        initializeSprites(GameAssets.getInstance().getAtlas(), "gunna0", "gunna0");
+        regionName = "gunna0";
         damage = GameConstants.TOWER_DAMAGE_GUNNER;
         range = GameConstants.TOWER_RANGE;
         price = GameConstants.TOWER_PRICE_GUNNER;
@@ -33,6 +31,6 @@ public class GunnerDefender extends BaseDefender {
     @Override
     public void projectileFire() {
         MusicManager.playGunnerShot();
-        bullets.add(new Bullet(center.x, center.y, enemy, damage, BulletType.GUNNER_BULLET));
+        getProjectiles().fire(this, center.x, center.y, getEnemy(), damage, BulletType.GUNNER_BULLET);
     }
 }
@@ -1,10 +1,8 @@
 package inf112.skeleton.app.tower;
 
-import inf112.skeleton.app.entity.Bullet;
 import inf112.skeleton.app.entity.Enemy;
 import inf112.skeleton.app.enums.BulletType;
 import inf112.skeleton.app.enums.DefenderType;
-import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import inf112.skeleton.app.util.MusicManager;
 
@@ -28,7 +26,7 @@ public class SniperDefender extends BaseDefender{
         range = GameConstants.TOWER_RANGE_SNIPER;
         speed = GameConstants.TOWER_SPEED_SNIPER;
         price = GameConstants.TOWER_PRICE_SNIPER;
-        initializeSprites(GameAssets.getInstance().getAtlas(), "snipa0", "snipa0");
+        regionName = "snipa0";
 
         fireRate = 3.0f;
         lastFireTime = 0;
@@ -60,8 +58,9 @@ public class SniperDefender extends BaseDefender{
      */
     @Override
     public void projectileFire() {
-        if (lastFireTime >= fireRate && !enemies.isEmpty()) {
-                bullets.add(new Bullet(center.x, center.y, enemy, damage, BulletType.SNIPER_BULLET));
+        Enemy enemy = getEnemy();
+        if (lastFireTime >= fireRate && enemy != null) {
+                getProjectiles().fire(this, center.x, center.y, enemy, damage, BulletType.SNIPER_BULLET);
                 lastFireTime = 0;
             MusicManager.playSniperShot();
         }
@@ -0,0 +1,129 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable game objects that counts how it is used.
+ * Unlike {@link Pool#max}, the cap on how many free objects are kept can be changed while the game runs.
+ * Objects freed while the pool is full are reset and left to the garbage collector.
+ * @param <T> type of the pooled objects
+ */
+public class EntityPool<T extends Pool.Poolable> extends Pool<T> {
+
+    private final Supplier<T> factory;
+    private int cap;
+    private int created;
+    private int obtained;
+    private int freed;
+    private int discarded;
+
+    /**
+     * Creates an empty pool.
+     * @param factory creates new objects when the pool is empty
+     * @param initialCapacity number of free objects there is room for before the pool has to grow
+     * @param cap largest number of free objects the pool keeps
+     */
+    public EntityPool(Supplier<T> factory, int initialCapacity, int cap) {
+        super(initialCapacity, Integer.MAX_VALUE);
+        this.factory = factory;
+        this.cap = cap;
+    }
+
+    @Override
+    protected T newObject() {
+        created++;
+        return factory.get();
+    }
+
+    @Override
+    public T obtain() {
+        obtained++;
+        return super.obtain();
+    }
+
+    /**
+     * Puts an object back in the pool, or throws it away if the pool already holds as many free objects as the cap.
+     * The object is reset either way, and must not be used by the caller afterwards.
+     * @param object the object to free
+     */
+    @Override
+    public void free(T object) {
+        if (object == null) {
+            throw new IllegalArgumentException("object cannot be null.");
+        }
+        freed++;
+        if (getFree() >= cap) {
+            discarded++;
+            discard(object);
+            return;
+        }
+        super.free(object);
+    }
+
+    /**
+     * Changes how many free objects the pool keeps.
+     * If the pool holds more free objects than the new cap, they are all thrown away.
+     * @param cap largest number of free objects the pool keeps
+     */
+    public void setCap(int cap) {
+        this.cap = cap;
+        if (getFree() > cap) {
+            clear();
+        }
+    }
+
+    /**
+     * @return largest number of free objects the pool keeps
+     */
+    public int getCap() {
+        return cap;
+    }
+
+    /**
+     * @return number of objects the pool has created
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * @return number of objects handed out by the pool, new or reused
+     */
+    public int getObtained() {
+        return obtained;
+    }
+
+    /**
+     * @return number of objects given back to the pool
+     */
+    public int getFreed() {
+        return freed;
+    }
+
+    /**
+     * @return number of freed objects thrown away because the pool was full
+     */
+    public int getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * @return number of objects handed out and not given back yet
+     */
+    public int getInUse() {
+        return obtained - freed;
+    }
+
+    /**
+     * Sets all counters back to zero. The free objects are kept.
+     */
+    public void resetMetrics() {
+        created = 0;
+        obtained = 0;
+        freed = 0;
+        discarded = 0;
+        peak = getFree();
+    }
+}
@@ -0,0 +1,52 @@
+package inf112.skeleton.app.util;
+
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.HealthBar;
+
+/**
+ * The pools shared by the whole game, for the objects that are created and thrown away all the time.
+ * Objects are given back to their pool by whoever removes them from the game:
+ * the enemy controller frees enemies, and enemies free their health bars.
+ */
+public final class EntityPools {
+
+    /**
+     * Enemies walking the path.
+     */
+    public static final EntityPool<Enemy> ENEMIES =
+            new EntityPool<>(Enemy::new, 64, GameConstants.POOL_CAP);
+
+    /**
+     * Health bars drawn above the enemies.
+     */
+    public static final EntityPool<HealthBar> HEALTH_BARS =
+            new EntityPool<>(HealthBar::new, 64, GameConstants.POOL_CAP);
+
+    /**
+     * Popups showing money going in and out.
+     */
+    public static final EntityPool<MoneyPopup> MONEY_POPUPS =
+            new EntityPool<>(MoneyPopup::new, 16, GameConstants.POOL_CAP);
+
+    private EntityPools() {
+    }
+
+    /**
+     * Changes how many free objects each pool keeps.
+     * @param cap largest number of free objects kept by each pool
+     */
+    public static void setCap(int cap) {
+        ENEMIES.setCap(cap);
+        HEALTH_BARS.setCap(cap);
+        MONEY_POPUPS.setCap(cap);
+    }
+
+    /**
+     * Sets the counters of all pools back to zero.
+     */
+    public static void resetMetrics() {
+        ENEMIES.resetMetrics();
+        HEALTH_BARS.resetMetrics();
+        MONEY_POPUPS.resetMetrics();
+    }
+}
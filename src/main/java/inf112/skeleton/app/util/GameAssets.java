@@ -2,15 +2,35 @@ package inf112.skeleton.app.util;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.SkinLoader;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import inf112.skeleton.app.enums.BulletType;
+import inf112.skeleton.app.enums.GridType;
+import inf112.skeleton.app.enums.SoundEffect;
 
+/**
+ * Loads and keeps the textures, atlases and skins of the game.
+ * All assets are loaded through one {@link AssetManager}, which counts how many times each asset is in use.
+ * Scenes get their skins and atlases with the acquire methods and give them back with the release methods,
+ * so every scene shares the same instances, and an asset is unloaded when nothing uses it anymore.
+ * At startup all assets of the game, textures, skins, sounds and music, are queued with {@link #queueAll}
+ * and loaded a little every frame with {@link #update}, so the window stays responsive while loading.
+ */
 public class GameAssets implements Disposable {
 
     public static final GameAssets instance = new GameAssets();
     private final AssetManager assetManager = new AssetManager();
+    private final Array<Texture> residentTextures = new Array<>();
     private TextureAtlas atlas;
+    private boolean queued;
+    private boolean loaded;
 
     public static TextureAtlas.AtlasRegion playButtonUp;
     public static TextureAtlas.AtlasRegion playButtonDown;
@@ -52,10 +72,68 @@ public class GameAssets implements Disposable {
         return instance;
     }
 
+    /**
+     * Loads all assets of the game before returning. Does nothing if they are loaded already,
+     * so it is safe to call again, for example when the game is resumed.
+     */
     public void init() {
+        if (loaded) {
+            return;
+        }
+        queueAll();
+        assetManager.finishLoading();
+        onLoaded();
+    }
+
+    /**
+     * Queues all assets of the game on the asset manager, without loading anything yet.
+     * Calling it more than once queues the assets only once.
+     */
+    public void queueAll() {
+        if (queued) {
+            return;
+        }
+        queued = true;
         assetManager.load(GameConstants.TEXTURE_ATLAS_UI, TextureAtlas.class);
-        assetManager.finishLoading(); // Blocks until all assets are loaded
+        // Kept for the whole game, so switching between scenes never loads the skin again
+        assetManager.load(GameConstants.SKIN_UI, Skin.class, new SkinLoader.SkinParameter(GameConstants.TEXTURE_ATLAS_UI));
+        for (SoundEffect effect : SoundEffect.values()) {
+            assetManager.load(effect.getFileName(), Sound.class);
+        }
+        assetManager.load(GameConstants.MENU_MUSIC, Music.class);
+        assetManager.load(GameConstants.GAME_MUSIC, Music.class);
+    }
+
+    /**
+     * Loads queued assets for at most the given time. Called every frame while the game is loading.
+     * @param millis how long the call may spend loading
+     * @return true when all assets are loaded
+     */
+    public boolean update(int millis) {
+        if (!loaded && assetManager.update(millis)) {
+            onLoaded();
+        }
+        return loaded;
+    }
 
+    /**
+     * @return how much of the queued assets is loaded, from 0 to 1
+     */
+    public float getProgress() {
+        return loaded ? 1 : assetManager.getProgress();
+    }
+
+    /**
+     * @return true when all assets of the game are loaded
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Looks up the regions and sprites in the loaded atlas.
+     */
+    private void onLoaded() {
         atlas = assetManager.get(GameConstants.TEXTURE_ATLAS_UI, TextureAtlas.class);
         if (atlas == null) {
             Gdx.app.error("GameAssets", "Failed to load TextureAtlas: " + GameConstants.TEXTURE_ATLAS_UI);
@@ -100,6 +178,7 @@ public class GameAssets implements Disposable {
             Gdx.app.error("GameAssets", "One or more texture regions not found!");
             throw new RuntimeException("One or more texture regions not found!");
         }
+        loaded = true;
     }
 
     /**
@@ -113,12 +192,191 @@ public class GameAssets implements Disposable {
         return sprite;
     }
 
+    /**
+     * Returns the sprite used to draw a zombie of the given type.
+     * @param type char representing the type of zombie
+     * @return the sprite for the zombie, or null if the assets are not loaded
+     */
+    public static Sprite getEnemySprite(char type) {
+        return switch (type) {
+            case 'T' -> tankSprite;
+            case 'Q' -> quickzombieSprite;
+            default -> zombieSprite;
+        };
+    }
+
+    /**
+     * Returns the sprite used to draw a bullet of the given type.
+     * @param type the type of the bullet
+     * @return the sprite for the bullet, or null if the assets are not loaded
+     */
+    public static Sprite getBulletSprite(BulletType type) {
+        return switch (type) {
+            case GUNNER_BULLET -> gunnerBulletSprite;
+            case SNIPER_BULLET -> sniperBulletSprite;
+            case BOMBER_BULLET -> bomberBulletSprite;
+        };
+    }
+
+    /**
+     * Returns the texture used to draw a tile.
+     * @param type the type of the tile
+     * @param variant which of the ground textures to use for ground tiles, from 0 to 3
+     * @return the texture for the tile, or null if the tile has no texture
+     */
+    public static TextureAtlas.AtlasRegion getTileTexture(GridType type, int variant) {
+        if (type == GridType.PATH) {
+            return pathTexture;
+        }
+        if (type != GridType.GROUND) {
+            return null;
+        }
+        return switch (variant) {
+            case 0 -> groundTexture;
+            case 1 -> groundTexture2;
+            case 2 -> groundTexture3;
+            case 3 -> groundTexture4;
+            default -> throw new IllegalArgumentException("Found no ground texture for:    " + variant);
+        };
+    }
 
     public TextureAtlas getAtlas() {
         return atlas;
     }
+
+    /**
+     * @param effect the sound effect
+     * @return the loaded sound, or null if it is not loaded yet
+     */
+    public Sound getSound(SoundEffect effect) {
+        return get(effect.getFileName(), Sound.class);
+    }
+
+    /**
+     * @param fileName the music file
+     * @return the loaded music, or null if it is not loaded
+     */
+    public Music getMusic(String fileName) {
+        return get(fileName, Music.class);
+    }
+
+    private <T> T get(String fileName, Class<T> type) {
+        return assetManager.isLoaded(fileName, type) ? assetManager.get(fileName, type) : null;
+    }
+
+    /**
+     * Gets a skin shared by all scenes. The skin and its atlas are loaded the first time they are asked for.
+     * Every call must be matched by a call to {@link #releaseSkin} when the skin is no longer used.
+     * @param skinFile the json file of the skin
+     * @param atlasFile the atlas the skin takes its regions from
+     * @return the shared skin
+     */
+    public Skin acquireSkin(String skinFile, String atlasFile) {
+        if (assetManager.isLoaded(skinFile, Skin.class)) {
+            addReference(skinFile);
+        } else {
+            assetManager.load(skinFile, Skin.class, new SkinLoader.SkinParameter(atlasFile));
+            assetManager.finishLoadingAsset(skinFile);
+        }
+        return assetManager.get(skinFile, Skin.class);
+    }
+
+    /**
+     * Gives back a skin from {@link #acquireSkin}. The skin, and its atlas if nothing else uses it,
+     * is unloaded when it is given back as many times as it was acquired.
+     * @param skinFile the json file of the skin
+     */
+    public void releaseSkin(String skinFile) {
+        release(skinFile);
+    }
+
+    /**
+     * Gets a texture atlas shared by all scenes. The atlas is loaded the first time it is asked for.
+     * Every call must be matched by a call to {@link #releaseAtlas} when the atlas is no longer used.
+     * @param atlasFile the atlas file
+     * @return the shared atlas
+     */
+    public TextureAtlas acquireAtlas(String atlasFile) {
+        if (assetManager.isLoaded(atlasFile, TextureAtlas.class)) {
+            addReference(atlasFile);
+        } else {
+            assetManager.load(atlasFile, TextureAtlas.class);
+            assetManager.finishLoadingAsset(atlasFile);
+        }
+        return assetManager.get(atlasFile, TextureAtlas.class);
+    }
+
+    /**
+     * Counts one more use of a loaded asset and of everything it depends on, like loading it again would.
+     * Only the asset itself is waited for, so assets still queued by the loading scene keep loading a bit per frame.
+     * @param fileName the file of a loaded asset
+     */
+    private void addReference(String fileName) {
+        assetManager.setReferenceCount(fileName, assetManager.getReferenceCount(fileName) + 1);
+        Array<String> dependencies = assetManager.getDependencies(fileName);
+        if (dependencies != null) {
+            for (String dependency : dependencies) {
+                addReference(dependency);
+            }
+        }
+    }
+
+    /**
+     * Gives back an atlas from {@link #acquireAtlas}. The atlas is unloaded when it is given back
+     * as many times as it was acquired, and no skin uses it.
+     * @param atlasFile the atlas file
+     */
+    public void releaseAtlas(String atlasFile) {
+        release(atlasFile);
+    }
+
+    private void release(String fileName) {
+        if (!assetManager.isLoaded(fileName)) {
+            Gdx.app.error("GameAssets", "Released an asset that is not loaded: " + fileName);
+            return;
+        }
+        assetManager.unload(fileName);
+    }
+
+    /**
+     * @param fileName the file of an asset
+     * @return how many times the asset is in use, 0 if it is not loaded
+     */
+    public int getReferenceCount(String fileName) {
+        return assetManager.isLoaded(fileName) ? assetManager.getReferenceCount(fileName) : 0;
+    }
+
+    /**
+     * Adds up the size of all textures loaded by the asset manager, as they are stored on the graphics card.
+     * @return the number of bytes used by the loaded textures
+     */
+    public long getResidentTextureBytes() {
+        residentTextures.clear();
+        assetManager.getAll(Texture.class, residentTextures);
+        long bytes = 0;
+        for (Texture texture : residentTextures) {
+            bytes += (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture);
+        }
+        residentTextures.clear();
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Texture texture) {
+        if (texture.getTextureData() == null || texture.getTextureData().getFormat() == null) {
+            return 4;
+        }
+        return switch (texture.getTextureData().getFormat()) {
+            case Alpha, Intensity -> 1;
+            case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+            case RGB888 -> 3;
+            case RGBA8888 -> 4;
+        };
+    }
     @Override
     public void dispose() {
         assetManager.dispose(); // Dispose of the asset manager and by extension all assets it loaded
+        atlas = null;
+        queued = false;
+        loaded = false;
     }
 }
@@ -12,6 +12,10 @@ public class GameConstants {
     public static final String SKIN_UI = "skin.json";
     public static final String PLACEHOLDER_ATLAS = "uiskin.atlas";
     public static final String PLACEHOLDER_UI = "uiskin.json";
+    public static final String MENU_MUSIC = "menumusic.ogg";
+    public static final String GAME_MUSIC = "gamemusic.ogg";
+    public static final int MUSIC_CACHE_SIZE = 2;
+    public static final float MUSIC_FADE_TIME = 0.5f;
 
     public static float UI_WIDTH = 860;
     public static float UI_HEIGHT = 640;
@@ -75,5 +79,16 @@ public class GameConstants {
     public static float BULLET_WIDTH = TILE_WIDTH / 8;
     public static float BULLET_HEIGHT = TILE_HEIGHT / 8;
 
+    //SIMULATION VALUES:
+    public static final int TICKS_PER_SECOND = 120;
+    public static final int MAX_TICKS_PER_FRAME = 8;
+    public static final float WAVE_INTERVAL = 30f;
+    public static boolean PACKED_ENEMY_STORAGE = false;
+    public static int POOL_CAP = 1024;
+
+    //POPUP VALUES:
+    public static final float POPUP_TIME = 2.0f;
+    public static final float POPUP_MERGE_TIME = 0.25f;
+
     public static Vector2 START_POS = new Vector2(1 * TILE_WIDTH, TILE_HEIGHT * (UI_ROWS_BOTTOM - 1));
 }
@@ -0,0 +1,21 @@
+package inf112.skeleton.app.util;
+
+import inf112.skeleton.app.controller.GameEventListener;
+import inf112.skeleton.app.controller.GameEvents;
+import inf112.skeleton.app.enums.GameEventType;
+
+/**
+ * Plays the sounds of the game events of a tick. Every killed zombie screams once;
+ * the sound queue merges the screams of one frame into a single louder scream.
+ */
+public class GameEventSounds implements GameEventListener {
+
+    @Override
+    public void onEvents(GameEvents events) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.getType(i) == GameEventType.ENEMY_KILLED) {
+                MusicManager.playZombieDeathScream();
+            }
+        }
+    }
+}
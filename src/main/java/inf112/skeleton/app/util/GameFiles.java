@@ -0,0 +1,34 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Resolves game data files without requiring a running libGDX backend.
+ * When a backend is available the regular internal file handle is used,
+ * otherwise the file is read straight from the classpath.
+ */
+public class GameFiles {
+
+    private GameFiles() {
+    }
+
+    /**
+     * Returns a handle to an internal game file, such as a map or a wave pattern.
+     * @param path path of the file relative to the resources folder
+     * @return handle that can be used to read the file
+     */
+    public static FileHandle internal(String path) {
+        if (Gdx.files != null) {
+            return Gdx.files.internal(path);
+        }
+        return new ClasspathFileHandle(path);
+    }
+
+    private static class ClasspathFileHandle extends FileHandle {
+        ClasspathFileHandle(String path) {
+            super(path, Files.FileType.Classpath);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.audio.Sound;
+import inf112.skeleton.app.enums.SoundEffect;
+
+/**
+ * Plays sound effects through the libGDX audio backend.
+ * The sounds are loaded with the other assets by {@link GameAssets}, so no sound is decoded while the game is played.
+ * Effects triggered before the sounds are loaded are skipped.
+ */
+public class GdxSoundPlayer implements SoundPlayer {
+
+    @Override
+    public void play(SoundEffect effect) {
+        play(effect, 1);
+    }
+
+    @Override
+    public void play(SoundEffect effect, float volumeScale) {
+        if (GameSettings.getSound()) { // Check if sound is enabled
+            Sound sound = GameAssets.getInstance().getSound(effect);
+            if (sound != null) {
+                float volume = GameSettings.getVolSound() * volumeScale; // Get volume setting
+                sound.play(Math.min(1, volume));
+            }
+        }
+    }
+}
@@ -2,14 +2,23 @@ package inf112.skeleton.app.util;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Pool;
+import inf112.skeleton.app.enums.RenderLayer;
+import inf112.skeleton.app.scene.RenderQueue;
 
-public class MoneyPopup {
-    private String text;
+/**
+ * Text floating up from a point on the screen for a while, like money going in and out.
+ * Popups are moved and drawn by {@link inf112.skeleton.app.controller.FloatingTextController}, which shares one font between all of them.
+ */
+public class MoneyPopup implements Pool.Poolable {
+    private final StringBuilder text = new StringBuilder(24);
     private float x, y;
+    private float startX, startY;
     private float timer;
-    private BitmapFont font;
+    private float age;
     private Color color;
+    private String prefix;
+    private int amount;
 
     /**
      * Creates a new MoneyPopup when money is added or removed from users money.
@@ -20,14 +29,110 @@ public class MoneyPopup {
      * @param timer time before the popup disappears
      */
     public MoneyPopup(String text, float x, float y, Color color, float timer) {
-        this.text = text;
+        init(text, x, y, color, timer);
+    }
+
+    /**
+     * Creates an unused popup for the popup pool.
+     */
+    public MoneyPopup() {
+    }
+
+    /**
+     * Gets a popup from the popup pool. It should be given back with {@link EntityPools#MONEY_POPUPS} when it disappears.
+     * @param text text to be displayed
+     * @param x coordinate
+     * @param y coordinate
+     * @param color color of the text
+     * @param timer time before the popup disappears
+     * @return the popup
+     */
+    public static MoneyPopup obtain(String text, float x, float y, Color color, float timer) {
+        MoneyPopup popup = EntityPools.MONEY_POPUPS.obtain();
+        popup.init(text, x, y, color, timer);
+        return popup;
+    }
+
+    /**
+     * Gets a popup showing an amount of money from the popup pool.
+     * The text is written into the popup, so no string is created for it.
+     * @param prefix text in front of the amount, like "+$"
+     * @param amount the amount of money
+     * @param x coordinate
+     * @param y coordinate
+     * @param color color of the text
+     * @param timer time before the popup disappears
+     * @return the popup
+     */
+    public static MoneyPopup obtain(String prefix, int amount, float x, float y, Color color, float timer) {
+        MoneyPopup popup = obtain(prefix, x, y, color, timer);
+        popup.prefix = prefix;
+        popup.addAmount(amount);
+        return popup;
+    }
+
+    /**
+     * Sets the text, position, color and timer of the popup.
+     * @param text text to be displayed
+     * @param x coordinate
+     * @param y coordinate
+     * @param color color of the text
+     * @param timer time before the popup disappears
+     */
+    public void init(CharSequence text, float x, float y, Color color, float timer) {
+        this.text.setLength(0);
+        this.text.append(text);
         this.x = x;
         this.y = y;
+        this.startX = x;
+        this.startY = y;
         this.color = color;
         this.timer = timer;
-        this.font = new BitmapFont();
-        this.font.setColor(color);
-        this.font.getData().setScale(1.5f);
+        this.age = 0;
+        this.prefix = null;
+        this.amount = 0;
+    }
+
+    /**
+     * Forgets the text of the popup.
+     */
+    @Override
+    public void reset() {
+        text.setLength(0);
+        timer = 0;
+        prefix = null;
+        color = null;
+    }
+
+    /**
+     * Adds to the amount of money shown by the popup, so several payments can be shown as one popup.
+     * @param amount the amount of money to add
+     */
+    public void addAmount(int amount) {
+        this.amount += amount;
+        text.setLength(0);
+        text.append(prefix).append(this.amount);
+    }
+
+    /**
+     * Writes a number at the end of the text, without creating a string for it.
+     * @param number the number to add to the text
+     */
+    public void appendNumber(int number) {
+        text.append(number);
+    }
+
+    /**
+     * Checks if money can be added to this popup.
+     * @param prefix text in front of the amount, like "+$"
+     * @param x coordinate of the new money
+     * @param y coordinate of the new money
+     * @param color color of the text
+     * @return true if the popup shows money with the same prefix and color, created at the same place
+     */
+    public boolean showsMoney(String prefix, float x, float y, Color color) {
+        return this.prefix != null && this.prefix.equals(prefix) && this.color == color
+                && startX == x && startY == y;
     }
 
     /**
@@ -37,16 +142,33 @@ public class MoneyPopup {
      */
     public boolean update(float delta) {
         timer -= delta;
+        age += delta;
         y += 50 * delta;
         return timer <= 0;
     }
 
     /**
-     * Draws the text on the screen
-     * @param batch SpriteBatch to draw the text
+     * Adds the text to the render queue
+     * @param queue the render queue of the frame
+     * @param layer the layer the text is drawn in
+     * @param font the font shared by all popups
+     */
+    public void submit(RenderQueue queue, RenderLayer layer, BitmapFont font) {
+        queue.text(layer, font, text, x, y, color);
+    }
+
+    /**
+     * @return the text of the popup
+     */
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     * @return seconds of game time since the popup was created
      */
-    public void draw(SpriteBatch batch) {
-        font.draw(batch, text, x, y);
+    public float getAge() {
+        return age;
     }
 
     /**
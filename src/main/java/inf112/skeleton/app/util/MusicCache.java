@@ -0,0 +1,177 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.audio.Music;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the most recently played music tracks open and paused, so going back to a track
+ * resumes it instead of starting the stream again. When the track changes, the old track fades out
+ * while the new one fades in. Only the tracks used last are kept paused; older tracks are stopped,
+ * which gives their audio source back.
+ */
+public class MusicCache {
+
+    private static class Track {
+        final String file;
+        final Music music;
+        float volume;
+        float targetVolume;
+        float fadeRange;
+
+        Track(String file, Music music) {
+            this.file = file;
+            this.music = music;
+        }
+    }
+
+    private final Map<String, Track> tracks = new LinkedHashMap<>(4, 0.75f, true);
+    private final Function<String, Music> loader;
+    private final int capacity;
+    private final float fadeTime;
+    private Track current;
+    private float volume = 1;
+
+    /**
+     * Creates an empty cache.
+     * @param loader gives the music for a file name, or null if it is not loaded
+     * @param capacity how many tracks are kept open
+     * @param fadeTime how long a crossfade lasts, in seconds
+     */
+    public MusicCache(Function<String, Music> loader, int capacity, float fadeTime) {
+        this.loader = loader;
+        this.capacity = Math.max(1, capacity);
+        this.fadeTime = fadeTime;
+    }
+
+    /**
+     * Fades in the given track and fades out the one playing now. Keeps playing if the track is playing already.
+     * @param file the music file
+     * @param loop true to start over when the track ends
+     * @return false if the music is not loaded
+     */
+    public boolean play(String file, boolean loop) {
+        Track track = tracks.get(file);
+        if (track == null) {
+            Music music = loader.apply(file);
+            if (music == null) {
+                return false;
+            }
+            track = new Track(file, music);
+            tracks.put(file, track);
+            evict();
+        }
+        if (track != current && current != null) {
+            fadeTo(current, 0);
+        }
+        current = track;
+        fadeTo(track, volume);
+        track.music.setLooping(loop);
+        if (!track.music.isPlaying()) {
+            track.music.setVolume(track.volume);
+            track.music.play();
+        }
+        return true;
+    }
+
+    /**
+     * Fades out the current track and pauses it, so it can be resumed later.
+     */
+    public void stop() {
+        if (current != null) {
+            fadeTo(current, 0);
+            current = null;
+        }
+    }
+
+    /**
+     * Moves the fades forward. Called once per frame.
+     * @param deltaTime time since the last update, in seconds
+     */
+    public void update(float deltaTime) {
+        for (Track track : tracks.values()) {
+            float step = fadeTime <= 0 ? Float.MAX_VALUE : deltaTime * track.fadeRange / fadeTime;
+            if (track.volume < track.targetVolume) {
+                track.volume = Math.min(track.targetVolume, track.volume + step);
+                track.music.setVolume(track.volume);
+            } else if (track.volume > track.targetVolume) {
+                track.volume = Math.max(track.targetVolume, track.volume - step);
+                track.music.setVolume(track.volume);
+            }
+            if (track.volume == 0 && track != current && track.music.isPlaying()) {
+                track.music.pause();
+            }
+        }
+    }
+
+    /**
+     * Starts fading a track towards a volume. A full fade between silence and the louder of the two volumes
+     * lasts the fade time, so fades do not depend on the music volume, and always end even when it is 0.
+     */
+    private void fadeTo(Track track, float target) {
+        track.targetVolume = target;
+        track.fadeRange = Math.max(target, track.volume);
+    }
+
+    /**
+     * Changes the volume of the current track, and of the tracks played later.
+     * A current track that is fading keeps fading, towards the new volume.
+     * @param volume the new volume, from 0 to 1
+     */
+    public void setVolume(float volume) {
+        this.volume = volume;
+        if (current == null) {
+            return;
+        }
+        if (current.volume != current.targetVolume) {
+            fadeTo(current, volume);
+        } else {
+            current.targetVolume = volume;
+            current.volume = volume;
+            current.music.setVolume(volume);
+        }
+    }
+
+    /**
+     * Stops the least recently played tracks until no more than the capacity are kept.
+     */
+    private void evict() {
+        Iterator<Track> iterator = tracks.values().iterator();
+        while (tracks.size() > capacity && iterator.hasNext()) {
+            Track track = iterator.next();
+            if (track != current) {
+                track.music.stop();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the file of the track playing now, or null if none is
+     */
+    public String getCurrentTrack() {
+        return current == null ? null : current.file;
+    }
+
+    /**
+     * @param file the music file
+     * @return true if the track is kept open in the cache
+     */
+    public boolean contains(String file) {
+        return tracks.containsKey(file);
+    }
+
+    /**
+     * Stops every track and empties the cache.
+     */
+    public void clear() {
+        for (Track track : tracks.values()) {
+            track.music.stop();
+        }
+        tracks.clear();
+        current = null;
+    }
+}
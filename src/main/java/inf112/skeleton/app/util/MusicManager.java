@@ -1,82 +1,89 @@
 package inf112.skeleton.app.util;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.audio.Sound;
+import inf112.skeleton.app.enums.SoundEffect;
 
 public class MusicManager {
 
-    private static Music currentMusic;
-    private static String currentTrack = "";
+    private static final MusicCache music =
+            new MusicCache(GameAssets.getInstance()::getMusic, GameConstants.MUSIC_CACHE_SIZE, GameConstants.MUSIC_FADE_TIME);
 
-    // SFX
-    private static final Sound sniperShotSound = Gdx.audio.newSound(Gdx.files.internal("snipershot.ogg"));
-    private static final Sound gunnerShotSound = Gdx.audio.newSound(Gdx.files.internal("gunnershot.ogg"));
-    private static final Sound bomberShotSound = Gdx.audio.newSound(Gdx.files.internal("bombershot.ogg"));
-    private static final Sound bombExplodeSound = Gdx.audio.newSound(Gdx.files.internal("bombexplosion.ogg"));
-    private static final Sound zombieDeathScream = Gdx.audio.newSound(Gdx.files.internal("zombiedeathsound.ogg"));
+    // SFX, silent until the game installs a player backed by the audio device
+    private static SoundPlayer soundPlayer = SoundPlayer.SILENT;
 
+    /**
+     * Sets the player used for sound effects.
+     * @param player the player to use, or null to mute all sound effects
+     */
+    public static void setSoundPlayer(SoundPlayer player) {
+        soundPlayer = player == null ? SoundPlayer.SILENT : player;
+    }
+
+    /**
+     * @return the player currently used for sound effects
+     */
+    public static SoundPlayer getSoundPlayer() {
+        return soundPlayer;
+    }
+
+    /**
+     * Crossfades to a music track loaded by {@link GameAssets}. Keeps playing if the track is playing already,
+     * and resumes it where it was paused if it was played recently.
+     * @param filename the music file
+     * @param loop true to start over when the track ends
+     */
     public static void play(String filename, boolean loop) {
         if (GameSettings.getMusic()) {
-            if (!filename.equals(currentTrack) || (currentMusic != null && !currentMusic.isPlaying())) {
-                stopCurrentMusic();
-                currentMusic = Gdx.audio.newMusic(Gdx.files.internal(filename));
-                currentMusic.setLooping(loop);
-                float volume = GameSettings.getVolMusic() * 0.9f;
-                currentMusic.setVolume(volume);
-                currentMusic.play();
-                currentTrack = filename;
+            music.setVolume(GameSettings.getVolMusic() * 0.9f);
+            if (!music.play(filename, loop)) {
+                Gdx.app.error("MusicManager", "Music is not loaded: " + filename);
             }
         }
     }
 
+    /**
+     * Fades out the current track. It is paused and kept open, so it can be resumed right away.
+     */
     public static void stopCurrentMusic() {
-        if (currentMusic != null) {
-            currentMusic.stop();
-            currentMusic.dispose();
-            currentMusic = null;
-            currentTrack = "";
-        }
+        music.stop();
+    }
+
+    /**
+     * Moves the music fades forward. Called once per frame.
+     * @param deltaTime time since the last frame, in seconds
+     */
+    public static void update(float deltaTime) {
+        music.update(deltaTime);
     }
 
     public static void changeMusicVolume() {
-        if (currentMusic != null) {
-            currentMusic.setVolume(GameSettings.getVolMusic());
-        }
+        music.setVolume(GameSettings.getVolMusic());
+    }
+
+    /**
+     * Stops all music and forgets the paused tracks. Called before the music is unloaded.
+     */
+    public static void clearMusic() {
+        music.clear();
     }
 
     public static void playSniperShot() {
-        if (GameSettings.getSound()) { // Check if sound is enabled
-            float volume = GameSettings.getVolSound(); // Get volume setting
-            sniperShotSound.play(volume); // Play the sound with the specified volume
-        }
+        soundPlayer.play(SoundEffect.SNIPER_SHOT);
     }
 
     public static void playGunnerShot() {
-        if (GameSettings.getSound()) { // Check if sound is enabled
-            float volume = GameSettings.getVolSound(); // Get volume setting
-            gunnerShotSound.play(volume); // Play the sound with the specified volume
-        }
+        soundPlayer.play(SoundEffect.GUNNER_SHOT);
     }
 
     public static void playBomberShot() {
-        if (GameSettings.getSound()) { // Check if sound is enabled
-            float volume = GameSettings.getVolSound(); // Get volume setting
-            bomberShotSound.play(volume); // Play the sound with the specified volume
-        }
+        soundPlayer.play(SoundEffect.BOMBER_SHOT);
     }
 
     public static void playBombExplode() {
-        if (GameSettings.getSound()) { // Check if sound is enabled
-            float volume = GameSettings.getVolSound(); // Get volume setting
-            bombExplodeSound.play(volume); // Play the sound with the specified volume
-        }
+        soundPlayer.play(SoundEffect.BOMB_EXPLODE);
     }
 
     public static void playZombieDeathScream() {
-        if (GameSettings.getSound()) { // Check if sound is enabled
-            float volume = GameSettings.getVolSound(); // Get volume setting
-            zombieDeathScream.play(volume); // Play the sound with the specified volume
-        }
+        soundPlayer.play(SoundEffect.ZOMBIE_DEATH);
     }
 }
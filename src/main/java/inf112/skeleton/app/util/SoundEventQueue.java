@@ -0,0 +1,124 @@
+package inf112.skeleton.app.util;
+
+import inf112.skeleton.app.enums.SoundEffect;
+
+import java.util.Arrays;
+
+/**
+ * Collects the sound effects triggered during a frame, and plays them once per frame with {@link #drain}.
+ * Each effect is played at most once per frame, no more often than its minimum interval,
+ * and only while fewer than its maximum number of voices are playing. Other plays are dropped.
+ * Effects that are merged, like zombie deaths, are played once for the whole frame, louder the more there were.
+ */
+public class SoundEventQueue implements SoundPlayer {
+
+    private static final float MAX_MERGED_VOLUME = 1.5f;
+    private static final float VOLUME_PER_MERGED = 0.1f;
+
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    private final SoundPlayer output;
+    private final int[] pending = new int[EFFECTS.length];
+    private final float[] lastStart = new float[EFFECTS.length];
+    private final float[][] voiceStarts = new float[EFFECTS.length][];
+    private float time;
+
+    private int played;
+    private int dropped;
+    private int merged;
+
+    /**
+     * Creates an empty queue.
+     * @param output the player the effects are played with when the queue is drained
+     */
+    public SoundEventQueue(SoundPlayer output) {
+        this.output = output;
+        for (SoundEffect effect : EFFECTS) {
+            voiceStarts[effect.ordinal()] = new float[effect.getMaxVoices()];
+            Arrays.fill(voiceStarts[effect.ordinal()], Float.NEGATIVE_INFINITY);
+        }
+        Arrays.fill(lastStart, Float.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Queues the effect to be played when the queue is drained.
+     * @param effect the effect to play
+     */
+    @Override
+    public void play(SoundEffect effect) {
+        pending[effect.ordinal()]++;
+    }
+
+    /**
+     * Plays the effects queued since the last drain. Called once per frame.
+     * @param deltaTime time since the last drain, in seconds
+     */
+    public void drain(float deltaTime) {
+        time += deltaTime;
+        for (SoundEffect effect : EFFECTS) {
+            int count = pending[effect.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            pending[effect.ordinal()] = 0;
+            int voice = freeVoice(effect);
+            if (voice < 0 || time - lastStart[effect.ordinal()] < effect.getMinInterval()) {
+                dropped += count;
+                continue;
+            }
+            voiceStarts[effect.ordinal()][voice] = time;
+            lastStart[effect.ordinal()] = time;
+            played++;
+            if (effect.isMerged()) {
+                merged += count - 1;
+                output.play(effect, Math.min(MAX_MERGED_VOLUME, 1 + VOLUME_PER_MERGED * (count - 1)));
+            } else {
+                dropped += count - 1;
+                output.play(effect);
+            }
+        }
+    }
+
+    /**
+     * @return the index of a voice of the effect that has finished playing, or -1 if all are playing
+     */
+    private int freeVoice(SoundEffect effect) {
+        float[] starts = voiceStarts[effect.ordinal()];
+        for (int i = 0; i < starts.length; i++) {
+            if (time - starts[i] >= effect.getVoiceLength()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return number of effects played since the counters were reset
+     */
+    public int getPlayed() {
+        return played;
+    }
+
+    /**
+     * @return number of queued effects that were not played, since the counters were reset
+     */
+    public int getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return number of queued effects merged into another play of the same effect, since the counters were reset
+     */
+    public int getMerged() {
+        return merged;
+    }
+
+    /**
+     * Sets the played, dropped and merged counters back to zero.
+     */
+    public void resetCounters() {
+        played = 0;
+        dropped = 0;
+        merged = 0;
+    }
+}
@@ -0,0 +1,30 @@
+package inf112.skeleton.app.util;
+
+import inf112.skeleton.app.enums.SoundEffect;
+
+/**
+ * Plays sound effects triggered by the simulation.
+ * Lets the game logic run without an audio backend, for example in tests.
+ */
+public interface SoundPlayer {
+
+    /**
+     * Player that ignores every sound effect.
+     */
+    SoundPlayer SILENT = effect -> { };
+
+    /**
+     * Plays the given sound effect.
+     * @param effect the effect to play
+     */
+    void play(SoundEffect effect);
+
+    /**
+     * Plays the given sound effect louder or quieter than normal.
+     * @param effect the effect to play
+     * @param volumeScale how much to scale the volume, 1 for the normal volume
+     */
+    default void play(SoundEffect effect, float volumeScale) {
+        play(effect);
+    }
+}
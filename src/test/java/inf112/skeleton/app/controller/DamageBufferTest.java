@@ -0,0 +1,127 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.tower.BaseDefender;
+import inf112.skeleton.app.tower.GunnerDefender;
+import inf112.skeleton.app.util.GameAssets;
+import inf112.skeleton.app.util.MusicManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DamageBufferTest {
+    private static HeadlessApplication application;
+    private static MockedStatic<MusicManager> musicManager;
+
+    @BeforeAll
+    public static void setupBeforeAll() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+        when(Gdx.gl.glGenTexture()).thenReturn(1);
+        GameAssets.instance.init();
+        musicManager = mockStatic(MusicManager.class);
+    }
+
+    private final EnemyHandles handles = new EnemyHandles();
+
+    private Enemy enemy(float health) {
+        Enemy enemy = new Enemy('R', 110, 110, 50, 50, health, new LinkedList<>(), 50, 0, 0, null, false);
+        handles.acquire(enemy);
+        return enemy;
+    }
+
+    @Test
+    void enemyHitTwiceInOneTickDiesOnce() {
+        DamageBuffer buffer = new DamageBuffer(handles);
+        Enemy enemy = enemy(10);
+
+        buffer.add(enemy, 6);
+        buffer.add(enemy, 6);
+        buffer.add(enemy, 6);
+        assertEquals(3, buffer.size());
+        assertTrue(enemy.isAlive(), "Hits are not applied before the buffer is resolved");
+
+        assertEquals(1, buffer.resolve());
+        assertFalse(enemy.isAlive());
+        assertEquals(0, buffer.size());
+        assertEquals(1, buffer.getLastKilled());
+    }
+
+    @Test
+    void hitsOnRemovedEnemiesAreSkipped() {
+        DamageBuffer buffer = new DamageBuffer(handles);
+        Enemy removed = enemy(10);
+        Enemy other = enemy(10);
+
+        buffer.add(removed, 20);
+        buffer.add(other, 4);
+        buffer.add(null, 4);
+        handles.release(removed.getHandle());
+
+        assertEquals(0, buffer.resolve());
+        assertEquals(6, other.getEnemyHealth());
+
+        buffer.add(other, 20);
+        buffer.clear();
+        assertEquals(0, buffer.resolve());
+        assertTrue(other.isAlive());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        DamageBuffer buffer = new DamageBuffer(handles);
+        Enemy enemy = enemy(1000);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(enemy, 1);
+        }
+
+        assertEquals(100, buffer.size());
+        buffer.resolve();
+        assertEquals(900, enemy.getEnemyHealth());
+    }
+
+    @Test
+    void defenderWithBufferDefersItsDamage() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy enemy = enemy(1);
+        enemyList.add(enemy);
+        BaseDefender defender = new GunnerDefender(100, 100, enemyList);
+        DamageBuffer buffer = new DamageBuffer(handles);
+        defender.setDamageBuffer(buffer);
+
+        defender.dealDamage(enemy, 5);
+        assertTrue(enemy.isAlive());
+
+        assertEquals(1, buffer.resolve());
+        assertFalse(enemy.isAlive());
+
+        BaseDefender withoutBuffer = new GunnerDefender(100, 100, enemyList);
+        assertThrows(IllegalStateException.class, () -> withoutBuffer.dealDamage(enemy, 5));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        musicManager.close();
+        if (application != null) {
+            application.exit();
+            application = null;
+        }
+    }
+}
@@ -4,10 +4,17 @@ import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.enums.Direction;
+import inf112.skeleton.app.enums.GameEventType;
 import inf112.skeleton.app.level.Level;
 import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.scene.RenderQueue;
 
 import inf112.skeleton.app.util.GameAssets;
 import org.junit.jupiter.api.AfterAll;
@@ -18,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Collections;
 import java.util.LinkedList;
 
 import static inf112.skeleton.app.util.GameConstants.*;
@@ -102,31 +110,80 @@ public class EnemyControllerTest {
     }
 
     @Test
-    void checkBoundsForEnemyTest() {
-        Enemy enemy1 = new Enemy('R', SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2, ENEMY_WIDTH, ENEMY_HEIGHT,ENEMY_REGULAR_START_HP, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
-        enemyController.newZombie(enemy1);
-        assertFalse(enemyController.boundsPublic(enemy1));
-        enemyController.clearEnemies();
-
-        Enemy enemy2 = new Enemy('R', -20, SCREEN_HEIGHT /2, ENEMY_WIDTH, ENEMY_HEIGHT,ENEMY_REGULAR_START_HP, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
-        enemyController.newZombie(enemy2);
-        assertTrue(enemyController.boundsPublic(enemy2));
-        enemyController.clearEnemies();
-
-        Enemy enemy3 = new Enemy('R', SCREEN_WIDTH + 20, SCREEN_HEIGHT / 2, ENEMY_WIDTH, ENEMY_HEIGHT,ENEMY_REGULAR_START_HP, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
-        enemyController.newZombie(enemy3);
-        assertTrue(enemyController.boundsPublic(enemy3));
-        enemyController.clearEnemies();
-
-        Enemy enemy4 = new Enemy('R', SCREEN_WIDTH / 2, SCREEN_HEIGHT + 20, ENEMY_WIDTH, ENEMY_HEIGHT,ENEMY_REGULAR_START_HP, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
-        enemyController.newZombie(enemy4);
-        assertTrue(enemyController.boundsPublic(enemy4));
-        enemyController.clearEnemies();
-
-        Enemy enemy5 = new Enemy('R', SCREEN_WIDTH / 2, -20, ENEMY_WIDTH, ENEMY_HEIGHT,ENEMY_REGULAR_START_HP, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
-        enemyController.newZombie(enemy5);
-        assertTrue(enemyController.boundsPublic(enemy5));
-        enemyController.clearEnemies();
+    void healthBarsAreDrawnForSpawnedEnemies() {
+        Enemy spawned = new Enemy('R', SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2, ENEMY_WIDTH, ENEMY_HEIGHT, 10, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
+        Enemy waiting = new Enemy('R', SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2, ENEMY_WIDTH, ENEMY_HEIGHT, 10, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 5, null, false);
+        enemyController.newZombie(spawned);
+        enemyController.newZombie(waiting);
+        spawned.shot(4);
+
+        RenderQueue queue = new RenderQueue();
+        SpriteBatch batch = mock(SpriteBatch.class);
+        enemyController.submit(queue, 1f);
+        queue.flush(batch);
+
+        assertEquals(1, enemyController.getHealthBarsDrawn());
+        float barX = SCREEN_WIDTH / 2 + 5;
+        float barY = SCREEN_HEIGHT / 2 + ENEMY_HEIGHT;
+        verify(batch).draw(any(TextureRegion.class), eq(barX), eq(barY), anyFloat(), anyFloat(),
+                eq(ENEMY_WIDTH - 10), eq(ENEMY_HEIGHT / 10), eq(1f), eq(1f), eq(0f));
+        verify(batch).draw(any(TextureRegion.class), eq(barX), eq(barY), anyFloat(), anyFloat(),
+                eq((ENEMY_WIDTH - 10) * 0.6f), eq(ENEMY_HEIGHT / 10), eq(1f), eq(1f), eq(0f));
+        verify(batch).setPackedColor(Color.RED.toFloatBits());
+        verify(batch).setPackedColor(Color.GREEN.toFloatBits());
+        enemyController.dispose();
+    }
+
+    @Test
+    void packedStorageKeepsEnemiesOutOfTheList() {
+        when(mockLevel.getMap()).thenReturn(mockMap);
+        when(mockMap.getDirections()).thenReturn(new LinkedList<>());
+        when(mockMap.getPath()).thenReturn(new MapPath(START_POS, new LinkedList<>()));
+        enemyController.setPackedStorage(true);
+        GameEvents events = new GameEvents();
+        enemyController.setEvents(events);
+
+        Enemy enemy = new Enemy('R', SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2, ENEMY_WIDTH, ENEMY_HEIGHT, ENEMY_REGULAR_START_HP, new LinkedList<>(), ENEMY_REGULAR_BOUNTY, ENEMY_REGULAR_SPEED, 0, null, false);
+        enemyController.newZombie(enemy);
+        assertTrue(enemyController.getEnemyList().isEmpty());
+        assertEquals(1, enemyController.getEnemyCount());
+        assertThrows(IllegalStateException.class, () -> enemyController.setPackedStorage(false));
+
+        enemyController.getPackedStorage().damage(0, ENEMY_REGULAR_START_HP);
+        enemyController.update(0.1f);
+        assertEquals(0, enemyController.getEnemyCount());
+        assertEquals(GameEventType.ENEMY_SPAWNED, events.getType(0));
+        assertEquals('R', events.getValue(0));
+        assertEquals(1, events.getTotal(GameEventType.ENEMY_KILLED));
+        assertEquals(GameEventType.ENEMY_KILLED, events.getType(events.size() - 1));
+        assertEquals(ENEMY_REGULAR_BOUNTY, events.getValue(events.size() - 1));
+    }
+
+    @Test
+    void scheduledZombiesSpawnWhenTheirTimeComes() {
+        when(mockLevel.getMap()).thenReturn(mockMap);
+        when(mockMap.getPath()).thenReturn(new MapPath(START_POS, Collections.nCopies(10, Direction.UP)));
+        when(mockLevel.isDoubleSpeedActive()).thenReturn(true);
+
+        enemyController.scheduleWave(WavePattern.parse("RT").decoder(1), 1, 2);
+        assertTrue(enemyController.getEnemyList().isEmpty());
+        assertEquals(2, enemyController.getEnemyCount());
+
+        enemyController.update(0.5f);
+        assertEquals(1, enemyController.getEnemyList().size());
+        assertEquals(1, enemyController.getScheduledCount());
+        Enemy first = enemyController.getEnemyList().get(0);
+        assertEquals('R', first.getType());
+        assertEquals(ENEMY_REGULAR_START_HP * 2, first.getEnemyHealth());
+        assertEquals(ENEMY_REGULAR_SPEED * 2, first.getSpeed());
+        assertTrue(first.getDoubleSpeed());
+
+        enemyController.update(0.5f);
+        Enemy second = enemyController.getEnemyList().get(1);
+        assertEquals('T', second.getType());
+        assertEquals(ENEMY_TANK_START_HP * 2, second.getEnemyHealth());
+        assertEquals(0, enemyController.getScheduledCount());
+        assertEquals(2, enemyController.getEnemyCount());
     }
 
     /**
@@ -0,0 +1,113 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.map.PathCoverage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyHealthIndexTest {
+
+    private final MapPath path = new Map(1).getPath();
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final EnemyListStorage storage = new EnemyListStorage(enemies);
+    private final EnemyPathIndex pathIndex = new EnemyPathIndex();
+    private final EnemyHealthIndex index = new EnemyHealthIndex();
+
+    private void spread(Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = new Enemy('R', path, ENEMY_WIDTH, ENEMY_HEIGHT, 1 + random.nextInt(50), 5,
+                    random.nextFloat() * path.getLength(), 0, null, false);
+            enemy.update(1);
+            enemies.add(enemy);
+        }
+    }
+
+    private Enemy bruteForce(Vector2 point, float range, boolean strongest) {
+        Enemy best = null;
+        for (Enemy enemy : enemies) {
+            if (point.dst2(enemy.position) > range * range || !enemy.isAlive()) {
+                continue;
+            }
+            float health = enemy.getEnemyHealth();
+            if (best == null || (strongest ? health > best.getEnemyHealth() : health < best.getEnemyHealth())) {
+                best = enemy;
+            }
+        }
+        return best;
+    }
+
+    private void rebuild() {
+        pathIndex.rebuild(storage, path);
+        index.rebuild(storage, pathIndex);
+    }
+
+    private void assertMatches(Random random) {
+        for (int i = 0; i < 100; i++) {
+            Vector2 point = new Vector2(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            float range = 20 + random.nextFloat() * 300;
+            PathCoverage coverage = PathCoverage.of(path, point, range);
+            assertSame(bruteForce(point, range, true), index.findStrongest(point, range, coverage));
+            assertSame(bruteForce(point, range, false), index.findWeakest(point, range, coverage));
+        }
+    }
+
+    @Test
+    void findsStrongestAndWeakestLikeCheckingEveryEnemy() {
+        Random random = new Random(3);
+        spread(random, 300);
+        rebuild();
+        assertEquals(300, index.size());
+
+        assertMatches(random);
+    }
+
+    @Test
+    void hitsKeepTheBoundsValid() {
+        Random random = new Random(5);
+        spread(random, 300);
+        rebuild();
+
+        for (int i = 0; i < 500; i++) {
+            enemies.get(random.nextInt(enemies.size())).shot(random.nextInt(20));
+        }
+
+        assertMatches(random);
+    }
+
+    @Test
+    void onlyEnemiesOnCoveredPathAreChecked() {
+        spread(new Random(9), 1000);
+        rebuild();
+
+        Vector2 point = path.positionAt(path.getLength() / 2, new Vector2());
+        PathCoverage coverage = PathCoverage.of(path, point, TOWER_RANGE);
+        index.findStrongest(point, TOWER_RANGE, coverage);
+
+        float share = coverage.getCoveredLength() / path.getLength();
+        assertTrue(index.getLastCandidateCount() < 1000 * share * 2,
+                "Checked " + index.getLastCandidateCount() + " enemies for " + share + " of the path");
+        assertTrue(index.getLastCandidateCount() > 0);
+    }
+
+    @Test
+    void clearStopsEnemiesFromTellingTheIndex() {
+        spread(new Random(1), 10);
+        rebuild();
+        index.clear();
+
+        enemies.get(0).shot(5);
+
+        assertEquals(0, index.size());
+        Vector2 point = new Vector2();
+        assertNull(index.findStrongest(point, SCREEN_WIDTH, PathCoverage.of(path, point, SCREEN_WIDTH)));
+    }
+}
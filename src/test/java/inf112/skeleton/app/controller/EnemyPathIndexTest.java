@@ -0,0 +1,115 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.map.PathCoverage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyPathIndexTest {
+
+    private final MapPath path = new Map(1).getPath();
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final EnemyListStorage storage = new EnemyListStorage(enemies);
+    private final EnemyPathIndex index = new EnemyPathIndex();
+
+    /**
+     * Adds enemies spread out along the path, some of them dead.
+     */
+    private void spread(Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = new Enemy('R', path, ENEMY_WIDTH, ENEMY_HEIGHT, 10, 5, random.nextFloat() * path.getLength(), 0, null, false);
+            enemy.update(1);
+            if (random.nextInt(10) == 0) {
+                enemy.shot(10);
+            }
+            enemies.add(enemy);
+        }
+    }
+
+    private Enemy bruteForceClosest(Vector2 point, float range) {
+        Enemy closest = null;
+        float closestDistance = Float.MAX_VALUE;
+        for (Enemy enemy : enemies) {
+            float distance = point.dst2(enemy.position);
+            if (distance <= range * range && distance < closestDistance && enemy.isAlive()) {
+                closest = enemy;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    @Test
+    void findClosestMatchesCheckingEveryEnemy() {
+        Random random = new Random(7);
+        spread(random, 400);
+        index.rebuild(storage, path);
+        assertEquals(400, index.size());
+
+        for (int i = 0; i < 200; i++) {
+            Vector2 point = new Vector2(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            float range = i % 10 == 0 ? TOWER_RANGE_SNIPER : 20 + random.nextFloat() * 300;
+            PathCoverage coverage = PathCoverage.of(path, point, range);
+            assertSame(bruteForceClosest(point, range), index.findClosest(point, range, coverage));
+        }
+    }
+
+    private Enemy bruteForceFurthest(Vector2 point, float range, boolean first) {
+        Enemy best = null;
+        for (Enemy enemy : enemies) {
+            if (point.dst2(enemy.position) > range * range || !enemy.isAlive()) {
+                continue;
+            }
+            if (best == null || (first ? enemy.getDistance() > best.getDistance() : enemy.getDistance() < best.getDistance())) {
+                best = enemy;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void findFirstAndLastMatchCheckingEveryEnemy() {
+        Random random = new Random(11);
+        spread(random, 400);
+        index.rebuild(storage, path);
+
+        for (int i = 0; i < 200; i++) {
+            Vector2 point = new Vector2(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            float range = i % 10 == 0 ? TOWER_RANGE_SNIPER : 20 + random.nextFloat() * 300;
+            PathCoverage coverage = PathCoverage.of(path, point, range);
+            assertSame(bruteForceFurthest(point, range, true), index.findFirst(point, range, coverage));
+            assertSame(bruteForceFurthest(point, range, false), index.findLast(point, range, coverage));
+        }
+    }
+
+    @Test
+    void onlyEnemiesOnCoveredPathAreChecked() {
+        spread(new Random(9), 1000);
+        index.rebuild(storage, path);
+
+        Vector2 point = path.positionAt(path.getLength() / 2, new Vector2());
+        PathCoverage coverage = PathCoverage.of(path, point, TOWER_RANGE);
+        index.findClosest(point, TOWER_RANGE, coverage);
+
+        float share = coverage.getCoveredLength() / path.getLength();
+        assertTrue(index.getLastCandidateCount() < 1000 * share * 2,
+                "Checked " + index.getLastCandidateCount() + " enemies for " + share + " of the path");
+        assertTrue(index.getLastCandidateCount() > 0);
+    }
+
+    @Test
+    void emptyIndexFindsNothing() {
+        index.rebuild(storage, path);
+        Vector2 point = new Vector2(SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2);
+        assertNull(index.findClosest(point, TOWER_RANGE_SNIPER, PathCoverage.of(path, point, TOWER_RANGE_SNIPER)));
+    }
+}
@@ -0,0 +1,153 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.entity.Enemy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemySpatialIndexTest {
+
+    private EnemySpatialIndex index;
+    private List<Enemy> enemies;
+
+    @BeforeEach
+    void setUp() {
+        index = new EnemySpatialIndex();
+        enemies = new ArrayList<>();
+    }
+
+    private Enemy enemyAt(float x, float y) {
+        return new Enemy('R', x, y, ENEMY_WIDTH, ENEMY_HEIGHT, 10, new LinkedList<>(), 5, 0, 0, null, false);
+    }
+
+    private void scatter(Random random, int count, float minX, float minY, float maxX, float maxY) {
+        for (int i = 0; i < count; i++) {
+            enemies.add(enemyAt(minX + random.nextFloat() * (maxX - minX), minY + random.nextFloat() * (maxY - minY)));
+        }
+    }
+
+    private Enemy bruteForceClosest(Vector2 point, float range) {
+        Enemy closest = null;
+        float closestDistance = Float.MAX_VALUE;
+        for (Enemy enemy : enemies) {
+            float distance = point.dst2(enemy.position);
+            if (distance <= range * range && distance < closestDistance && enemy.isAlive()) {
+                closest = enemy;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    @Test
+    void findClosestMatchesCheckingEveryEnemy() {
+        Random random = new Random(3);
+        scatter(random, 500, -100, -100, SCREEN_WIDTH + 100, SCREEN_HEIGHT + 100);
+        index.rebuild(enemies);
+
+        for (int i = 0; i < 200; i++) {
+            Vector2 point = new Vector2(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            float range = 20 + random.nextFloat() * 300;
+            assertSame(bruteForceClosest(point, range), index.findClosest(point, range));
+        }
+    }
+
+    @Test
+    void findInRadiusMatchesCheckingEveryEnemy() {
+        Random random = new Random(5);
+        scatter(random, 500, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        index.rebuild(enemies);
+        List<Enemy> found = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            Vector2 point = new Vector2(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            float radius = 10 + random.nextFloat() * 200;
+            int expected = 0;
+            for (Enemy enemy : enemies) {
+                if (point.dst(enemy.center) <= radius) {
+                    expected++;
+                    assertTrue(index.findInRadius(point, radius, found) > 0);
+                    assertTrue(found.contains(enemy));
+                }
+            }
+            assertEquals(expected, index.findInRadius(point, radius, found));
+        }
+    }
+
+    @Test
+    void deadEnemiesAreNotFound() {
+        Enemy dead = enemyAt(100, 100);
+        Enemy alive = enemyAt(200, 100);
+        dead.shot(100);
+        enemies.add(dead);
+        enemies.add(alive);
+        index.rebuild(enemies);
+
+        assertSame(alive, index.findClosest(new Vector2(100, 100), 500));
+        List<Enemy> found = new ArrayList<>();
+        assertEquals(1, index.findInRadius(new Vector2(150, 130), 500, found));
+        assertSame(alive, found.get(0));
+    }
+
+    @Test
+    void enemiesOutsideTheScreenCanBeFound() {
+        Enemy outside = enemyAt(-200, SCREEN_HEIGHT + 200);
+        enemies.add(outside);
+        index.rebuild(enemies);
+
+        assertSame(outside, index.findClosest(new Vector2(-150, SCREEN_HEIGHT + 150), 100));
+        assertNull(index.findClosest(new Vector2(SCREEN_WIDTH, 0), 100));
+    }
+
+    @Test
+    void rebuildAndClearTrackEnemies() {
+        scatter(new Random(1), 100, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        index.rebuild(enemies);
+        assertEquals(100, index.size());
+
+        enemies.subList(0, 60).clear();
+        index.rebuild(enemies);
+        assertEquals(40, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.findClosest(new Vector2(SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2), 10000));
+    }
+
+    /**
+     * A tower in one corner, with the same crowd of enemies around it and a growing crowd
+     * on the other side of the map. The enemies checked per tower query have to stay the same as the crowd grows.
+     */
+    @Test
+    void queryCostDoesNotGrowWithDistantEnemies() {
+        Vector2 tower = new Vector2(2 * TILE_WIDTH, 2 * TILE_HEIGHT);
+        int[] crowdSizes = {1000, 5000, 20000};
+        int expectedCandidates = -1;
+
+        for (int crowd : crowdSizes) {
+            enemies.clear();
+            Random random = new Random(7);
+            scatter(random, 50, 0, 0, 4 * TILE_WIDTH, 4 * TILE_HEIGHT);
+            scatter(random, crowd, SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2, SCREEN_WIDTH, SCREEN_HEIGHT);
+            index.rebuild(enemies);
+
+            Enemy target = index.findClosest(tower, TOWER_RANGE);
+            assertNotNull(target);
+            assertSame(bruteForceClosest(tower, TOWER_RANGE), target);
+            int candidates = index.getLastCandidateCount();
+            if (expectedCandidates < 0) {
+                expectedCandidates = candidates;
+            }
+            assertEquals(expectedCandidates, candidates, "Candidates checked should not depend on distant enemies");
+            assertTrue(candidates <= 50);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.graphics.Color;
+import inf112.skeleton.app.util.EntityPools;
+import inf112.skeleton.app.util.GameConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FloatingTextControllerTest {
+
+    private FloatingTextController floatingText;
+
+    @BeforeEach
+    void setUp() {
+        floatingText = new FloatingTextController();
+    }
+
+    @Test
+    void moneyAtTheSameTimeIsMerged() {
+        for (int i = 0; i < 20; i++) {
+            floatingText.addMoney("+$", 5, 100, 200, Color.GREEN);
+        }
+        floatingText.addMoney("-$", 30, 100, 200, Color.RED);
+
+        assertEquals(2, floatingText.getPopups().size());
+        assertEquals("+$100", floatingText.getPopups().get(0).getText().toString());
+        assertEquals("-$30", floatingText.getPopups().get(1).getText().toString());
+    }
+
+    @Test
+    void moneyAfterTheMergeTimeGetsNewPopup() {
+        floatingText.addMoney("+$", 5, 100, 200, Color.GREEN);
+        floatingText.update(GameConstants.POPUP_MERGE_TIME / 2);
+        floatingText.addMoney("+$", 5, 100, 200, Color.GREEN);
+        floatingText.update(GameConstants.POPUP_MERGE_TIME);
+        floatingText.addMoney("+$", 5, 100, 200, Color.GREEN);
+        floatingText.addMoney("+$", 5, 50, 200, Color.GREEN);
+
+        assertEquals(3, floatingText.getPopups().size());
+        assertEquals("+$10", floatingText.getPopups().get(0).getText().toString());
+        assertEquals("+$5", floatingText.getPopups().get(1).getText().toString());
+    }
+
+    @Test
+    void popupsGoBackToThePoolWhenTimeIsUp() {
+        floatingText.addText("Started wave: ", 12, 0, 0, Color.WHITE);
+        floatingText.addMoney("+$", 5, 100, 200, Color.GREEN);
+        assertEquals("Started wave: 12", floatingText.getPopups().get(0).getText().toString());
+        long freed = EntityPools.MONEY_POPUPS.getFreed();
+
+        for (int tick = 0; tick < GameConstants.POPUP_TIME * GameConstants.TICKS_PER_SECOND + 1; tick++) {
+            floatingText.update(1f / GameConstants.TICKS_PER_SECOND);
+        }
+
+        assertTrue(floatingText.getPopups().isEmpty());
+        assertEquals(freed + 2, EntityPools.MONEY_POPUPS.getFreed());
+    }
+}
@@ -0,0 +1,88 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.enums.GameEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEventsTest {
+
+    @Test
+    void listenersGetAllEventsOfTheTickInOrder() {
+        GameEvents events = new GameEvents(4);
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        events.addListener(e -> {
+            for (int i = 0; i < e.size(); i++) {
+                first.add(e.getValue(i));
+            }
+        });
+        events.addListener(e -> second.add(e.size()));
+
+        events.post(GameEventType.ENEMY_SPAWNED, 'R', 1, 2);
+        events.post(GameEventType.ENEMY_KILLED, 50, 3, 4);
+        assertEquals(GameEventType.ENEMY_KILLED, events.getType(1));
+        assertEquals(3, events.getX(1));
+        assertEquals(4, events.getY(1));
+        events.drain();
+        events.drain();
+
+        assertEquals(List.of((int) 'R', 50), first);
+        assertEquals(List.of(2), second, "Nothing is given to the listeners when there are no events");
+        assertEquals(0, events.size());
+    }
+
+    @Test
+    void keepsOrderWhenGrowingAfterWrappingAround() {
+        GameEvents events = new GameEvents(4);
+        events.addListener(e -> { });
+        for (int i = 0; i < 3; i++) {
+            events.post(GameEventType.BULLET_FIRED, i, 0, 0);
+        }
+        events.drain();
+
+        for (int i = 0; i < 10; i++) {
+            events.post(GameEventType.TOWER_BUILT, i, 0, 0);
+        }
+
+        assertEquals(10, events.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, events.getValue(i));
+        }
+        assertEquals(3, events.getTotal(GameEventType.BULLET_FIRED));
+        assertEquals(10, events.getTotal(GameEventType.TOWER_BUILT));
+    }
+
+    @Test
+    void eventsPostedWhileDrainingWaitForTheNextDrain() {
+        GameEvents events = new GameEvents(2);
+        List<Integer> seen = new ArrayList<>();
+        GameEventListener listener = e -> {
+            for (int i = 0; i < e.size(); i++) {
+                seen.add(e.getValue(i));
+                if (e.getType(i) == GameEventType.WAVE_STARTED) {
+                    e.post(GameEventType.ENEMY_SPAWNED, 100 + i, 0, 0);
+                }
+            }
+        };
+        events.addListener(listener);
+
+        events.post(GameEventType.WAVE_STARTED, 1, 0, 0);
+        events.post(GameEventType.WAVE_STARTED, 2, 0, 0);
+        events.drain();
+        assertEquals(List.of(1, 2), seen);
+        assertEquals(2, events.size());
+
+        events.drain();
+        assertEquals(List.of(1, 2, 100, 101), seen);
+
+        events.removeListener(listener);
+        events.post(GameEventType.ENEMY_LEAKED, 5, 0, 0);
+        events.drain();
+        assertEquals(4, seen.size());
+        assertThrows(IllegalArgumentException.class, () -> events.addListener(null));
+    }
+}
@@ -0,0 +1,164 @@
+package inf112.skeleton.app.controller;
+
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.enums.Direction;
+import inf112.skeleton.app.map.MapPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedEnemyStorageTest {
+
+    private static final List<Direction> PATH = List.of(
+            Direction.RIGHT, Direction.RIGHT, Direction.UP, Direction.UP, Direction.LEFT, Direction.DOWN, Direction.RIGHT);
+
+    private PackedEnemyStorage storage;
+    private EnemyHandles handles;
+
+    @BeforeEach
+    void setUp() {
+        handles = new EnemyHandles();
+        storage = new PackedEnemyStorage(1, handles);
+        storage.setPath(new MapPath(START_POS, PATH));
+    }
+
+    private Enemy objectEnemy(float speed, float spawnDelay) {
+        return new Enemy('R', START_POS.x, START_POS.y, ENEMY_WIDTH, ENEMY_HEIGHT, 10, new LinkedList<>(PATH), 5, speed, spawnDelay, null, false);
+    }
+
+    @Test
+    void movesLikeEnemyObjects() {
+        Enemy slow = objectEnemy(37, 0.5f);
+        Enemy fast = objectEnemy(130, 0);
+        storage.add(slow);
+        storage.add(fast);
+
+        for (int tick = 0; tick < 1200; tick++) {
+            slow.update(1 / 120f);
+            fast.update(1 / 120f);
+            storage.update(1 / 120f);
+            assertEquals(slow.position.x, storage.getX(0));
+            assertEquals(slow.position.y, storage.getY(0));
+            assertEquals(fast.position.x, storage.getX(1));
+            assertEquals(fast.position.y, storage.getY(1));
+        }
+    }
+
+    @Test
+    void waitsForSpawnDelay() {
+        storage.add('R', 10, 60, 5, 1, false);
+
+        storage.update(0.5f);
+        assertFalse(storage.isSpawned(0));
+        assertEquals(START_POS.x, storage.getX(0));
+
+        storage.update(0.5f);
+        assertTrue(storage.isSpawned(0));
+        assertEquals(START_POS.x + 30, storage.getX(0), 0.001);
+        assertEquals(30, storage.getDistance(0), 0.001);
+    }
+
+    @Test
+    void completesPathWhereItLeavesTheMap() {
+        MapPath path = new MapPath(START_POS, List.of(Direction.UP, Direction.RIGHT, Direction.RIGHT));
+        storage.setPath(path);
+        storage.add('R', 10, 60, 5, 0, false);
+
+        storage.update(0.25f);
+        assertFalse(storage.hasEnteredMap(0));
+        storage.update(0.5f);
+        assertTrue(storage.hasEnteredMap(0));
+        assertFalse(storage.hasCompletedPath(0));
+
+        storage.update(10);
+        assertEquals(path.getLength(), storage.getDistance(0));
+        assertTrue(storage.hasCompletedPath(0));
+    }
+
+    @Test
+    void damageKillsOnce() {
+        storage.add('T', 10, 60, 5, 0, false);
+
+        storage.damage(0, 4);
+        assertEquals(6, storage.getHealth(0));
+        assertTrue(storage.isAlive(0));
+
+        storage.damage(0, 6);
+        assertFalse(storage.isAlive(0));
+        storage.damage(0, 6);
+        assertEquals(0, storage.getHealth(0));
+    }
+
+    @Test
+    void removeMovesLastEnemyIntoSlot() {
+        for (int i = 0; i < 5; i++) {
+            storage.add('R', 10 + i, 60, i, 0, false);
+        }
+
+        storage.remove(1);
+
+        assertEquals(4, storage.size());
+        assertEquals(14, storage.getHealth(1));
+        assertEquals(4, storage.getReward(1));
+        assertEquals(3, storage.getReward(3));
+    }
+
+    @Test
+    void viewsFollowTheirEnemy() {
+        for (int i = 0; i < 3; i++) {
+            storage.add('Q', 10, 60 + i, 5, 0, false);
+        }
+        Enemy first = storage.getEnemy(0);
+        Enemy last = storage.getEnemy(2);
+        assertSame(last, storage.getEnemy(2));
+        long firstHandle = first.getHandle();
+        assertSame(first, handles.get(firstHandle));
+
+        storage.remove(0);
+        assertFalse(first.isAlive());
+        assertNull(handles.get(firstHandle), "A removed enemy is taken out of the handle table");
+        first.shot(100);
+        assertEquals(2, storage.size());
+
+        assertSame(last, storage.getEnemy(0));
+        last.shot(4);
+        assertEquals(6, storage.getHealth(0));
+        assertEquals(6, last.getEnemyHealth());
+
+        storage.update(1);
+        assertEquals(START_POS.x + 62, last.position.x);
+        assertEquals(storage.getX(0), last.position.x);
+        assertEquals(storage.getCenterX(0), last.center.x);
+        last.shot(6);
+        assertFalse(last.isAlive());
+    }
+
+    @Test
+    void doubleSpeedIsOnlyAppliedOnce() {
+        storage.add('R', 10, 60, 5, 0, false);
+        storage.add('R', 10, 120, 5, 0, true);
+
+        storage.setDoubleSpeed(true);
+        assertEquals(120, storage.getSpeed(0));
+        assertEquals(120, storage.getSpeed(1));
+
+        storage.setDoubleSpeed(false);
+        assertEquals(60, storage.getSpeed(0));
+        assertEquals(60, storage.getSpeed(1));
+    }
+
+    @Test
+    void growsPastCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            storage.add('R', 10, 60, i, 0, false);
+        }
+        assertEquals(1000, storage.size());
+        assertEquals(999, storage.getReward(999));
+    }
+}
@@ -0,0 +1,231 @@
+package inf112.skeleton.app.controller;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.enums.BulletType;
+import inf112.skeleton.app.tower.BaseDefender;
+import inf112.skeleton.app.tower.BomberDefender;
+import inf112.skeleton.app.tower.GunnerDefender;
+import inf112.skeleton.app.tower.SniperDefender;
+import inf112.skeleton.app.util.GameAssets;
+import inf112.skeleton.app.util.MusicManager;
+import org.junit.jupiter.api.*;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectileSystemTest {
+    private static HeadlessApplication application;
+    private static MockedStatic<MusicManager> musicManager;
+    private final EnemyHandles handles = new EnemyHandles();
+    private final DamageBuffer damage = new DamageBuffer(handles);
+
+    @BeforeAll
+    public static void setupBeforeAll() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+        when(Gdx.gl.glGenTexture()).thenReturn(1);
+        GameAssets.instance.init();
+        musicManager = mockStatic(MusicManager.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private Enemy enemy(float x, float y, float health) {
+        Enemy enemy = new Enemy('R', x, y, 50, 50, health, new LinkedList<>(), 50, 0, 0, null, false);
+        handles.acquire(enemy);
+        return enemy;
+    }
+
+    /**
+     * Updates the projectiles before the defender, in the same order as the tower controller,
+     * and applies the hits at the end like the level does.
+     */
+    private void update(BaseDefender defender, ProjectileSystem projectiles, float deltaTime) {
+        projectiles.update(deltaTime);
+        defender.update(deltaTime);
+        damage.resolve();
+    }
+
+    @Test
+    void testBulletHitGunner() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy enemy = enemy(110, 110, 1);
+        enemyList.add(enemy);
+        BaseDefender defender = new GunnerDefender(100, 100, enemyList);
+        ProjectileSystem projectiles = new ProjectileSystem();
+        defender.setProjectiles(projectiles);
+        defender.setEnemyHandles(handles);
+        defender.setDamageBuffer(damage);
+        projectiles.setEnemyHandles(handles);
+
+        update(defender, projectiles, 0);
+        defender.projectileFire();
+        assertEquals(1, projectiles.size(), "Should be a bullet now");
+        update(defender, projectiles, 1);
+        assertFalse(enemy.isAlive(), "Bullet should have hit the zombie");
+        // The zombie is only dead once the hits of the tick are applied, so the tower fired once more
+        update(defender, projectiles, 1);
+
+        assertEquals(0, projectiles.size(), "Bullet should have been removed as it hit a zombie");
+    }
+
+    @Test
+    void testBulletHitSniper() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy enemy = enemy(110, 110, 1);
+        enemyList.add(enemy);
+        BaseDefender defender = new SniperDefender(100, 100, enemyList);
+        ProjectileSystem projectiles = new ProjectileSystem();
+        defender.setProjectiles(projectiles);
+        defender.setEnemyHandles(handles);
+        defender.setDamageBuffer(damage);
+        projectiles.setEnemyHandles(handles);
+
+        update(defender, projectiles, 0);
+        defender.projectileFire();
+        update(defender, projectiles, 3);
+        assertEquals(1, projectiles.size(), "Should be a bullet now");
+        update(defender, projectiles, 1);
+
+        assertEquals(0, projectiles.size(), "Bullet should have been removed as it hit a zombie");
+    }
+
+    @Test
+    void testBulletHitBomber() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy enemy = enemy(110, 110, 1);
+        enemyList.add(enemy);
+        BaseDefender defender = new BomberDefender(100, 100, enemyList);
+        ProjectileSystem projectiles = new ProjectileSystem();
+        defender.setProjectiles(projectiles);
+        defender.setEnemyHandles(handles);
+        defender.setDamageBuffer(damage);
+        projectiles.setEnemyHandles(handles);
+
+        update(defender, projectiles, 0);
+        defender.projectileFire();
+        assertEquals(1, projectiles.size(), "Should be a bullet now");
+        update(defender, projectiles, 1);
+        assertFalse(enemy.isAlive(), "Bullet should have hit the zombie");
+        // The zombie is only dead once the hits of the tick are applied, so the tower fired once more
+        update(defender, projectiles, 1);
+
+        assertEquals(0, projectiles.size(), "Bullet should have been removed as it hit a zombie");
+    }
+
+    @Test
+    void testOrphanedBulletRetargets() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy first = enemy(110, 110, 1);
+        Enemy second = enemy(180, 180, 1);
+        enemyList.add(first);
+        enemyList.add(second);
+        BaseDefender defender = new GunnerDefender(100, 100, enemyList);
+        ProjectileSystem projectiles = new ProjectileSystem();
+        defender.setProjectiles(projectiles);
+        defender.setEnemyHandles(handles);
+        defender.setDamageBuffer(damage);
+        projectiles.setEnemyHandles(handles);
+
+        update(defender, projectiles, 0);
+        assertSame(first, defender.getEnemy());
+        defender.projectileFire();
+        enemyList.remove(first);
+        handles.release(first.getHandle());
+        first.reset();
+        update(defender, projectiles, 0);
+
+        assertEquals(1, projectiles.size(), "Bullet should follow the next enemy");
+        for (int i = 0; i < 60; i++) {
+            update(defender, projectiles, 1 / 60f);
+        }
+        assertFalse(second.isAlive(), "Bullet should have hit the next enemy");
+    }
+
+    @Test
+    void testOrphanedBulletExpires() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy enemy = enemy(110, 110, 1);
+        enemyList.add(enemy);
+        BaseDefender defender = new GunnerDefender(100, 100, enemyList);
+        ProjectileSystem projectiles = new ProjectileSystem();
+        defender.setProjectiles(projectiles);
+        defender.setEnemyHandles(handles);
+        defender.setDamageBuffer(damage);
+        projectiles.setEnemyHandles(handles);
+
+        update(defender, projectiles, 0);
+        defender.projectileFire();
+        enemyList.clear();
+        handles.release(enemy.getHandle());
+        enemy.reset();
+        update(defender, projectiles, 0);
+
+        assertEquals(0, projectiles.size(), "Bullet without any enemy left should be removed");
+        assertNull(defender.getEnemy());
+    }
+
+    @Test
+    void defenderWithoutProjectileSystemCannotFire() {
+        List<Enemy> enemyList = new ArrayList<>();
+        enemyList.add(enemy(110, 110, 1));
+        BaseDefender defender = new GunnerDefender(100, 100, enemyList);
+
+        defender.update(0);
+        assertSame(enemyList.get(0), defender.getEnemy());
+        assertThrows(IllegalStateException.class, defender::projectileFire);
+    }
+
+    @Test
+    void removingMovesLastProjectileIntoSlot() {
+        List<Enemy> enemyList = new ArrayList<>();
+        Enemy enemy = enemy(400, 400, 100);
+        enemyList.add(enemy);
+        BaseDefender defender = new GunnerDefender(100, 100, enemyList);
+        ProjectileSystem projectiles = new ProjectileSystem(1);
+
+        projectiles.fire(defender, 0, 0, enemy, 1, BulletType.GUNNER_BULLET);
+        projectiles.fire(defender, 10, 20, enemy, 1, BulletType.SNIPER_BULLET);
+        projectiles.fire(defender, 30, 40, enemy, 1, BulletType.GUNNER_BULLET);
+        projectiles.remove(0);
+
+        assertEquals(2, projectiles.size());
+        assertEquals(30, projectiles.getX(0));
+        assertEquals(40, projectiles.getY(0));
+        assertEquals(BulletType.SNIPER_BULLET, projectiles.getType(1));
+        assertEquals(3, projectiles.getFiredCount());
+
+        projectiles.clear();
+        assertEquals(0, projectiles.size());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        musicManager.close();
+        if(application != null) {
+            application.exit();
+            application = null;
+        }
+        Gdx.gl = null;
+        Gdx.gl20 = null;
+    }
+}
@@ -7,6 +7,8 @@ import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
 import inf112.skeleton.app.level.Level;
 import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.util.GameConstants;
 import org.junit.jupiter.api.*;
 
 import org.junit.jupiter.api.Test;
@@ -50,6 +52,7 @@ class RandomEnemyFactoryTest {
 
         when(mockLevel.getMap()).thenReturn(mockMap);
         when(mockMap.getDirections()).thenReturn(new LinkedList<>());
+        when(mockMap.getPath()).thenReturn(new MapPath(GameConstants.START_POS, new LinkedList<>()));
 
         float speedMultiplier = 1f;
         float healthMultiplier = 1f;
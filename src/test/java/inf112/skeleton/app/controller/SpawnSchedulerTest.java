@@ -0,0 +1,52 @@
+package inf112.skeleton.app.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpawnSchedulerTest {
+
+    @Test
+    void spawnsComeOutInTimeOrder() {
+        SpawnScheduler scheduler = new SpawnScheduler(1);
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            scheduler.schedule(random.nextInt(100) * 0.25, 'R', 1, 1);
+        }
+        assertEquals(500, scheduler.size());
+
+        double previous = Double.NEGATIVE_INFINITY;
+        while (!scheduler.isEmpty()) {
+            assertTrue(scheduler.getFirstTime() >= previous);
+            previous = scheduler.getFirstTime();
+            scheduler.removeFirst();
+        }
+        assertThrows(IllegalStateException.class, scheduler::removeFirst);
+    }
+
+    @Test
+    void equalTimesKeepTheirOrder() {
+        SpawnScheduler scheduler = new SpawnScheduler(4);
+        String types = "RTQRTQRR";
+        for (int i = 0; i < types.length(); i++) {
+            scheduler.schedule(2, types.charAt(i), i, 1);
+        }
+        scheduler.schedule(1, 'Q', 10, 3);
+
+        assertFalse(scheduler.hasDue(0.5));
+        assertTrue(scheduler.hasDue(1));
+        assertEquals('Q', scheduler.getFirstType());
+        assertEquals(10, scheduler.getFirstSpeedMultiplier());
+        assertEquals(3, scheduler.getFirstHealthMultiplier());
+        scheduler.removeFirst();
+
+        StringBuilder order = new StringBuilder();
+        while (scheduler.hasDue(2)) {
+            order.append(scheduler.getFirstType());
+            scheduler.removeFirst();
+        }
+        assertEquals(types, order.toString());
+    }
+}
@@ -5,14 +5,16 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Rectangle;
 
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.entity.EnemyHandles;
+import inf112.skeleton.app.enums.BulletType;
 import inf112.skeleton.app.enums.DefenderType;
 import inf112.skeleton.app.enums.GridType;
 import inf112.skeleton.app.level.Level;
 import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.scene.RenderQueue;
 import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import org.junit.jupiter.api.AfterAll;
@@ -24,14 +26,16 @@ import org.mockito.MockitoAnnotations;
 import inf112.skeleton.app.map.Tile;
 import inf112.skeleton.app.tower.BaseDefender;
 
+import java.util.LinkedList;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.*;
-import java.util.List;
 
 public class TowerControllerTest {
 
@@ -49,8 +53,6 @@ public class TowerControllerTest {
     private static HeadlessApplication application;
     @Mock
     private Tile mockTile;
-    @Mock
-    private Rectangle mockHitBox;
 
     @Mock
     private BaseDefender mockDefender;
@@ -89,20 +91,48 @@ public class TowerControllerTest {
     }
 
     @Test
-    public void testLegalPlacementWhenHitboxOverlaps() {
+    public void testLegalPlacementWhenTileIsTaken() {
         float x = 0;
         float y = 0;
 
         when(mockTile.getType()).thenReturn(GridType.GROUND);
-
-        List<BaseDefender> defenderList = towerController.getDefenderList();
-        defenderList.add(mockDefender);
-        when(mockDefender.getHitBox()).thenReturn(mockHitBox);
-        when(mockHitBox.overlaps(any())).thenReturn(true);
+        towerController.buildTower(x, y, mockEnemyController.getEnemyList(), DefenderType.GUNNER);
 
         boolean result = towerController.legalPlacement(x, y);
 
         assertFalse(result);
+        assertEquals(towerController.getDefenderList().get(0), towerController.getTowerAt(x, y));
+    }
+
+    @Test
+    public void testSellingFreesTile() {
+        when(mockTile.getType()).thenReturn(GridType.GROUND);
+        towerController.buildTower(0, 0, mockEnemyController.getEnemyList(), DefenderType.GUNNER);
+        towerController.setSelectedTowerUpgrade(towerController.getTowerAt(0, 0));
+
+        towerController.sellSelectedDefender();
+
+        assertTrue(towerController.legalPlacement(0, 0));
+        assertNull(towerController.getTowerAt(0, 0));
+    }
+
+    @Test
+    public void testProjectilesOutliveSoldTower() {
+        when(mockTile.getType()).thenReturn(GridType.GROUND);
+        towerController.buildTower(0, 0, mockEnemyController.getEnemyList(), DefenderType.GUNNER);
+        BaseDefender tower = towerController.getTowerAt(0, 0);
+        Enemy enemy = new Enemy('R', 500, 500, 50, 50, 100, new LinkedList<>(), 50, 0, 0, null, false);
+        EnemyHandles handles = new EnemyHandles();
+        handles.acquire(enemy);
+        towerController.getProjectiles().setEnemyHandles(handles);
+        tower.getProjectiles().fire(tower, 0, 0, enemy, 1, BulletType.GUNNER_BULLET);
+        towerController.setSelectedTowerUpgrade(tower);
+
+        towerController.sellSelectedDefender();
+        towerController.update(1 / 60f);
+
+        assertSame(towerController.getProjectiles(), tower.getProjectiles());
+        assertEquals(1, towerController.getProjectiles().size());
     }
 
     @Test
@@ -254,9 +284,9 @@ public class TowerControllerTest {
         BaseDefender mockDefender = mock(BaseDefender.class);
         towerController.getDefenderList().add(mockDefender);
 
-        towerController.render(mock(SpriteBatch.class));
+        towerController.submit(new RenderQueue(), 1f);
 
-        verify(mockDefender, times(1)).render(any(SpriteBatch.class));
+        verify(mockDefender, times(1)).submit(any(RenderQueue.class), eq(1f), anyFloat());
     }
 
     @Test
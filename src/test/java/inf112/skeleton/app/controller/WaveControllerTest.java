@@ -51,6 +51,21 @@ public class WaveControllerTest {
     }
 
 
+    @Test
+    void preparedWavesAreScheduledUntilDisposed() {
+        mockLevel = new Level(1);
+        EnemyController enemyController = new EnemyController(mockLevel);
+        WaveController waveController = new WaveController(enemyController, 1, false);
+
+        waveController.newWave(mockLevel);
+        assertTrue(enemyController.getScheduledCount() > 0, "The first wave should be scheduled");
+        waveController.newWave(mockLevel);
+
+        waveController.dispose();
+        assertThrows(IllegalStateException.class, () -> waveController.newWave(mockLevel));
+        mockLevel.dispose();
+    }
+
     @AfterAll
     public static void tearDown() {
         if(application != null) {
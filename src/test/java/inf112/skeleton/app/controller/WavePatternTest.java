@@ -0,0 +1,77 @@
+package inf112.skeleton.app.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WavePatternTest {
+
+    private static String decode(WavePattern pattern, float defaultInterval) {
+        StringBuilder zombies = new StringBuilder();
+        WaveDecoder decoder = pattern.decoder(defaultInterval);
+        while (decoder.hasNext()) {
+            zombies.append(decoder.getType());
+            decoder.advance();
+        }
+        return zombies.toString();
+    }
+
+    @Test
+    void plainPatternSpawnsEveryCharacter() {
+        WavePattern pattern = WavePattern.parse("RRTQR");
+        assertEquals("RRTQR", decode(pattern, 1));
+        assertEquals(5, pattern.getZombieCount());
+    }
+
+    @Test
+    void repeatsAndGroupsAreExpandedLazily() {
+        WavePattern pattern = WavePattern.parse("R*3 (TQ)*2 @0.2s ((R)*2 Q)*2");
+        assertEquals("RRRTQTQRRQRRQ", decode(pattern, 1));
+        assertEquals(13, pattern.getZombieCount());
+
+        WaveDecoder decoder = pattern.decoder(1);
+        double[] times = new double[13];
+        for (int i = 0; decoder.hasNext(); i++) {
+            assertEquals(13 - i, decoder.getRemaining());
+            times[i] = decoder.getTime();
+            decoder.advance();
+        }
+        assertEquals(0, decoder.getRemaining());
+        assertEquals(0, times[0]);
+        assertEquals(2, times[2]);
+        assertEquals(2.2, times[3], 1e-6);
+        assertEquals(2.8, times[6], 1e-6);
+        assertEquals(3.8, times[7], 1e-6);
+    }
+
+    @Test
+    void hugeWavesAreDescribedInConstantSpace() {
+        WavePattern pattern = WavePattern.parse("@0.1s R*200 (TQ)*50 hp=2 speed=1.5 (R*1000)*1000000");
+        assertEquals(200 + 100 + 1_000_000_000L, pattern.getZombieCount());
+        assertEquals(2, pattern.getHealthMultiplier());
+        assertEquals(1.5f, pattern.getSpeedMultiplier());
+
+        WaveDecoder decoder = pattern.decoder(5);
+        for (int i = 0; i < 300; i++) {
+            decoder.advance();
+        }
+        assertEquals('R', decoder.getType());
+        assertEquals(30, decoder.getTime(), 1e-6);
+    }
+
+    @Test
+    void emptyAndZeroRepeatGroupsSpawnNothing() {
+        assertEquals("", decode(WavePattern.parse(""), 1));
+        assertEquals("Q", decode(WavePattern.parse("()*1000000000 R*0 (T)*0 Q"), 1));
+    }
+
+    @Test
+    void invalidPatternsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WavePattern.parse("RX"));
+        assertThrows(IllegalArgumentException.class, () -> WavePattern.parse("(RT"));
+        assertThrows(IllegalArgumentException.class, () -> WavePattern.parse("RT)"));
+        assertThrows(IllegalArgumentException.class, () -> WavePattern.parse("R*"));
+        assertThrows(IllegalArgumentException.class, () -> WavePattern.parse("R@s"));
+        assertThrows(IllegalArgumentException.class, () -> WavePattern.parse("armor=2 R"));
+    }
+}
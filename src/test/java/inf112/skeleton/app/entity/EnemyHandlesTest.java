@@ -0,0 +1,55 @@
+package inf112.skeleton.app.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyHandlesTest {
+
+    @Test
+    void releasedHandlesFindNothing() {
+        EnemyHandles handles = new EnemyHandles();
+        Enemy enemy = new Enemy();
+        long handle = handles.acquire(enemy);
+        assertSame(enemy, handles.get(handle));
+        assertEquals(handle, enemy.getHandle());
+
+        handles.release(handle);
+        handles.release(handle);
+        assertEquals(EnemyHandles.NONE, enemy.getHandle());
+
+        assertNull(handles.get(handle));
+        assertNull(handles.get(EnemyHandles.NONE));
+        assertEquals(0, handles.size());
+    }
+
+    @Test
+    void reusedIndexGetsNewGeneration() {
+        EnemyHandles handles = new EnemyHandles();
+        Enemy first = new Enemy();
+        Enemy second = new Enemy();
+        long old = handles.acquire(first);
+        handles.release(old);
+        long handle = handles.acquire(second);
+
+        assertEquals((int) old, (int) handle, "The index should be reused");
+        assertNotEquals(old, handle);
+        assertNull(handles.get(old));
+        assertSame(second, handles.get(handle));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        EnemyHandles handles = new EnemyHandles();
+        Enemy[] enemies = new Enemy[200];
+        long[] ids = new long[enemies.length];
+        for (int i = 0; i < enemies.length; i++) {
+            enemies[i] = new Enemy();
+            ids[i] = handles.acquire(enemies[i]);
+        }
+        for (int i = 0; i < enemies.length; i++) {
+            assertSame(enemies[i], handles.get(ids[i]));
+        }
+        assertThrows(IllegalArgumentException.class, () -> handles.acquire(null));
+    }
+}
@@ -3,6 +3,8 @@ package inf112.skeleton.app.entity;
 import com.badlogic.gdx.ApplicationAdapter;
 import inf112.skeleton.app.level.Level;
 import inf112.skeleton.app.map.Map;
+import inf112.skeleton.app.map.MapPath;
+import inf112.skeleton.app.util.GameConstants;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -86,6 +88,7 @@ public class EnemyTest {
 
         when(mockLevel.getMap()).thenReturn(mockMap);
         when(mockMap.getDirections()).thenReturn(mockDirections);
+        when(mockMap.getPath()).thenReturn(new MapPath(GameConstants.START_POS, mockDirections));
 
         Enemy enemy = Enemy.newEnemy('Q', mockLevel, 1.0f, 1.0f, 0.0f, false);
 
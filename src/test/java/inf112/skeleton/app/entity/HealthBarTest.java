@@ -58,6 +58,16 @@ public class HealthBarTest {
     }
 
 
+    @Test
+    public void testHealthFractionFollowsEnemyHealth(){
+        assertEquals(1f, mockEnemy.getHpBar().getHealthFraction());
+        mockEnemy.shot(25);
+        assertEquals(0.75f, mockEnemy.getHpBar().getHealthFraction());
+        mockEnemy.getHpBar().setHealth(-10);
+        assertEquals(0f, mockEnemy.getHpBar().getHealthFraction());
+    }
+
+
 
     @AfterAll
     public static void tearDown() {
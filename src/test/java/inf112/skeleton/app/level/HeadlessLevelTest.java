@@ -0,0 +1,135 @@
+package inf112.skeleton.app.level;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.GL20;
+import inf112.skeleton.app.controller.EnemyController;
+import inf112.skeleton.app.controller.TowerController;
+import inf112.skeleton.app.enums.DefenderType;
+import inf112.skeleton.app.util.EntityPools;
+import inf112.skeleton.app.util.GameConstants;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs whole games without any libGDX backend, to make sure the simulation does not depend on one.
+ */
+public class HeadlessLevelTest {
+    private static Application app;
+    private static Graphics graphics;
+    private static Audio audio;
+    private static Files files;
+    private static Input input;
+    private static GL20 gl;
+    private static GL20 gl20;
+
+    @BeforeAll
+    static void removeBackend() {
+        app = Gdx.app;
+        graphics = Gdx.graphics;
+        audio = Gdx.audio;
+        files = Gdx.files;
+        input = Gdx.input;
+        gl = Gdx.gl;
+        gl20 = Gdx.gl20;
+
+        Gdx.app = null;
+        Gdx.graphics = null;
+        Gdx.audio = null;
+        Gdx.files = null;
+        Gdx.input = null;
+        Gdx.gl = null;
+        Gdx.gl20 = null;
+    }
+
+    @AfterAll
+    static void restoreBackend() {
+        Gdx.app = app;
+        Gdx.graphics = graphics;
+        Gdx.audio = audio;
+        Gdx.files = files;
+        Gdx.input = input;
+        Gdx.gl = gl;
+        Gdx.gl20 = gl20;
+    }
+
+    @Test
+    void levelRunsWithoutBackend() {
+        Level level = new Level(1);
+        TowerController towerController = level.getTowerController();
+
+        // Ground tiles next to the first part of the path on map 1
+        assertTrue(towerController.buildTower(150, 210, level.getEnemyController().getEnemyList(), DefenderType.GUNNER) > 0);
+        assertTrue(towerController.buildTower(30, 330, level.getEnemyController().getEnemyList(), DefenderType.GUNNER) > 0);
+
+        for (int i = 0; i < 60 * 60; i++) {
+            level.update(1 / 60f);
+        }
+
+        assertTrue(level.getCurrentWave() > 1, "Several waves should have been played");
+        assertTrue(level.getEnemiesKilled() > 0, "The towers should have killed some zombies");
+        assertEquals(GameConstants.SCORE_INCREASE * level.getEnemiesKilled(), level.getScore());
+    }
+
+    @Test
+    void packedEnemiesPlayTheSameGame() {
+        Level objects = new Level(1);
+        Level packed = new Level(1);
+        packed.getEnemyController().setPackedStorage(true);
+        for (Level level : new Level[]{objects, packed}) {
+            level.getTowerController().buildTower(150, 210, level.getEnemyController().getEnemyList(), DefenderType.GUNNER);
+            level.getTowerController().buildTower(30, 330, level.getEnemyController().getEnemyList(), DefenderType.BOMBER);
+        }
+
+        for (int i = 0; i < 60 * 90; i++) {
+            objects.update(1 / 60f);
+            packed.update(1 / 60f);
+            assertEquals(objects.getEnemyController().getEnemyCount(), packed.getEnemyController().getEnemyCount());
+        }
+
+        assertTrue(packed.getEnemiesKilled() > 0);
+        assertTrue(packed.getEnemyController().getEnemyList().isEmpty());
+        assertEquals(objects.getCurrentWave(), packed.getCurrentWave());
+        assertEquals(objects.getEnemiesKilled(), packed.getEnemiesKilled());
+        assertEquals(objects.getMoney(), packed.getMoney());
+        assertEquals(objects.getUserHealth(), packed.getUserHealth());
+    }
+
+    @Test
+    void enemiesAreReusedAndTowersFire() {
+        Level level = new Level(1);
+        level.getTowerController().buildTower(150, 210, level.getEnemyController().getEnemyList(), DefenderType.GUNNER);
+        level.getTowerController().buildTower(30, 330, level.getEnemyController().getEnemyList(), DefenderType.GUNNER);
+        EntityPools.resetMetrics();
+
+        for (int i = 0; i < 60 * 120; i++) {
+            level.update(1 / 60f);
+        }
+
+        assertTrue(EntityPools.ENEMIES.getFreed() > 0);
+        assertTrue(EntityPools.ENEMIES.getCreated() < EntityPools.ENEMIES.getObtained(), "Removed enemies should be reused");
+        assertTrue(level.getTowerController().getProjectiles().getFiredCount() > 0);
+        assertTrue(EntityPools.HEALTH_BARS.getCreated() < EntityPools.HEALTH_BARS.getObtained());
+        EnemyController enemyController = level.getEnemyController();
+        assertEquals(enemyController.getEnemyCount() - enemyController.getScheduledCount(), EntityPools.ENEMIES.getInUse(),
+                "Only spawned zombies should hold an enemy object");
+    }
+
+    @Test
+    void manyLevelsCanBeSimulated() {
+        for (int game = 0; game < 20; game++) {
+            Level level = new Level(1 + game % 2);
+            for (int i = 0; i < 60 * 30; i++) {
+                level.update(1 / 60f);
+            }
+            assertTrue(level.getCurrentWave() > 0);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package inf112.skeleton.app.level;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.ApplicationAdapter;
@@ -15,7 +16,10 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import inf112.skeleton.app.controller.TowerController;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.enums.WaveMode;
 import inf112.skeleton.app.map.Board;
+import inf112.skeleton.app.enums.GameEventType;
 import inf112.skeleton.app.util.GameConstants;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterAll;
@@ -24,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 
+import java.util.List;
 import java.util.Set;
 
 public class LevelTest {
@@ -108,6 +113,25 @@ public class LevelTest {
         assertEquals(initialEnemies + 1, level.getEnemiesKilled());
     }
 
+    @Test
+    public void testEventsAreAppliedAtTheEndOfTheTick() {
+        int initialMoney = level.getMoney();
+        int initialHealth = level.getUserHealth();
+        level.getEvents().post(GameEventType.ENEMY_KILLED, 10, 0, 0);
+        level.getEvents().post(GameEventType.ENEMY_KILLED, 15, 0, 0);
+        level.getEvents().post(GameEventType.ENEMY_LEAKED, 10, 0, 0);
+        assertEquals(initialMoney, level.getMoney(), "Events are only applied when the tick ends");
+
+        level.tick();
+
+        assertEquals(initialMoney + 25, level.getMoney());
+        assertEquals(2, level.getEnemiesKilled());
+        assertEquals(2 * GameConstants.SCORE_INCREASE, level.getScore());
+        assertEquals(initialHealth - 1, level.getUserHealth());
+        assertEquals(1, level.getEvents().getTotal(GameEventType.WAVE_STARTED));
+        assertEquals(0, level.getEvents().size());
+    }
+
     @Test
     public void testRestartGameResetsValues() {
         level.restart();
@@ -150,4 +174,67 @@ public class LevelTest {
         level.enemyCompletedPath();
         assertEquals(initialHealth - 6, level.getUserHealth());
     }
+
+    @Test
+    public void testUpdateRunsFixedTicks() {
+        level.update(level.getTickLength() * 3.5f);
+        assertEquals(3, level.getTickCount());
+        assertEquals(0.5f, level.getInterpolationAlpha(), 0.01f);
+    }
+
+    @Test
+    public void testUpdateCapsTicksPerFrame() {
+        level.update(10f);
+        assertEquals(GameConstants.MAX_TICKS_PER_FRAME, level.getTickCount());
+        assertTrue(level.getInterpolationAlpha() < 1f);
+    }
+
+    @Test
+    public void testSimulationIndependentOfFrameRate() {
+        Level slowFrames = new Level(1);
+        Level fastFrames = new Level(1);
+        slowFrames.setTickRate(128);
+        fastFrames.setTickRate(128);
+
+        for (int i = 0; i < 32 * 20; i++) {
+            slowFrames.update(1 / 32f);
+        }
+        for (int i = 0; i < 128 * 20; i++) {
+            fastFrames.update(1 / 128f);
+        }
+
+        assertEquals(slowFrames.getTickCount(), fastFrames.getTickCount());
+        List<Enemy> slowEnemies = slowFrames.getEnemyController().getEnemyList();
+        List<Enemy> fastEnemies = fastFrames.getEnemyController().getEnemyList();
+        assertEquals(slowEnemies.size(), fastEnemies.size());
+        for (int i = 0; i < slowEnemies.size(); i++) {
+            assertEquals(slowEnemies.get(i).position, fastEnemies.get(i).position);
+        }
+    }
+
+    @Test
+    public void timedWavesOverlap() {
+        level.setWaveMode(WaveMode.TIMED);
+        level.setWaveInterval(1);
+        level.tick();
+        assertEquals(1, level.getCurrentWave());
+
+        int ticksPerWave = GameConstants.TICKS_PER_SECOND;
+        for (int i = 0; i < ticksPerWave * 2 + 2; i++) {
+            level.tick();
+        }
+        assertEquals(3, level.getCurrentWave());
+        assertTrue(level.getEnemyController().getScheduledCount() > 10, "Zombies of all three waves should be waiting");
+    }
+
+    @Test
+    public void callingNextWaveEarlyAddsItsZombies() {
+        level.tick();
+        int firstWave = level.getEnemyController().getEnemyCount();
+
+        level.callNextWave();
+        assertEquals(2, level.getCurrentWave());
+        assertTrue(level.getEnemyController().getEnemyCount() > firstWave);
+        assertTrue(level.getTimeSinceWaveStart() < level.getTickLength());
+    }
 }
@@ -0,0 +1,110 @@
+package inf112.skeleton.app.level;
+
+import inf112.skeleton.app.controller.EnemyController;
+import inf112.skeleton.app.controller.TowerController;
+import inf112.skeleton.app.entity.Enemy;
+import inf112.skeleton.app.enums.DefenderType;
+import inf112.skeleton.app.enums.GridType;
+import inf112.skeleton.app.map.Board;
+import inf112.skeleton.app.map.Tile;
+import inf112.skeleton.app.util.GameConstants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the simulation does not create garbage once it is warmed up, by measuring
+ * the bytes allocated by the test thread while a level full of enemies and towers is ticked.
+ */
+public class TickAllocationTest {
+
+    private static final int WARMUP_TICKS = 1500;
+    private static final int MEASURED_TICKS = 1200;
+    private static final long BUDGET_BYTES = 16 * 1024;
+
+    private static final DefenderType[] TOWERS = {DefenderType.GUNNER, DefenderType.BOMBER, DefenderType.SNIPER};
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counting is not available");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counting is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    /**
+     * Builds towers on every ground tile next to the path, and fills the level with one long wave.
+     */
+    private static Level loadedLevel(boolean packed) {
+        Level level = new Level(1);
+        EnemyController enemyController = level.getEnemyController();
+        enemyController.setPackedStorage(packed);
+        TowerController towerController = level.getTowerController();
+        level.addMoney(1_000_000);
+
+        Board board = level.getMap().getBoard();
+        int towers = 0;
+        for (Tile tile : board.getGameBoard()) {
+            if (tile.getType() == GridType.GROUND && nextToPath(board, tile)) {
+                float x = tile.getX() + GameConstants.TILE_WIDTH / 2;
+                float y = tile.getY() + GameConstants.TILE_HEIGHT / 2;
+                towerController.buildTower(x, y, enemyController.getEnemyList(), TOWERS[towers++ % TOWERS.length]);
+            }
+        }
+
+        for (int i = 0; i < 400; i++) {
+            char type = GameConstants.ENEMY_TYPES.charAt(i % GameConstants.ENEMY_TYPES.length());
+            enemyController.newZombie(Enemy.newEnemy(type, level, 1, 1 + i % 7, i * 0.05f, false));
+        }
+        return level;
+    }
+
+    private static boolean nextToPath(Board board, Tile tile) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                Tile neighbour = board.getTile(tile.getColumn() + dx, tile.getRow() + dy);
+                if (neighbour != null && neighbour.getType() == GridType.PATH) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long measureTicks(Level level) {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            level.tick();
+        }
+        int killedBefore = level.getEnemiesKilled();
+        assertTrue(level.getEnemyController().getEnemyCount() > 0, "The wave should still be running");
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            level.tick();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(level.getEnemyController().getEnemyCount() > 0, "The wave should last through the measured ticks");
+        assertTrue(level.getEnemiesKilled() > killedBefore, "The towers should be killing zombies while measured");
+        return allocated;
+    }
+
+    @Test
+    void tickDoesNotAllocate() {
+        long allocated = measureTicks(loadedLevel(false));
+        assertTrue(allocated < BUDGET_BYTES,
+                "Allocated " + allocated + " bytes in " + MEASURED_TICKS + " ticks, budget is " + BUDGET_BYTES);
+    }
+
+    @Test
+    void packedTickDoesNotAllocate() {
+        long allocated = measureTicks(loadedLevel(true));
+        assertTrue(allocated < BUDGET_BYTES,
+                "Allocated " + allocated + " bytes in " + MEASURED_TICKS + " ticks, budget is " + BUDGET_BYTES);
+    }
+}
@@ -12,6 +12,8 @@ import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BoardTest {
@@ -35,4 +37,23 @@ public class BoardTest {
         assertTrue(gameBoard.get(0).getType() == GridType.PATH, "The first tile should be a PATH tile");
         assertTrue(gameBoard.get(1).getType() == GridType.PATH, "The second tile should also be a PATH tile");
     }
+
+    @Test
+    void tileLookupMatchesContains() {
+        for (Tile tile : board.getGameBoard()) {
+            assertSame(tile, board.getTile(tile.getColumn(), tile.getRow()));
+        }
+        for (float x = -30; x < GameConstants.SCREEN_WIDTH + 30; x += 7) {
+            for (float y = -30; y < GameConstants.SCREEN_HEIGHT + 30; y += 7) {
+                Tile expected = null;
+                for (Tile tile : board.getGameBoard()) {
+                    if (tile.contains(x, y)) {
+                        expected = tile;
+                    }
+                }
+                assertSame(expected, board.getTileAt(x, y), "Tile at " + x + ", " + y);
+            }
+        }
+        assertNull(board.getTile(GameConstants.COLUMN_SIZE, 0));
+    }
 }
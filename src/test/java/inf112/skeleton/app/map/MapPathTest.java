@@ -0,0 +1,84 @@
+package inf112.skeleton.app.map;
+
+import com.badlogic.gdx.math.Vector2;
+import inf112.skeleton.app.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapPathTest {
+
+    private static boolean outOfBounds(Vector2 position) {
+        return position.x + ENEMY_WIDTH > SCREEN_WIDTH
+                || position.x - ENEMY_WIDTH < 0
+                || position.y + ENEMY_HEIGHT / 2 > SCREEN_HEIGHT - UI_ROWS_TOP * TILE_HEIGHT
+                || position.y + ENEMY_HEIGHT / 2 < UI_ROWS_BOTTOM * TILE_HEIGHT;
+    }
+
+    @Test
+    void mergesTilesIntoSegments() {
+        MapPath path = new MapPath(new Vector2(0, 0), List.of(Direction.UP, Direction.UP, Direction.RIGHT, Direction.DOWN));
+
+        assertEquals(3, path.getSegmentCount());
+        assertEquals(2 * TILE_HEIGHT + TILE_WIDTH + TILE_HEIGHT, path.getLength());
+        assertEquals(Direction.RIGHT, path.getSegmentDirection(1));
+        assertEquals(2 * TILE_HEIGHT, path.getSegmentStart(1));
+        assertEquals(4, path.getDirections().size());
+    }
+
+    @Test
+    void looksUpPositionsFromDistance() {
+        MapPath path = new MapPath(new Vector2(10, 20), List.of(Direction.RIGHT, Direction.UP, Direction.LEFT));
+        Vector2 position = new Vector2();
+
+        assertEquals(new Vector2(10, 20), path.positionAt(0, position));
+        assertEquals(new Vector2(40, 20), path.positionAt(30, position));
+        assertEquals(new Vector2(70, 50), path.positionAt(TILE_WIDTH + 30, position));
+        assertEquals(new Vector2(40, 80), path.positionAt(TILE_WIDTH + TILE_HEIGHT + 30, position));
+        assertEquals(new Vector2(10, 80), path.positionAt(10000, position));
+    }
+
+    @Test
+    void segmentHintGivesSameSegmentAsSearch() {
+        MapPath path = new Map(2).getPath();
+        int segment = 0;
+        for (float distance = 0; distance <= path.getLength(); distance += 7.5f) {
+            segment = path.segmentAt(distance, segment);
+            assertEquals(path.segmentAt(distance), segment);
+        }
+        assertEquals(path.segmentAt(10), path.segmentAt(10, path.getSegmentCount() - 1));
+    }
+
+    @Test
+    void entryAndEndMatchScreenBounds() {
+        for (int mapNumber = 1; mapNumber <= 2; mapNumber++) {
+            MapPath path = new Map(mapNumber).getPath();
+            assertTrue(path.getEntryDistance() > 0);
+            assertTrue(path.getEndDistance() > path.getEntryDistance());
+
+            Vector2 position = new Vector2();
+            for (float distance = 0; distance <= path.getLength(); distance += 0.5f) {
+                boolean onMap = distance >= path.getEntryDistance() && distance <= path.getEndDistance();
+                assertEquals(onMap, !outOfBounds(path.positionAt(distance, position)),
+                        "Map " + mapNumber + " at distance " + distance);
+            }
+        }
+    }
+
+    @Test
+    void pathThatStaysOnTheMapEndsAtItsEnd() {
+        MapPath path = new MapPath(START_POS, List.of(Direction.UP, Direction.RIGHT, Direction.RIGHT));
+        assertEquals(ENEMY_HEIGHT / 2, path.getEntryDistance());
+        assertEquals(path.getLength(), path.getEndDistance());
+    }
+
+    @Test
+    void emptyPathStaysAtStart() {
+        MapPath path = new MapPath(START_POS, List.of());
+        assertEquals(0, path.getLength());
+        assertEquals(START_POS, path.positionAt(5, new Vector2()));
+    }
+}
@@ -0,0 +1,54 @@
+package inf112.skeleton.app.map;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static inf112.skeleton.app.util.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathCoverageTest {
+
+    @Test
+    void coversExactlyThePathWithinRange() {
+        MapPath path = new Map(1).getPath();
+        Random random = new Random(11);
+        Vector2 position = new Vector2();
+
+        for (int i = 0; i < 100; i++) {
+            Vector2 point = new Vector2(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            float range = 20 + random.nextFloat() * 300;
+            PathCoverage coverage = PathCoverage.of(path, point, range);
+
+            for (float distance = 0; distance <= path.getLength(); distance += 0.5f) {
+                float away = point.dst(path.positionAt(distance, position));
+                if (away <= range) {
+                    assertTrue(coverage.covers(distance), "Distance " + distance + " is in range");
+                } else if (away > range + 1) {
+                    assertFalse(coverage.covers(distance), "Distance " + distance + " is out of range");
+                }
+            }
+        }
+    }
+
+    @Test
+    void largeRangeCoversTheWholePathInOneInterval() {
+        MapPath path = new Map(2).getPath();
+        PathCoverage coverage = PathCoverage.of(path, new Vector2(SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2), TOWER_RANGE_SNIPER);
+
+        assertEquals(1, coverage.getIntervalCount());
+        assertTrue(coverage.getStart(0) <= 0);
+        assertTrue(coverage.getEnd(0) >= path.getLength());
+        assertTrue(coverage.matches(new Vector2(SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2), TOWER_RANGE_SNIPER));
+        assertFalse(coverage.matches(new Vector2(SCREEN_WIDTH / 2, SCREEN_HEIGHT / 2), TOWER_RANGE));
+    }
+
+    @Test
+    void pointFarFromThePathCoversNothing() {
+        MapPath path = new Map(1).getPath();
+        PathCoverage coverage = PathCoverage.of(path, new Vector2(-5000, -5000), 10);
+        assertEquals(0, coverage.getIntervalCount());
+        assertEquals(0, coverage.getCoveredLength());
+    }
+}
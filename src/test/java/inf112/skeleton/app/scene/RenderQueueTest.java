@@ -0,0 +1,78 @@
+package inf112.skeleton.app.scene;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import inf112.skeleton.app.enums.RenderLayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class RenderQueueTest {
+
+    private RenderQueue queue;
+    private SpriteBatch batch;
+    private TextureRegion atlasRegion;
+    private TextureRegion otherAtlasRegion;
+    private TextureRegion whiteRegion;
+
+    @BeforeEach
+    void setUp() {
+        queue = new RenderQueue();
+        batch = mock(SpriteBatch.class);
+        Texture atlas = mock(Texture.class);
+        atlasRegion = new TextureRegion(atlas);
+        otherAtlasRegion = new TextureRegion(atlas);
+        whiteRegion = new TextureRegion(mock(Texture.class));
+    }
+
+    private void verifyDraw(InOrder order, TextureRegion region, float x) {
+        order.verify(batch).draw(eq(region), eq(x), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    void drawsLayersInOrderAndGroupsTextures() {
+        queue.draw(RenderLayer.TOWERS, atlasRegion, 5, 0, 1, 1);
+        queue.draw(RenderLayer.ENEMIES, atlasRegion, 1, 0, 1, 1);
+        queue.draw(RenderLayer.HEALTH_BARS, whiteRegion, 3, 0, 1, 1);
+        queue.draw(RenderLayer.ENEMIES, whiteRegion, 2, 0, 1, 1);
+        queue.draw(RenderLayer.ENEMIES, otherAtlasRegion, 0, 0, 1, 1);
+        queue.draw(RenderLayer.HEALTH_BARS, whiteRegion, 4, 0, 1, 1);
+
+        queue.flush(batch);
+
+        InOrder order = inOrder(batch);
+        order.verify(batch).begin();
+        verifyDraw(order, atlasRegion, 1);
+        verifyDraw(order, otherAtlasRegion, 0);
+        verifyDraw(order, whiteRegion, 2);
+        verifyDraw(order, whiteRegion, 3);
+        verifyDraw(order, whiteRegion, 4);
+        verifyDraw(order, atlasRegion, 5);
+        order.verify(batch).end();
+        verify(batch, times(1)).begin();
+
+        assertEquals(6, queue.getDrawCalls());
+        assertEquals(3, queue.getTextureSwitches());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void skipsMissingRegionsAndGrowsPastCapacity() {
+        queue.draw(RenderLayer.ENEMIES, null, 0, 0, 1, 1);
+        assertEquals(0, queue.size());
+
+        for (int i = 0; i < 1000; i++) {
+            queue.draw(RenderLayer.BULLETS, i % 2 == 0 ? atlasRegion : whiteRegion, i, 0, 1, 1);
+        }
+        queue.flush(batch);
+
+        assertEquals(1000, queue.getDrawCalls());
+        assertEquals(2, queue.getTextureSwitches());
+    }
+}
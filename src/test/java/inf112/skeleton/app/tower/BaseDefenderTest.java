@@ -7,8 +7,10 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Rectangle;
+import inf112.skeleton.app.controller.EnemySpatialIndex;
 import inf112.skeleton.app.entity.Enemy;
 import inf112.skeleton.app.enums.Direction;
+import inf112.skeleton.app.enums.TargetingMode;
 import inf112.skeleton.app.util.GameAssets;
 import inf112.skeleton.app.util.GameConstants;
 import org.junit.jupiter.api.BeforeAll;
@@ -60,7 +62,53 @@ public class BaseDefenderTest {
     public void testEnemyInteraction() {
         defender.update(1.0f);
 
-        assertTrue("Enemy should be targeted by defender", defender.enemy == enemy);
+        assertTrue("Enemy should be targeted by defender", defender.getEnemy() == enemy);
+    }
+
+    @Test
+    public void testTargetsClosestEnemyThroughSpatialIndex() {
+        Enemy farEnemy = new Enemy('T', 150, 0, ENEMY_WIDTH, ENEMY_HEIGHT, 100, new LinkedList<>(), 10, 1, 0, null, false);
+        Enemy closeEnemy = new Enemy('T', 60, 60, ENEMY_WIDTH, ENEMY_HEIGHT, 100, new LinkedList<>(), 10, 1, 0, null, false);
+        enemies.add(farEnemy);
+        enemies.add(closeEnemy);
+        EnemySpatialIndex index = new EnemySpatialIndex();
+        index.rebuild(enemies);
+        defender.setEnemyIndex(index);
+
+        defender.update(1.0f);
+
+        assertSame(closeEnemy, defender.getEnemy());
+    }
+
+    @Test
+    public void testTargetingModesPickFromEnemyList() {
+        Enemy weakEnemy = new Enemy('T', 60, 60, ENEMY_WIDTH, ENEMY_HEIGHT, 20, new LinkedList<>(), 10, 1, 0, null, false);
+        Enemy strongEnemy = new Enemy('T', 70, 40, ENEMY_WIDTH, ENEMY_HEIGHT, 300, new LinkedList<>(), 10, 1, 0, null, false);
+        enemies.add(weakEnemy);
+        enemies.add(strongEnemy);
+
+        defender.setTargetingMode(TargetingMode.STRONGEST);
+        defender.update(1.0f);
+        assertSame(strongEnemy, defender.getEnemy());
+
+        defender = new TestableDefender(50, 50, enemies);
+        defender.setTargetingMode(TargetingMode.WEAKEST);
+        defender.update(1.0f);
+        assertSame(weakEnemy, defender.getEnemy());
+
+        assertEquals(TargetingMode.CLOSEST, TargetingMode.WEAKEST.next());
+        assertEquals(TargetingMode.FIRST, TargetingMode.CLOSEST.next());
+    }
+
+    @Test
+    public void testLosesTargetOutOfRange() {
+        defender.update(1.0f);
+        assertSame(enemy, defender.getEnemy());
+
+        enemy.position.set(1000, 1000);
+        defender.update(1.0f);
+
+        assertNull(defender.getEnemy());
     }
 
     @Test
@@ -70,11 +118,11 @@ public class BaseDefenderTest {
 
     @Test
     public void testUpdateWithNoEnemyTargeted() {
-        assertNull("Initial enemy should be null", defender.enemy);
+        assertNull("Initial enemy should be null", defender.getEnemy());
 
         defender.update(1.0f);
 
-        assertNotNull("Enemy should be targeted after update", defender.enemy);
+        assertNotNull("Enemy should be targeted after update", defender.getEnemy());
     }
 
     @Test
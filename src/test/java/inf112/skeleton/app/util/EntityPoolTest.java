@@ -0,0 +1,69 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.utils.Pool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityPoolTest {
+
+    private static class Item implements Pool.Poolable {
+        int resets;
+
+        @Override
+        public void reset() {
+            resets++;
+        }
+    }
+
+    @Test
+    void freedObjectsAreReused() {
+        EntityPool<Item> pool = new EntityPool<>(Item::new, 4, 10);
+
+        Item first = pool.obtain();
+        pool.free(first);
+        Item second = pool.obtain();
+
+        assertSame(first, second);
+        assertEquals(1, first.resets);
+        assertEquals(1, pool.getCreated());
+        assertEquals(2, pool.getObtained());
+        assertEquals(1, pool.getFreed());
+        assertEquals(1, pool.getInUse());
+    }
+
+    @Test
+    void keepsNoMoreThanCap() {
+        EntityPool<Item> pool = new EntityPool<>(Item::new, 4, 2);
+        Item[] items = new Item[5];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = pool.obtain();
+        }
+        for (Item item : items) {
+            pool.free(item);
+        }
+
+        assertEquals(2, pool.getFree());
+        assertEquals(3, pool.getDiscarded());
+        assertEquals(1, items[4].resets, "Discarded objects are reset too");
+
+        pool.setCap(1);
+        assertEquals(0, pool.getFree());
+        pool.free(pool.obtain());
+        pool.free(new Item());
+        assertEquals(1, pool.getFree());
+    }
+
+    @Test
+    void resetMetricsKeepsFreeObjects() {
+        EntityPool<Item> pool = new EntityPool<>(Item::new, 4, 10);
+        pool.free(pool.obtain());
+
+        pool.resetMetrics();
+
+        assertEquals(0, pool.getCreated());
+        assertEquals(0, pool.getObtained());
+        assertEquals(1, pool.getFree());
+        assertThrows(IllegalArgumentException.class, () -> pool.free(null));
+    }
+}
@@ -0,0 +1,88 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import inf112.skeleton.app.enums.SoundEffect;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+public class GameAssetsTest {
+
+    private static final GameAssets assets = GameAssets.getInstance();
+
+    @BeforeAll
+    public static void setupBeforeAll() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = Gdx.gl20;
+        when(Gdx.gl.glGenTexture()).thenReturn(1);
+        assets.init();
+    }
+
+    @Test
+    void scenesShareOneSkinAndTheGameAtlas() {
+        int skinReferences = assets.getReferenceCount(GameConstants.SKIN_UI);
+        int atlasReferences = assets.getReferenceCount(GameConstants.TEXTURE_ATLAS_UI);
+        long textureBytes = assets.getResidentTextureBytes();
+
+        Skin first = assets.acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
+        Skin second = assets.acquireSkin(GameConstants.SKIN_UI, GameConstants.TEXTURE_ATLAS_UI);
+
+        assertSame(first, second);
+        assertSame(assets.getAtlas(), assets.acquireAtlas(GameConstants.TEXTURE_ATLAS_UI));
+        assertSame(assets.getAtlas().getTextures().first(), first.getAtlas().getTextures().first());
+        assertEquals(skinReferences + 2, assets.getReferenceCount(GameConstants.SKIN_UI));
+        assertEquals(atlasReferences + 3, assets.getReferenceCount(GameConstants.TEXTURE_ATLAS_UI),
+                "Each skin reference also counts for the atlas it uses");
+        assertEquals(textureBytes, assets.getResidentTextureBytes(), "No texture should be loaded twice");
+
+        assets.releaseSkin(GameConstants.SKIN_UI);
+        assets.releaseSkin(GameConstants.SKIN_UI);
+        assets.releaseAtlas(GameConstants.TEXTURE_ATLAS_UI);
+        assertEquals(skinReferences, assets.getReferenceCount(GameConstants.SKIN_UI));
+        assertEquals(atlasReferences, assets.getReferenceCount(GameConstants.TEXTURE_ATLAS_UI));
+        assertTrue(assets.getReferenceCount(GameConstants.TEXTURE_ATLAS_UI) > 0, "The game keeps its atlas");
+    }
+
+    @Test
+    void initLoadsEverythingOnce() {
+        int skinReferences = assets.getReferenceCount(GameConstants.SKIN_UI);
+
+        assets.init();
+        assets.queueAll();
+
+        assertTrue(assets.isLoaded());
+        assertTrue(assets.update(0));
+        assertEquals(1, assets.getProgress());
+        assertEquals(skinReferences, assets.getReferenceCount(GameConstants.SKIN_UI));
+        for (SoundEffect effect : SoundEffect.values()) {
+            assertNotNull(assets.getSound(effect), effect + " should be loaded");
+        }
+        assertNotNull(assets.getMusic(GameConstants.MENU_MUSIC));
+        assertNotNull(assets.getMusic(GameConstants.GAME_MUSIC));
+        assertNull(assets.getMusic("missing.ogg"));
+    }
+
+    @Test
+    void skinIsUnloadedWhenLastSceneReleasesIt() {
+        long textureBytes = assets.getResidentTextureBytes();
+
+        assets.acquireSkin(GameConstants.PLACEHOLDER_UI, GameConstants.PLACEHOLDER_ATLAS);
+        assertEquals(1, assets.getReferenceCount(GameConstants.PLACEHOLDER_UI));
+        assertTrue(assets.getResidentTextureBytes() > textureBytes);
+
+        assets.releaseSkin(GameConstants.PLACEHOLDER_UI);
+        assertEquals(0, assets.getReferenceCount(GameConstants.PLACEHOLDER_UI));
+        assertEquals(0, assets.getReferenceCount(GameConstants.PLACEHOLDER_ATLAS));
+        assertEquals(textureBytes, assets.getResidentTextureBytes());
+    }
+}
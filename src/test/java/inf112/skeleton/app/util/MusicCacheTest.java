@@ -0,0 +1,109 @@
+package inf112.skeleton.app.util;
+
+import com.badlogic.gdx.audio.Music;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MusicCacheTest {
+
+    private final Map<String, Music> music = new HashMap<>();
+    private final Map<String, Integer> loads = new HashMap<>();
+    private MusicCache cache;
+
+    private Music track(String file) {
+        Music track = mock(Music.class);
+        boolean[] playing = new boolean[1];
+        doAnswer(invocation -> playing[0] = true).when(track).play();
+        doAnswer(invocation -> playing[0] = false).when(track).pause();
+        doAnswer(invocation -> playing[0] = false).when(track).stop();
+        when(track.isPlaying()).thenAnswer(invocation -> playing[0]);
+        music.put(file, track);
+        return track;
+    }
+
+    @BeforeEach
+    void setUp() {
+        track("a.ogg");
+        track("b.ogg");
+        track("c.ogg");
+        cache = new MusicCache(file -> {
+            loads.merge(file, 1, Integer::sum);
+            return music.get(file);
+        }, 2, 1);
+    }
+
+    @Test
+    void crossfadesAndPausesTheOldTrack() {
+        cache.play("a.ogg", true);
+        cache.update(1);
+        cache.play("b.ogg", true);
+
+        cache.update(0.5f);
+        verify(music.get("a.ogg")).setVolume(0.5f);
+        verify(music.get("b.ogg")).setVolume(0.5f);
+        verify(music.get("a.ogg"), never()).pause();
+
+        cache.update(0.5f);
+        verify(music.get("a.ogg")).pause();
+        assertTrue(music.get("b.ogg").isPlaying());
+        assertEquals("b.ogg", cache.getCurrentTrack());
+    }
+
+    @Test
+    void fadesEndAndPauseTheOldTrackWhenMusicIsSilent() {
+        cache.setVolume(0);
+        cache.play("a.ogg", true);
+        cache.play("b.ogg", true);
+
+        cache.update(1);
+        verify(music.get("a.ogg")).pause();
+    }
+
+    @Test
+    void changingVolumeDuringFadeKeepsFading() {
+        cache.play("a.ogg", true);
+        cache.update(0.5f);
+        cache.setVolume(1);
+        verify(music.get("a.ogg"), never()).setVolume(1);
+
+        cache.update(0.5f);
+        verify(music.get("a.ogg")).setVolume(1);
+
+        cache.setVolume(0.4f);
+        verify(music.get("a.ogg")).setVolume(0.4f);
+    }
+
+    @Test
+    void recentTracksAreResumedWithoutLoadingAgain() {
+        cache.play("a.ogg", true);
+        cache.play("b.ogg", true);
+        cache.update(1);
+        cache.play("a.ogg", true);
+        cache.update(1);
+
+        assertEquals(1, loads.get("a.ogg"));
+        verify(music.get("a.ogg"), never()).stop();
+        verify(music.get("a.ogg"), times(2)).play();
+    }
+
+    @Test
+    void leastRecentlyUsedTrackIsStopped() {
+        cache.play("a.ogg", true);
+        cache.play("b.ogg", true);
+        cache.play("c.ogg", true);
+
+        assertFalse(cache.contains("a.ogg"));
+        assertTrue(cache.contains("b.ogg"));
+        assertTrue(cache.contains("c.ogg"));
+        verify(music.get("a.ogg")).stop();
+
+        assertFalse(cache.play("missing.ogg", true));
+        assertEquals("c.ogg", cache.getCurrentTrack());
+    }
+}
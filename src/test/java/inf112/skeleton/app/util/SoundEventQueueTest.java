@@ -0,0 +1,86 @@
+package inf112.skeleton.app.util;
+
+import inf112.skeleton.app.enums.SoundEffect;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoundEventQueueTest {
+
+    private final List<SoundEffect> effects = new ArrayList<>();
+    private final List<Float> volumes = new ArrayList<>();
+    private final SoundEventQueue queue = new SoundEventQueue(new SoundPlayer() {
+        @Override
+        public void play(SoundEffect effect) {
+            play(effect, 1);
+        }
+
+        @Override
+        public void play(SoundEffect effect, float volumeScale) {
+            effects.add(effect);
+            volumes.add(volumeScale);
+        }
+    });
+
+    @Test
+    void nothingIsPlayedBeforeDrain() {
+        queue.play(SoundEffect.GUNNER_SHOT);
+        assertTrue(effects.isEmpty());
+
+        queue.drain(1);
+        assertEquals(List.of(SoundEffect.GUNNER_SHOT), effects);
+        assertEquals(1, queue.getPlayed());
+    }
+
+    @Test
+    void deathsInOneFrameAreMergedIntoOneLouderPlay() {
+        for (int i = 0; i < 6; i++) {
+            queue.play(SoundEffect.ZOMBIE_DEATH);
+        }
+        queue.drain(1);
+
+        assertEquals(List.of(SoundEffect.ZOMBIE_DEATH), effects);
+        assertTrue(volumes.get(0) > 1);
+        assertEquals(5, queue.getMerged());
+        assertEquals(0, queue.getDropped());
+    }
+
+    @Test
+    void shotsFasterThanMinIntervalAreDropped() {
+        queue.drain(1);
+        queue.play(SoundEffect.SNIPER_SHOT);
+        queue.play(SoundEffect.SNIPER_SHOT);
+        queue.drain(1f / 60);
+        queue.play(SoundEffect.SNIPER_SHOT);
+        queue.drain(1f / 60);
+
+        assertEquals(1, effects.size());
+        assertEquals(2, queue.getDropped());
+
+        queue.play(SoundEffect.SNIPER_SHOT);
+        queue.drain(SoundEffect.SNIPER_SHOT.getMinInterval());
+        assertEquals(2, effects.size());
+    }
+
+    @Test
+    void noMoreVoicesThanCap() {
+        SoundEffect effect = SoundEffect.BOMB_EXPLODE;
+        queue.drain(1);
+        int frames = (int) (effect.getVoiceLength() / effect.getMinInterval());
+        for (int i = 0; i < frames; i++) {
+            queue.play(effect);
+            queue.drain(effect.getMinInterval());
+        }
+
+        assertEquals(effect.getMaxVoices(), queue.getPlayed());
+        assertEquals(frames - effect.getMaxVoices(), queue.getDropped());
+
+        queue.resetCounters();
+        assertEquals(0, queue.getPlayed());
+        assertEquals(0, queue.getDropped());
+        assertEquals(0, queue.getMerged());
+    }
+}